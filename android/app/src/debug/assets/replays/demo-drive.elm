@@ -0,0 +1,5284 @@
+# MAXDrive demo drive: ELM327 transcript (ATE0 ATS0 ATH0, CAN 11/500)
+# '@<ms>' lines pace the replay; everything else is raw adapter output.
+# Profile: city driving, a stop, highway cruise, exit ramp, stop.
+@0
+>010D0C1104
+00A
+0:410D020C0E10
+1:11FF04F9
+
+@100
+>010D0C
+410D040C0E10
+
+@200
+>010D0C
+410D070C0E10
+
+@300
+>0105
+41053E
+
+@400
+>010D0C
+410D090C0E10
+
+@500
+>010D0C1104
+00A
+0:410D0B0C0E54
+1:11FF04F9
+
+@600
+>010D0C
+410D0C0C0F90
+
+@700
+>010D0C
+410D0D0C10BC
+
+@800
+>010D0C
+410D0F0C0E10
+
+@900
+>010D0C
+410D110C0E10
+
+@1000
+>010D0C1104
+00A
+0:410D130C0F0C
+1:11E704E3
+
+@1100
+>010D0C
+410D140C0FA4
+
+@1200
+>010D0C
+410D150C1040
+
+@1300
+>010D0C
+410D160C10E4
+
+@1400
+>010D0C
+410D170C1190
+
+@1500
+>010D0C1104
+00A
+0:410D170C1180
+1:11C404C4
+
+@1600
+>010D0C
+410D180C1244
+
+@1700
+>010D0C
+410D1A0C13E4
+
+@1800
+>010D0C
+410D1B0C14C4
+
+@1900
+>010D0C
+410D1C0C15B4
+
+@2000
+>010D0C1104
+00A
+0:410D1E0C108C
+1:11A704AA
+
+@2100
+>010D0C
+410D1E0C10BC
+
+@2200
+>010D0C
+410D1F0C117C
+
+@2300
+>0105
+41053E
+
+@2400
+>010D0C
+410D1F0C11C8
+
+@2500
+>010D0C1104
+00A
+0:410D200C126C
+1:118F0494
+
+@2600
+>010D0C
+410D210C1308
+
+@2700
+>010D0C
+410D220C1390
+
+@2800
+>010D0C
+410D230C140C
+
+@2900
+>010D0C
+410D240C147C
+
+@3000
+>010D0C1104
+00A
+0:410D250C14E4
+1:117C0483
+
+@3100
+>010D0C
+410D250C14B4
+
+@3200
+>010D0C
+410D250C1484
+
+@3300
+>010D0C
+410D250C1458
+
+@3400
+>010D0C
+410D250C1430
+
+@3500
+>010D0C1104
+00A
+0:410D260C14A4
+1:116D0476
+
+@3600
+>010D0C
+410D270C1524
+
+@3700
+>010D0C
+410D280C15B0
+
+@3800
+>010D0C
+410D290C1648
+
+@3900
+>010D0C
+410D290C1664
+
+@4000
+>010D0C1104
+00A
+0:410D290C1688
+1:1160046A
+
+@4100
+>010D0C
+410D290C16B4
+
+@4200
+>010D0C
+410D290C16E4
+
+@4300
+>0105
+41053E
+
+@4400
+>010D0C
+410D2A0C17CC
+
+@4500
+>010D0C1104
+00A
+0:410D2A0C17EC
+1:11550460
+
+@4600
+>010D0C
+410D2B0C1890
+
+@4700
+>010D0C
+410D2C0C1928
+
+@4800
+>010D0C
+410D2C0C1924
+
+@4900
+>010D0C
+410D2C0C1910
+
+@5000
+>010D0C1104
+00A
+0:410D2B0C1864
+1:114D0459
+
+@5100
+>010D0C
+410D2B0C1838
+
+@5200
+>010D0C
+410D2B0C180C
+
+@5300
+>010D0C
+410D2C0C186C
+
+@5400
+>010D0C
+410D2D0C18CC
+
+@5500
+>010D0C1104
+00A
+0:410D2D0C18A8
+1:11460453
+
+@5600
+>010D0C
+410D2E0C1918
+
+@5700
+>010D0C
+410D2E0C1908
+
+@5800
+>010D0C
+410D2E0C1908
+
+@5900
+>010D0C
+410D2D0C1884
+
+@6000
+>010D0C1104
+00A
+0:410D2D0C18A0
+1:1140044D
+
+@6100
+>010D0C
+410D2D0C18C4
+
+@6200
+>010D0C
+410D2E0C1980
+
+@6300
+>0105
+410540
+
+@6400
+>010D0C
+410D2F0C1A6C
+
+@6500
+>010D0C1104
+00A
+0:410D2F0C1A98
+1:113C044A
+
+@6600
+>010D0C
+410D2F0C1AB8
+
+@6700
+>010D0C
+410D2F0C1ACC
+
+@6800
+>010D0C
+410D2F0C1AD4
+
+@6900
+>010D0C
+410D2E0C1A40
+
+@7000
+>010D0C1104
+00A
+0:410D2E0C1A2C
+1:11380446
+
+@7100
+>010D0C
+410D2F0C1A9C
+
+@7200
+>010D0C
+410D300C1B00
+
+@7300
+>010D0C
+410D300C1AD4
+
+@7400
+>010D0C
+410D300C1AA4
+
+@7500
+>010D0C1104
+00A
+0:410D300C1A78
+1:11350443
+
+@7600
+>010D0C
+410D300C1A50
+
+@7700
+>010D0C
+410D300C1A34
+
+@7800
+>010D0C
+410D2F0C1998
+
+@7900
+>010D0C
+410D2F0C1998
+
+@8000
+>010D0C1104
+00A
+0:410D300C1A34
+1:11320441
+
+@8100
+>010D0C
+410D300C1A50
+
+@8200
+>010D0C
+410D310C1B00
+
+@8300
+>0105
+410540
+
+@8400
+>010D0C
+410D310C1B5C
+
+@8500
+>010D0C1104
+00A
+0:410D310C1B8C
+1:1130043F
+
+@8600
+>010D0C
+410D300C1B28
+
+@8700
+>010D0C
+410D300C1B48
+
+@8800
+>010D0C
+410D300C1B5C
+
+@8900
+>010D0C
+410D300C1B64
+
+@9000
+>010D0C1104
+00A
+0:410D310C1BEC
+1:112F043E
+
+@9100
+>010D0C
+410D310C1BD8
+
+@9200
+>010D0C
+410D320C15B4
+
+@9300
+>010D0C
+410D320C158C
+
+@9400
+>010D0C
+410D310C1B60
+
+@9500
+>010D0C1104
+00A
+0:410D310C1B30
+1:112D043C
+
+@9600
+>010D0C
+410D300C1A74
+
+@9700
+>010D0C
+410D300C1A50
+
+@9800
+>010D0C
+410D310C1AC4
+
+@9900
+>010D0C
+410D310C1AB4
+
+@10000
+>010D0C1104
+00A
+0:410D320C14B4
+1:112C043B
+
+@10100
+>010D0C
+410D320C14C4
+
+@10200
+>010D0C
+410D320C14DC
+
+@10300
+>0105
+410542
+
+@10400
+>010D0C
+410D310C1B30
+
+@10500
+>010D0C1104
+00A
+0:410D310C1B60
+1:112B043A
+
+@10600
+>010D0C
+410D310C1B90
+
+@10700
+>010D0C
+410D310C1BB8
+
+@10800
+>010D0C
+410D320C15D8
+
+@10900
+>010D0C
+410D320C15EC
+
+@11000
+>010D0C1104
+00A
+0:410D320C15F0
+1:112B043A
+
+@11100
+>010D0C
+410D320C15EC
+
+@11200
+>010D0C
+410D320C15D4
+
+@11300
+>010D0C
+410D310C1BB4
+
+@11400
+>010D0C
+410D310C1B8C
+
+@11500
+>010D0C1104
+00A
+0:410D310C1B5C
+1:112A0439
+
+@11600
+>010D0C
+410D310C1B2C
+
+@11700
+>010D0C
+410D320C1500
+
+@11800
+>010D0C
+410D320C14DC
+
+@11900
+>010D0C
+410D320C14C0
+
+@12000
+>010D0C1104
+00A
+0:410D320C14B4
+1:112A0439
+
+@12100
+>010D0C
+410D320C14B4
+
+@12200
+>010D0C
+410D310C1AC4
+
+@12300
+>0105
+410542
+
+@12400
+>010D0C
+410D310C1B08
+
+@12500
+>010D0C1104
+00A
+0:410D310C1B34
+1:11290438
+
+@12600
+>010D0C
+410D320C1564
+
+@12700
+>010D0C
+410D320C1590
+
+@12800
+>010D0C
+410D330C1628
+
+@12900
+>010D0C
+410D320C15D8
+
+@13000
+>010D0C1104
+00A
+0:410D320C15EC
+1:11290438
+
+@13100
+>010D0C
+410D310C1BF4
+
+@13200
+>010D0C
+410D310C1BEC
+
+@13300
+>010D0C
+410D310C1BD4
+
+@13400
+>010D0C
+410D310C1BB4
+
+@13500
+>010D0C1104
+00A
+0:410D320C1588
+1:11290438
+
+@13600
+>010D0C
+410D320C1558
+
+@13700
+>010D0C
+410D330C1598
+
+@13800
+>010D0C
+410D320C14FC
+
+@13900
+>010D0C
+410D320C14D8
+
+@14000
+>010D0C1104
+00A
+0:410D310C1AC0
+1:11280438
+
+@14100
+>010D0C
+410D310C1AB4
+
+@14200
+>010D0C
+410D310C1AB8
+
+@14300
+>0105
+410542
+
+@14400
+>010D0C
+410D320C14E0
+
+@14500
+>010D0C1104
+00A
+0:410D330C1574
+1:11280438
+
+@14600
+>010D0C
+410D330C15A4
+
+@14700
+>010D0C
+410D320C1564
+
+@14800
+>010D0C
+410D320C1594
+
+@14900
+>010D0C
+410D310C1BBC
+
+@15000
+>010D0C1104
+00A
+0:410D310C1BDC
+1:11280438
+
+@15100
+>010D0C
+410D310C1BF0
+
+@15200
+>010D0C
+410D320C15F0
+
+@15300
+>010D0C
+410D320C15E8
+
+@15400
+>010D0C
+410D330C1640
+
+@15500
+>010D0C1104
+00A
+0:410D330C161C
+1:11280438
+
+@15600
+>010D0C
+410D320C1584
+
+@15700
+>010D0C
+410D320C1554
+
+@15800
+>010D0C
+410D310C1B28
+
+@15900
+>010D0C
+410D310C1AFC
+
+@16000
+>010D0C1104
+00A
+0:410D310C1AD8
+1:11280438
+
+@16100
+>010D0C
+410D320C14C0
+
+@16200
+>010D0C
+410D320C14B4
+
+@16300
+>0105
+410544
+
+@16400
+>010D0C
+410D330C1534
+
+@16500
+>010D0C1104
+00A
+0:410D320C14E4
+1:11280438
+
+@16600
+>010D0C
+410D320C150C
+
+@16700
+>010D0C
+410D310C1B38
+
+@16800
+>010D0C
+410D310C1B68
+
+@16900
+>010D0C
+410D310C1B98
+
+@17000
+>010D0C1104
+00A
+0:410D320C15BC
+1:11280438
+
+@17100
+>010D0C
+410D320C15DC
+
+@17200
+>010D0C
+410D330C165C
+
+@17300
+>010D0C
+410D330C1660
+
+@17400
+>010D0C
+410D320C15E8
+
+@17500
+>010D0C1104
+00A
+0:410D320C15D0
+1:11280438
+
+@17600
+>010D0C
+410D310C1BB0
+
+@17700
+>010D0C
+410D310C1B84
+
+@17800
+>010D0C
+410D310C1B54
+
+@17900
+>010D0C
+410D320C1524
+
+@18000
+>010D0C1104
+00A
+0:410D320C14F8
+1:11280438
+
+@18100
+>010D0C
+410D330C1544
+
+@18200
+>010D0C
+410D330C152C
+
+@18300
+>0105
+410544
+
+@18400
+>010D0C
+410D320C14B4
+
+@18500
+>010D0C1104
+00A
+0:410D310C1AC8
+1:11280438
+
+@18600
+>010D0C
+410D310C1AE8
+
+@18700
+>010D0C
+410D310C1B0C
+
+@18800
+>010D0C
+410D320C153C
+
+@18900
+>010D0C
+410D320C156C
+
+@19000
+>010D0C1104
+00A
+0:410D330C1604
+1:11280438
+
+@19100
+>010D0C
+410D330C162C
+
+@19200
+>010D0C
+410D320C15DC
+
+@19300
+>010D0C
+410D320C15F0
+
+@19400
+>010D0C
+410D310C1BF4
+
+@19500
+>010D0C1104
+00A
+0:410D310C1BE8
+1:11280438
+
+@19600
+>010D0C
+410D310C1BD0
+
+@19700
+>010D0C
+410D320C15AC
+
+@19800
+>010D0C
+410D320C1580
+
+@19900
+>010D0C
+410D330C15BC
+
+@20000
+>010D0C1104
+00A
+0:410D330C1590
+1:11280438
+
+@20100
+>010D0C
+410D320C14F8
+
+@20200
+>010D0C
+410D320C14D4
+
+@20300
+>0105
+410546
+
+@20400
+>010D0C
+410D310C1AB4
+
+@20500
+>010D0C1104
+00A
+0:410D310C1AB8
+1:11280438
+
+@20600
+>010D0C
+410D320C14C8
+
+@20700
+>010D0C
+410D320C14E8
+
+@20800
+>010D0C
+410D330C157C
+
+@20900
+>010D0C
+410D330C15AC
+
+@21000
+>010D0C1104
+00A
+0:410D320C156C
+1:11280438
+
+@21100
+>010D0C
+410D320C159C
+
+@21200
+>010D0C
+410D310C1BC4
+
+@21300
+>010D0C
+410D310C1BE0
+
+@21400
+>010D0C
+410D310C1BF0
+
+@21500
+>010D0C1104
+00A
+0:410D320C15F0
+1:11280438
+
+@21600
+>010D0C
+410D320C15E4
+
+@21700
+>010D0C
+410D330C1638
+
+@21800
+>010D0C
+410D330C1618
+
+@21900
+>010D0C
+410D320C157C
+
+@22000
+>010D0C1104
+00A
+0:410D320C154C
+1:11280438
+
+@22100
+>010D0C
+410D310C1B20
+
+@22200
+>010D0C
+410D310C1AF4
+
+@22300
+>0105
+410546
+
+@22400
+>010D0C
+410D320C14BC
+
+@22500
+>010D0C1104
+00A
+0:410D320C14B4
+1:11280438
+
+@22600
+>010D0C
+410D330C1524
+
+@22700
+>010D0C
+410D330C1538
+
+@22800
+>010D0C
+410D320C14E8
+
+@22900
+>010D0C
+410D320C1510
+
+@23000
+>010D0C1104
+00A
+0:410D310C1B40
+1:11280438
+
+@23100
+>010D0C
+410D310C1B70
+
+@23200
+>010D0C
+410D310C1B9C
+
+@23300
+>010D0C
+410D320C15C4
+
+@23400
+>010D0C
+410D320C15E0
+
+@23500
+>010D0C1104
+00A
+0:410D330C165C
+1:11280438
+
+@23600
+>010D0C
+410D330C1660
+
+@23700
+>010D0C
+410D320C15E4
+
+@23800
+>010D0C
+410D320C15CC
+
+@23900
+>010D0C
+410D310C1BA8
+
+@24000
+>010D0C1104
+00A
+0:410D310C1B7C
+1:11280438
+
+@24100
+>010D0C
+410D310C1B4C
+
+@24200
+>010D0C
+410D320C151C
+
+@24300
+>0105
+410546
+
+@24400
+>010D0C
+410D330C153C
+
+@24500
+>010D0C1104
+00A
+0:410D330C1528
+1:11280438
+
+@24600
+>010D0C
+410D320C14B4
+
+@24700
+>010D0C
+410D320C14B8
+
+@24800
+>010D0C
+410D310C1ACC
+
+@24900
+>010D0C
+410D310C1AEC
+
+@25000
+>010D0C1104
+00A
+0:410D310C1B14
+1:11280438
+
+@25100
+>010D0C
+410D320C1544
+
+@25200
+>010D0C
+410D320C1574
+
+@25300
+>010D0C
+410D330C160C
+
+@25400
+>010D0C
+410D330C1634
+
+@25500
+>010D0C1104
+00A
+0:410D320C15E0
+1:11280438
+
+@25600
+>010D0C
+410D320C15F0
+
+@25700
+>010D0C
+410D310C1BF0
+
+@25800
+>010D0C
+410D310C1BE4
+
+@25900
+>010D0C
+410D310C1BCC
+
+@26000
+>010D0C1104
+00A
+0:410D320C15A4
+1:11280438
+
+@26100
+>010D0C
+410D320C1578
+
+@26200
+>010D0C
+410D330C15B4
+
+@26300
+>0105
+410548
+
+@26400
+>010D0C
+410D320C14F0
+
+@26500
+>010D0C1104
+00A
+0:410D320C14D0
+1:11280438
+
+@26600
+>010D0C
+410D310C1ABC
+
+@26700
+>010D0C
+410D310C1AB4
+
+@26800
+>010D0C
+410D310C1AB8
+
+@26900
+>010D0C
+410D320C14CC
+
+@27000
+>010D0C1104
+00A
+0:410D320C14EC
+1:11280438
+
+@27100
+>010D0C
+410D330C1584
+
+@27200
+>010D0C
+410D330C15B4
+
+@27300
+>010D0C
+410D320C1574
+
+@27400
+>010D0C
+410D320C15A0
+
+@27500
+>010D0C1104
+00A
+0:410D310C1BC8
+1:11280438
+
+@27600
+>010D0C
+410D310C1BE4
+
+@27700
+>010D0C
+410D310C1BF0
+
+@27800
+>010D0C
+410D320C15F0
+
+@27900
+>010D0C
+410D320C15E4
+
+@28000
+>010D0C1104
+00A
+0:410D330C1634
+1:11280438
+
+@28100
+>010D0C
+410D330C1610
+
+@28200
+>010D0C
+410D320C1574
+
+@28300
+>0105
+410548
+
+@28400
+>010D0C
+410D310C1B18
+
+@28500
+>010D0C1104
+00A
+0:410D310C1AF0
+1:11280438
+
+@28600
+>010D0C
+410D310C1AD0
+
+@28700
+>010D0C
+410D320C14B8
+
+@28800
+>010D0C
+410D320C14B4
+
+@28900
+>010D0C
+410D330C1528
+
+@29000
+>010D0C1104
+00A
+0:410D330C153C
+1:11280438
+
+@29100
+>010D0C
+410D320C14F0
+
+@29200
+>010D0C
+410D320C1518
+
+@29300
+>010D0C
+410D310C1B48
+
+@29400
+>010D0C
+410D310C1B78
+
+@29500
+>010D0C1104
+00A
+0:410D310C1BA4
+1:11280438
+
+@29600
+>010D0C
+410D320C15C8
+
+@29700
+>010D0C
+410D320C15E4
+
+@29800
+>010D0C
+410D330C165C
+
+@29900
+>010D0C
+410D330C165C
+
+@30000
+>010D0C1104
+00A
+0:410D320C15E0
+1:11280438
+
+@30100
+>010D0C
+410D300C1B38
+
+@30200
+>010D0C
+410D2D0C1964
+
+@30300
+>0105
+41054A
+
+@30400
+>010D0C
+410D2A0C175C
+
+@30500
+>010D0C1104
+00A
+0:410D290C16A0
+1:111E042F
+
+@30600
+>010D0C
+410D280C15E8
+
+@30700
+>010D0C
+410D260C14AC
+
+@30800
+>010D0C
+410D250C1408
+
+@30900
+>010D0C
+410D230C12E4
+
+@31000
+>010D0C1104
+00A
+0:410D210C11D0
+1:111E042F
+
+@31100
+>010D0C
+410D1F0C10C8
+
+@31200
+>010D0C
+410D1E0C1058
+
+@31300
+>010D0C
+410D1D0C169C
+
+@31400
+>010D0C
+410D1C0C1604
+
+@31500
+>010D0C1104
+00A
+0:410D1C0C1634
+1:111E042F
+
+@31600
+>010D0C
+410D1B0C1594
+
+@31700
+>010D0C
+410D1A0C14F0
+
+@31800
+>010D0C
+410D180C1378
+
+@31900
+>010D0C
+410D170C12B8
+
+@32000
+>010D0C1104
+00A
+0:410D150C1124
+1:111E042F
+
+@32100
+>010D0C
+410D140C104C
+
+@32200
+>010D0C
+410D140C1030
+
+@32300
+>0105
+41054A
+
+@32400
+>010D0C
+410D130C0F14
+
+@32500
+>010D0C1104
+00A
+0:410D130C0EE4
+1:111E042F
+
+@32600
+>010D0C
+410D120C0E10
+
+@32700
+>010D0C
+410D110C0E10
+
+@32800
+>010D0C
+410D100C0E10
+
+@32900
+>010D0C
+410D0F0C0E10
+
+@33000
+>010D0C1104
+00A
+0:410D0E0C10D4
+1:111E042F
+
+@33100
+>010D0C
+410D0E0C10DC
+
+@33200
+>010D0C
+410D0D0C0FB4
+
+@33300
+>010D0C
+410D0D0C0FD4
+
+@33400
+>010D0C
+410D0D0C1000
+
+@33500
+>010D0C1104
+00A
+0:410D0D0C1030
+1:111E042F
+
+@33600
+>010D0C
+410D0C0C0F20
+
+@33700
+>010D0C
+410D0B0C0E10
+
+@33800
+>010D0C
+410D0A0C0E10
+
+@33900
+>010D0C
+410D090C0E10
+
+@34000
+>010D0C1104
+00A
+0:410D090C0E10
+1:111E042F
+
+@34100
+>010D0C
+410D090C0E10
+
+@34200
+>010D0C
+410D090C0E10
+
+@34300
+>0105
+41054A
+
+@34400
+>010D0C
+410D090C0E10
+
+@34500
+>010D0C1104
+00A
+0:410D080C0E10
+1:111E042F
+
+@34600
+>010D0C
+410D070C0E10
+
+@34700
+>010D0C
+410D070C0E10
+
+@34800
+>010D0C
+410D060C0E10
+
+@34900
+>010D0C
+410D060C0E10
+
+@35000
+>010D0C1104
+00A
+0:410D0B0C0E10
+1:11FF04F9
+
+@35100
+>010D0C
+410D0F0C0E10
+
+@35200
+>010D0C
+410D130C0E60
+
+@35300
+>010D0C
+410D170C119C
+
+@35400
+>010D0C
+410D1A0C141C
+
+@35500
+>010D0C1104
+00A
+0:410D1D0C16A4
+1:11FF04F9
+
+@35600
+>010D0C
+410D200C11D4
+
+@35700
+>010D0C
+410D230C13B0
+
+@35800
+>010D0C
+410D260C1588
+
+@35900
+>010D0C
+410D290C1758
+
+@36000
+>010D0C1104
+00A
+0:410D2D0C19AC
+1:11FF04F9
+
+@36100
+>010D0C
+410D300C1B64
+
+@36200
+>010D0C
+410D320C15F0
+
+@36300
+>0105
+41054C
+
+@36400
+>010D0C
+410D360C1774
+
+@36500
+>010D0C1104
+00A
+0:410D380C1828
+1:11FF04F9
+
+@36600
+>010D0C
+410D3A0C18D4
+
+@36700
+>010D0C
+410D3C0C1980
+
+@36800
+>010D0C
+410D3E0C1A2C
+
+@36900
+>010D0C
+410D410C1B4C
+
+@37000
+>010D0C1104
+00A
+0:410D430C1C08
+1:11FF04F9
+
+@37100
+>010D0C
+410D450C1CD0
+
+@37200
+>010D0C
+410D460C1658
+
+@37300
+>010D0C
+410D470C16B4
+
+@37400
+>010D0C
+410D480C1720
+
+@37500
+>010D0C1104
+00A
+0:410D490C1798
+1:11FE04F8
+
+@37600
+>010D0C
+410D4B0C186C
+
+@37700
+>010D0C
+410D4D0C1944
+
+@37800
+>010D0C
+410D4F0C1A18
+
+@37900
+>010D0C
+410D500C1A98
+
+@38000
+>010D0C1104
+00A
+0:410D520C1B64
+1:11D604D4
+
+@38100
+>010D0C
+410D520C1B7C
+
+@38200
+>010D0C
+410D530C1BD8
+
+@38300
+>0105
+41054C
+
+@38400
+>010D0C
+410D540C1C18
+
+@38500
+>010D0C1104
+00A
+0:410D560C1CA0
+1:11B604B7
+
+@38600
+>010D0C
+410D570C1CCC
+
+@38700
+>010D0C
+410D590C1D48
+
+@38800
+>010D0C
+410D5A0C1D6C
+
+@38900
+>010D0C
+410D5B0C1D94
+
+@39000
+>010D0C1104
+00A
+0:410D5B0C1D6C
+1:119C04A0
+
+@39100
+>010D0C
+410D5B0C1D50
+
+@39200
+>010D0C
+410D5B0C1D3C
+
+@39300
+>010D0C
+410D5C0C1D90
+
+@39400
+>010D0C
+410D5D0C1DF0
+
+@39500
+>010D0C1104
+00A
+0:410D5E0C1E5C
+1:1186048C
+
+@39600
+>010D0C
+410D5F0C1898
+
+@39700
+>010D0C
+410D600C1904
+
+@39800
+>010D0C
+410D610C1978
+
+@39900
+>010D0C
+410D610C19A8
+
+@40000
+>010D0C1104
+00A
+0:410D610C19D0
+1:1175047D
+
+@40100
+>010D0C
+410D610C19F4
+
+@40200
+>010D0C
+410D610C1A0C
+
+@40300
+>0105
+41054E
+
+@40400
+>010D0C
+410D630C1A94
+
+@40500
+>010D0C1104
+00A
+0:410D640C1AC8
+1:1166046F
+
+@40600
+>010D0C
+410D650C1AEC
+
+@40700
+>010D0C
+410D650C1AC4
+
+@40800
+>010D0C
+410D650C1A94
+
+@40900
+>010D0C
+410D650C1A64
+
+@41000
+>010D0C1104
+00A
+0:410D650C1A38
+1:115B0465
+
+@41100
+>010D0C
+410D650C1A10
+
+@41200
+>010D0C
+410D660C1A38
+
+@41300
+>010D0C
+410D660C1A28
+
+@41400
+>010D0C
+410D670C1A68
+
+@41500
+>010D0C1104
+00A
+0:410D680C1AB8
+1:1151045C
+
+@41600
+>010D0C
+410D680C1AD0
+
+@41700
+>010D0C
+410D680C1AF4
+
+@41800
+>010D0C
+410D670C1ADC
+
+@41900
+>010D0C
+410D670C1B0C
+
+@42000
+>010D0C1104
+00A
+0:410D680C1B80
+1:114A0456
+
+@42100
+>010D0C
+410D680C1BA8
+
+@42200
+>010D0C
+410D690C1C10
+
+@42300
+>0105
+41054E
+
+@42400
+>010D0C
+410D6A0C1C70
+
+@42500
+>010D0C1104
+00A
+0:410D6A0C1C6C
+1:11430450
+
+@42600
+>010D0C
+410D6A0C1C58
+
+@42700
+>010D0C
+410D690C1BF4
+
+@42800
+>010D0C
+410D690C1BCC
+
+@42900
+>010D0C
+410D690C1BA0
+
+@43000
+>010D0C1104
+00A
+0:410D6A0C1BB4
+1:113E044B
+
+@43100
+>010D0C
+410D6A0C1B84
+
+@43200
+>010D0C
+410D6B0C1BA4
+
+@43300
+>010D0C
+410D6B0C1B88
+
+@43400
+>010D0C
+410D6B0C1B78
+
+@43500
+>010D0C1104
+00A
+0:410D6B0C1B74
+1:113A0448
+
+@43600
+>010D0C
+410D6B0C1B84
+
+@43700
+>010D0C
+410D6A0C1B58
+
+@43800
+>010D0C
+410D6B0C1BC0
+
+@43900
+>010D0C
+410D6B0C1BEC
+
+@44000
+>010D0C1104
+00A
+0:410D6C0C1C60
+1:11370445
+
+@44100
+>010D0C
+410D6C0C1C90
+
+@44200
+>010D0C
+410D6C0C1CB8
+
+@44300
+>0105
+41054E
+
+@44400
+>010D0C
+410D6C0C1CF0
+
+@44500
+>010D0C1104
+00A
+0:410D6C0C1CF8
+1:11340442
+
+@44600
+>010D0C
+410D6B0C1CB0
+
+@44700
+>010D0C
+410D6B0C1C9C
+
+@44800
+>010D0C
+410D6C0C1CBC
+
+@44900
+>010D0C
+410D6C0C1C94
+
+@45000
+>010D0C1104
+00A
+0:410D6D0C1CA8
+1:11320441
+
+@45100
+>010D0C
+410D6D0C1C78
+
+@45200
+>010D0C
+410D6D0C1C4C
+
+@45300
+>010D0C
+410D6D0C1C28
+
+@45400
+>010D0C
+410D6C0C1BC8
+
+@45500
+>010D0C1104
+00A
+0:410D6C0C1BB8
+1:1130043F
+
+@45600
+>010D0C
+410D6C0C1BB8
+
+@45700
+>010D0C
+410D6C0C1BC8
+
+@45800
+>010D0C
+410D6D0C1C24
+
+@45900
+>010D0C
+410D6D0C1C48
+
+@46000
+>010D0C1104
+00A
+0:410D6E0C1CB8
+1:112E043D
+
+@46100
+>010D0C
+410D6E0C1CE8
+
+@46200
+>010D0C
+410D6D0C1CD4
+
+@46300
+>0105
+410550
+
+@46400
+>010D0C
+410D6C0C1CDC
+
+@46500
+>010D0C1104
+00A
+0:410D6C0C1CF0
+1:112D043C
+
+@46600
+>010D0C
+410D6D0C1D3C
+
+@46700
+>010D0C
+410D6D0C1D34
+
+@46800
+>010D0C
+410D6E0C1D64
+
+@46900
+>010D0C
+410D6E0C1D40
+
+@47000
+>010D0C1104
+00A
+0:410D6E0C1D18
+1:112C043B
+
+@47100
+>010D0C
+410D6D0C1CA8
+
+@47200
+>010D0C
+410D6D0C1C78
+
+@47300
+>010D0C
+410D6D0C1C4C
+
+@47400
+>010D0C
+410D6D0C1C24
+
+@47500
+>010D0C1104
+00A
+0:410D6D0C1C0C
+1:112B043A
+
+@47600
+>010D0C
+410D6E0C1C40
+
+@47700
+>010D0C
+410D6E0C1C40
+
+@47800
+>010D0C
+410D6E0C1C50
+
+@47900
+>010D0C
+410D6E0C1C68
+
+@48000
+>010D0C1104
+00A
+0:410D6E0C1C90
+1:112A0439
+
+@48100
+>010D0C
+410D6D0C1C78
+
+@48200
+>010D0C
+410D6D0C1CA8
+
+@48300
+>0105
+410550
+
+@48400
+>010D0C
+410D6D0C1D00
+
+@48500
+>010D0C1104
+00A
+0:410D6E0C1D64
+1:112A0439
+
+@48600
+>010D0C
+410D6E0C1D78
+
+@48700
+>010D0C
+410D6E0C1D7C
+
+@48800
+>010D0C
+410D6E0C1D78
+
+@48900
+>010D0C
+410D6E0C1D60
+
+@49000
+>010D0C1104
+00A
+0:410D6D0C1CFC
+1:11290438
+
+@49100
+>010D0C
+410D6D0C1CD4
+
+@49200
+>010D0C
+410D6D0C1CA4
+
+@49300
+>010D0C
+410D6D0C1C74
+
+@49400
+>010D0C
+410D6E0C1C8C
+
+@49500
+>010D0C1104
+00A
+0:410D6E0C1C68
+1:11290438
+
+@49600
+>010D0C
+410D6F0C1C90
+
+@49700
+>010D0C
+410D6E0C1C40
+
+@49800
+>010D0C
+410D6E0C1C40
+
+@49900
+>010D0C
+410D6D0C1C0C
+
+@50000
+>010D0C1104
+00A
+0:410D6D0C1C28
+1:11290438
+
+@50100
+>010D0C
+410D6D0C1C50
+
+@50200
+>010D0C
+410D6D0C1C7C
+
+@50300
+>0105
+410552
+
+@50400
+>010D0C
+410D6E0C1D1C
+
+@50500
+>010D0C1104
+00A
+0:410D6F0C1D88
+1:11290438
+
+@50600
+>010D0C
+410D6E0C1D64
+
+@50700
+>010D0C
+410D6E0C1D78
+
+@50800
+>010D0C
+410D6D0C1D3C
+
+@50900
+>010D0C
+410D6D0C1D34
+
+@51000
+>010D0C1104
+00A
+0:410D6D0C1D1C
+1:11280438
+
+@51100
+>010D0C
+410D6E0C1D3C
+
+@51200
+>010D0C
+410D6E0C1D14
+
+@51300
+>010D0C
+410D6F0C1D28
+
+@51400
+>010D0C
+410D6F0C1CF8
+
+@51500
+>010D0C1104
+00A
+0:410D6E0C1C88
+1:11280438
+
+@51600
+>010D0C
+410D6E0C1C64
+
+@51700
+>010D0C
+410D6D0C1C08
+
+@51800
+>010D0C
+410D6D0C1BFC
+
+@51900
+>010D0C
+410D6D0C1BFC
+
+@52000
+>010D0C1104
+00A
+0:410D6E0C1C50
+1:11280438
+
+@52100
+>010D0C
+410D6E0C1C6C
+
+@52200
+>010D0C
+410D6F0C1CD8
+
+@52300
+>0105
+410552
+
+@52400
+>010D0C
+410D6E0C1CF0
+
+@52500
+>010D0C1104
+00A
+0:410D6E0C1D20
+1:11280438
+
+@52600
+>010D0C
+410D6D0C1D04
+
+@52700
+>010D0C
+410D6D0C1D24
+
+@52800
+>010D0C
+410D6D0C1D34
+
+@52900
+>010D0C
+410D6E0C1D7C
+
+@53000
+>010D0C1104
+00A
+0:410D6E0C1D74
+1:11280438
+
+@53100
+>010D0C
+410D6F0C1DA0
+
+@53200
+>010D0C
+410D6F0C1D80
+
+@53300
+>010D0C
+410D6E0C1D10
+
+@53400
+>010D0C
+410D6E0C1CE0
+
+@53500
+>010D0C1104
+00A
+0:410D6D0C1C70
+1:11280438
+
+@53600
+>010D0C
+410D6D0C1C44
+
+@53700
+>010D0C
+410D6D0C1C20
+
+@53800
+>010D0C
+410D6E0C1C4C
+
+@53900
+>010D0C
+410D6E0C1C40
+
+@54000
+>010D0C1104
+00A
+0:410D6F0C1C84
+1:11280438
+
+@54100
+>010D0C
+410D6F0C1C94
+
+@54200
+>010D0C
+410D6E0C1C70
+
+@54300
+>0105
+410552
+
+@54400
+>010D0C
+410D6D0C1C80
+
+@54500
+>010D0C1104
+00A
+0:410D6D0C1CB0
+1:11280438
+
+@54600
+>010D0C
+410D6D0C1CE0
+
+@54700
+>010D0C
+410D6E0C1D48
+
+@54800
+>010D0C
+410D6E0C1D68
+
+@54900
+>010D0C
+410D6F0C1DBC
+
+@55000
+>010D0C1104
+00A
+0:410D6F0C1DC0
+1:11280438
+
+@55100
+>010D0C
+410D6E0C1D74
+
+@55200
+>010D0C
+410D6E0C1D5C
+
+@55300
+>010D0C
+410D6D0C1CF4
+
+@55400
+>010D0C
+410D6D0C1CCC
+
+@55500
+>010D0C1104
+00A
+0:410D6D0C1C9C
+1:11280438
+
+@55600
+>010D0C
+410D6E0C1CB0
+
+@55700
+>010D0C
+410D6E0C1C84
+
+@55800
+>010D0C
+410D6F0C1CA4
+
+@55900
+>010D0C
+410D6F0C1C8C
+
+@56000
+>010D0C1104
+00A
+0:410D6E0C1C40
+1:11280438
+
+@56100
+>010D0C
+410D6E0C1C44
+
+@56200
+>010D0C
+410D6D0C1C10
+
+@56300
+>0105
+410554
+
+@56400
+>010D0C
+410D6D0C1C54
+
+@56500
+>010D0C1104
+00A
+0:410D6E0C1CC8
+1:11280438
+
+@56600
+>010D0C
+410D6E0C1CF8
+
+@56700
+>010D0C
+410D6F0C1D68
+
+@56800
+>010D0C
+410D6F0C1D90
+
+@56900
+>010D0C
+410D6E0C1D68
+
+@57000
+>010D0C1104
+00A
+0:410D6E0C1D7C
+1:11280438
+
+@57100
+>010D0C
+410D6D0C1D3C
+
+@57200
+>010D0C
+410D6D0C1D30
+
+@57300
+>010D0C
+410D6D0C1D18
+
+@57400
+>010D0C
+410D6E0C1D38
+
+@57500
+>010D0C1104
+00A
+0:410D6E0C1D0C
+1:11280438
+
+@57600
+>010D0C
+410D6F0C1D20
+
+@57700
+>010D0C
+410D6F0C1CF0
+
+@57800
+>010D0C
+410D6E0C1C84
+
+@57900
+>010D0C
+410D6E0C1C60
+
+@58000
+>010D0C1104
+00A
+0:410D6D0C1C04
+1:11280438
+
+@58100
+>010D0C
+410D6D0C1BFC
+
+@58200
+>010D0C
+410D6D0C1C00
+
+@58300
+>0105
+410554
+
+@58400
+>010D0C
+410D6E0C1C74
+
+@58500
+>010D0C1104
+00A
+0:410D6F0C1CE0
+1:11280438
+
+@58600
+>010D0C
+410D6F0C1D0C
+
+@58700
+>010D0C
+410D6E0C1CF8
+
+@58800
+>010D0C
+410D6E0C1D28
+
+@58900
+>010D0C
+410D6D0C1D0C
+
+@59000
+>010D0C1104
+00A
+0:410D6D0C1D28
+1:11280438
+
+@59100
+>010D0C
+410D6D0C1D38
+
+@59200
+>010D0C
+410D6E0C1D7C
+
+@59300
+>010D0C
+410D6E0C1D70
+
+@59400
+>010D0C
+410D6F0C1D9C
+
+@59500
+>010D0C1104
+00A
+0:410D6F0C1D78
+1:11280438
+
+@59600
+>010D0C
+410D6E0C1D08
+
+@59700
+>010D0C
+410D6E0C1CD8
+
+@59800
+>010D0C
+410D6D0C1C68
+
+@59900
+>010D0C
+410D6D0C1C3C
+
+@60000
+>010D0C1104
+00A
+0:410D6D0C1C1C
+1:11280438
+
+@60100
+>010D0C
+410D6E0C1C48
+
+@60200
+>010D0C
+410D6E0C1C40
+
+@60300
+>0105
+410556
+
+@60400
+>010D0C
+410D6F0C1C98
+
+@60500
+>010D0C1104
+00A
+0:410D6E0C1C74
+1:11280438
+
+@60600
+>010D0C
+410D6E0C1C9C
+
+@60700
+>010D0C
+410D6D0C1C88
+
+@60800
+>010D0C
+410D6D0C1CB8
+
+@60900
+>010D0C
+410D6D0C1CE4
+
+@61000
+>010D0C1104
+00A
+0:410D6E0C1D50
+1:11280438
+
+@61100
+>010D0C
+410D6E0C1D6C
+
+@61200
+>010D0C
+410D6F0C1DC0
+
+@61300
+>010D0C
+410D6F0C1DC0
+
+@61400
+>010D0C
+410D6E0C1D70
+
+@61500
+>010D0C1104
+00A
+0:410D6E0C1D58
+1:11280438
+
+@61600
+>010D0C
+410D6D0C1CF0
+
+@61700
+>010D0C
+410D6D0C1CC4
+
+@61800
+>010D0C
+410D6D0C1C94
+
+@61900
+>010D0C
+410D6E0C1CA8
+
+@62000
+>010D0C1104
+00A
+0:410D6E0C1C7C
+1:11280438
+
+@62100
+>010D0C
+410D6F0C1CA0
+
+@62200
+>010D0C
+410D6F0C1C88
+
+@62300
+>0105
+410556
+
+@62400
+>010D0C
+410D6E0C1C44
+
+@62500
+>010D0C1104
+00A
+0:410D6D0C1C14
+1:11280438
+
+@62600
+>010D0C
+410D6D0C1C34
+
+@62700
+>010D0C
+410D6D0C1C5C
+
+@62800
+>010D0C
+410D6E0C1CD0
+
+@62900
+>010D0C
+410D6E0C1D00
+
+@63000
+>010D0C1104
+00A
+0:410D6F0C1D70
+1:11280438
+
+@63100
+>010D0C
+410D6F0C1D94
+
+@63200
+>010D0C
+410D6E0C1D6C
+
+@63300
+>010D0C
+410D6E0C1D7C
+
+@63400
+>010D0C
+410D6D0C1D38
+
+@63500
+>010D0C1104
+00A
+0:410D6D0C1D2C
+1:11280438
+
+@63600
+>010D0C
+410D6D0C1D10
+
+@63700
+>010D0C
+410D6E0C1D30
+
+@63800
+>010D0C
+410D6E0C1D04
+
+@63900
+>010D0C
+410D6F0C1D18
+
+@64000
+>010D0C1104
+00A
+0:410D6F0C1CE8
+1:11280438
+
+@64100
+>010D0C
+410D6E0C1C7C
+
+@64200
+>010D0C
+410D6E0C1C5C
+
+@64300
+>0105
+410556
+
+@64400
+>010D0C
+410D6D0C1BFC
+
+@64500
+>010D0C1104
+00A
+0:410D6D0C1C00
+1:11280438
+
+@64600
+>010D0C
+410D6E0C1C58
+
+@64700
+>010D0C
+410D6E0C1C78
+
+@64800
+>010D0C
+410D6F0C1CE8
+
+@64900
+>010D0C
+410D6F0C1D14
+
+@65000
+>010D0C1104
+00A
+0:410D6E0C1D00
+1:11280438
+
+@65100
+>010D0C
+410D6E0C1D2C
+
+@65200
+>010D0C
+410D6D0C1D10
+
+@65300
+>010D0C
+410D6D0C1D2C
+
+@65400
+>010D0C
+410D6D0C1D38
+
+@65500
+>010D0C1104
+00A
+0:410D6E0C1D7C
+1:11280438
+
+@65600
+>010D0C
+410D6E0C1D70
+
+@65700
+>010D0C
+410D6F0C1D98
+
+@65800
+>010D0C
+410D6F0C1D70
+
+@65900
+>010D0C
+410D6E0C1D00
+
+@66000
+>010D0C1104
+00A
+0:410D6E0C1CD0
+1:11280438
+
+@66100
+>010D0C
+410D6D0C1C60
+
+@66200
+>010D0C
+410D6D0C1C38
+
+@66300
+>0105
+410558
+
+@66400
+>010D0C
+410D6E0C1C44
+
+@66500
+>010D0C1104
+00A
+0:410D6E0C1C40
+1:11280438
+
+@66600
+>010D0C
+410D6F0C1C88
+
+@66700
+>010D0C
+410D6F0C1C9C
+
+@66800
+>010D0C
+410D6E0C1C7C
+
+@66900
+>010D0C
+410D6E0C1CA4
+
+@67000
+>010D0C1104
+00A
+0:410D6D0C1C90
+1:11280438
+
+@67100
+>010D0C
+410D6D0C1CC0
+
+@67200
+>010D0C
+410D6D0C1CEC
+
+@67300
+>010D0C
+410D6E0C1D54
+
+@67400
+>010D0C
+410D6E0C1D70
+
+@67500
+>010D0C1104
+00A
+0:410D6F0C1DC0
+1:11280438
+
+@67600
+>010D0C
+410D6F0C1DC0
+
+@67700
+>010D0C
+410D6E0C1D6C
+
+@67800
+>010D0C
+410D6E0C1D50
+
+@67900
+>010D0C
+410D6D0C1CE8
+
+@68000
+>010D0C1104
+00A
+0:410D6D0C1CBC
+1:11280438
+
+@68100
+>010D0C
+410D6D0C1C8C
+
+@68200
+>010D0C
+410D6E0C1CA0
+
+@68300
+>0105
+410558
+
+@68400
+>010D0C
+410D6F0C1C9C
+
+@68500
+>010D0C1104
+00A
+0:410D6F0C1C88
+1:11280438
+
+@68600
+>010D0C
+410D6E0C1C40
+
+@68700
+>010D0C
+410D6E0C1C48
+
+@68800
+>010D0C
+410D6D0C1C18
+
+@68900
+>010D0C
+410D6D0C1C3C
+
+@69000
+>010D0C1104
+00A
+0:410D6D0C1C64
+1:11280438
+
+@69100
+>010D0C
+410D6E0C1CD8
+
+@69200
+>010D0C
+410D6E0C1D08
+
+@69300
+>010D0C
+410D6F0C1D74
+
+@69400
+>010D0C
+410D6F0C1D98
+
+@69500
+>010D0C1104
+00A
+0:410D6E0C1D70
+1:11280438
+
+@69600
+>010D0C
+410D6E0C1D7C
+
+@69700
+>010D0C
+410D6D0C1D38
+
+@69800
+>010D0C
+410D6D0C1D28
+
+@69900
+>010D0C
+410D6D0C1D0C
+
+@70000
+>010D0C1104
+00A
+0:410D6E0C1D28
+1:11280438
+
+@70100
+>010D0C
+410D6E0C1CFC
+
+@70200
+>010D0C
+410D6F0C1D10
+
+@70300
+>0105
+41055A
+
+@70400
+>010D0C
+410D6E0C1C74
+
+@70500
+>010D0C1104
+00A
+0:410D6E0C1C58
+1:11280438
+
+@70600
+>010D0C
+410D6D0C1C00
+
+@70700
+>010D0C
+410D6D0C1BFC
+
+@70800
+>010D0C
+410D6D0C1C04
+
+@70900
+>010D0C
+410D6E0C1C5C
+
+@71000
+>010D0C1104
+00A
+0:410D6E0C1C80
+1:11280438
+
+@71100
+>010D0C
+410D6F0C1CEC
+
+@71200
+>010D0C
+410D6F0C1D1C
+
+@71300
+>010D0C
+410D6E0C1D08
+
+@71400
+>010D0C
+410D6E0C1D34
+
+@71500
+>010D0C1104
+00A
+0:410D6D0C1D14
+1:11280438
+
+@71600
+>010D0C
+410D6D0C1D30
+
+@71700
+>010D0C
+410D6D0C1D3C
+
+@71800
+>010D0C
+410D6E0C1D7C
+
+@71900
+>010D0C
+410D6E0C1D6C
+
+@72000
+>010D0C1104
+00A
+0:410D6F0C1D90
+1:11280438
+
+@72100
+>010D0C
+410D6F0C1D68
+
+@72200
+>010D0C
+410D6E0C1CF8
+
+@72300
+>0105
+41055A
+
+@72400
+>010D0C
+410D6D0C1C58
+
+@72500
+>010D0C1104
+00A
+0:410D6D0C1C30
+1:11280438
+
+@72600
+>010D0C
+410D6D0C1C10
+
+@72700
+>010D0C
+410D6E0C1C44
+
+@72800
+>010D0C
+410D6E0C1C40
+
+@72900
+>010D0C
+410D6F0C1C8C
+
+@73000
+>010D0C1104
+00A
+0:410D6F0C1CA4
+1:11280438
+
+@73100
+>010D0C
+410D6E0C1C84
+
+@73200
+>010D0C
+410D6E0C1CAC
+
+@73300
+>010D0C
+410D6D0C1C98
+
+@73400
+>010D0C
+410D6D0C1CC8
+
+@73500
+>010D0C1104
+00A
+0:410D6D0C1CF4
+1:11280438
+
+@73600
+>010D0C
+410D6E0C1D5C
+
+@73700
+>010D0C
+410D6F0C1DB4
+
+@73800
+>010D0C
+410D6F0C1DC0
+
+@73900
+>010D0C
+410D6F0C1DBC
+
+@74000
+>010D0C1104
+00A
+0:410D6E0C1D68
+1:11280438
+
+@74100
+>010D0C
+410D6E0C1D4C
+
+@74200
+>010D0C
+410D6D0C1CE0
+
+@74300
+>0105
+41055A
+
+@74400
+>010D0C
+410D6D0C1C84
+
+@74500
+>010D0C1104
+00A
+0:410D6E0C1C98
+1:11280438
+
+@74600
+>010D0C
+410D6F0C1CB4
+
+@74700
+>010D0C
+410D6F0C1C98
+
+@74800
+>010D0C
+410D6F0C1C84
+
+@74900
+>010D0C
+410D6E0C1C40
+
+@75000
+>010D0C1104
+00A
+0:410D6E0C1C48
+1:11280438
+
+@75100
+>010D0C
+410D6D0C1C1C
+
+@75200
+>010D0C
+410D6D0C1C40
+
+@75300
+>010D0C
+410D6D0C1C6C
+
+@75400
+>010D0C
+410D6E0C1CE0
+
+@75500
+>010D0C1104
+00A
+0:410D6F0C1D50
+1:11280438
+
+@75600
+>010D0C
+410D6F0C1D7C
+
+@75700
+>010D0C
+410D6F0C1DA0
+
+@75800
+>010D0C
+410D6E0C1D74
+
+@75900
+>010D0C
+410D6E0C1D7C
+
+@76000
+>010D0C1104
+00A
+0:410D6D0C1D38
+1:11280438
+
+@76100
+>010D0C
+410D6D0C1D24
+
+@76200
+>010D0C
+410D6E0C1D48
+
+@76300
+>0105
+41055C
+
+@76400
+>010D0C
+410D6F0C1D38
+
+@76500
+>010D0C1104
+00A
+0:410D6F0C1D08
+1:11280438
+
+@76600
+>010D0C
+410D6F0C1CD8
+
+@76700
+>010D0C
+410D6E0C1C70
+
+@76800
+>010D0C
+410D6E0C1C54
+
+@76900
+>010D0C
+410D6D0C1C00
+
+@77000
+>010D0C1104
+00A
+0:410D6D0C1BFC
+1:11280438
+
+@77100
+>010D0C
+410D6E0C1C4C
+
+@77200
+>010D0C
+410D6E0C1C64
+
+@77300
+>010D0C
+410D6F0C1CC8
+
+@77400
+>010D0C
+410D6F0C1CF4
+
+@77500
+>010D0C1104
+00A
+0:410D6F0C1D24
+1:11280438
+
+@77600
+>010D0C
+410D6E0C1D10
+
+@77700
+>010D0C
+410D6E0C1D3C
+
+@77800
+>010D0C
+410D6D0C1D1C
+
+@77900
+>010D0C
+410D6D0C1D30
+
+@78000
+>010D0C1104
+00A
+0:410D6E0C1D7C
+1:11280438
+
+@78100
+>010D0C
+410D6E0C1D78
+
+@78200
+>010D0C
+410D6F0C1DA8
+
+@78300
+>0105
+41055C
+
+@78400
+>010D0C
+410D6F0C1D64
+
+@78500
+>010D0C1104
+00A
+0:410D6E0C1CF0
+1:11280438
+
+@78600
+>010D0C
+410D6E0C1CC0
+
+@78700
+>010D0C
+410D6D0C1C50
+
+@78800
+>010D0C
+410D6D0C1C2C
+
+@78900
+>010D0C
+410D6E0C1C50
+
+@79000
+>010D0C1104
+00A
+0:410D6E0C1C40
+1:11280438
+
+@79100
+>010D0C
+410D6F0C1C84
+
+@79200
+>010D0C
+410D6F0C1C90
+
+@79300
+>010D0C
+410D6F0C1CA8
+
+@79400
+>010D0C
+410D6E0C1C88
+
+@79500
+>010D0C1104
+00A
+0:410D6E0C1CB4
+1:11280438
+
+@79600
+>010D0C
+410D6D0C1CA0
+
+@79700
+>010D0C
+410D6D0C1CD0
+
+@79800
+>010D0C
+410D6E0C1D3C
+
+@79900
+>010D0C
+410D6E0C1D60
+
+@80000
+>010D0C1104
+00A
+0:410D6D0C1D34
+1:111E042F
+
+@80100
+>010D0C
+410D6C0C1CF8
+
+@80200
+>010D0C
+410D6A0C1C6C
+
+@80300
+>0105
+41055E
+
+@80400
+>010D0C
+410D660C1B2C
+
+@80500
+>010D0C1104
+00A
+0:410D650C1AC0
+1:111E042F
+
+@80600
+>010D0C
+410D630C1A0C
+
+@80700
+>010D0C
+410D620C1998
+
+@80800
+>010D0C
+410D620C196C
+
+@80900
+>010D0C
+410D610C1900
+
+@81000
+>010D0C1104
+00A
+0:410D600C18A4
+1:111E042F
+
+@81100
+>010D0C
+410D5F0C1850
+
+@81200
+>010D0C
+410D5E0C1E38
+
+@81300
+>010D0C
+410D5C0C1D9C
+
+@81400
+>010D0C
+410D5B0C1D64
+
+@81500
+>010D0C1104
+00A
+0:410D5A0C1D34
+1:111E042F
+
+@81600
+>010D0C
+410D5A0C1D60
+
+@81700
+>010D0C
+410D590C1D3C
+
+@81800
+>010D0C
+410D590C1D68
+
+@81900
+>010D0C
+410D580C1D40
+
+@82000
+>010D0C1104
+00A
+0:410D580C1D60
+1:111E042F
+
+@82100
+>010D0C
+410D560C1CD0
+
+@82200
+>010D0C
+410D550C1C80
+
+@82300
+>0105
+41055E
+
+@82400
+>010D0C
+410D540C1C14
+
+@82500
+>010D0C1104
+00A
+0:410D530C1BA0
+1:111E042F
+
+@82600
+>010D0C
+410D530C1B78
+
+@82700
+>010D0C
+410D530C1B48
+
+@82800
+>010D0C
+410D530C1B18
+
+@82900
+>010D0C
+410D520C1A98
+
+@83000
+>010D0C1104
+00A
+0:410D510C1A1C
+1:111E042F
+
+@83100
+>010D0C
+410D500C19B0
+
+@83200
+>010D0C
+410D500C19A0
+
+@83300
+>010D0C
+410D4F0C194C
+
+@83400
+>010D0C
+410D4F0C1958
+
+@83500
+>010D0C1104
+00A
+0:410D4F0C1974
+1:111E042F
+
+@83600
+>010D0C
+410D4F0C1998
+
+@83700
+>010D0C
+410D4F0C19C4
+
+@83800
+>010D0C
+410D4F0C19F4
+
+@83900
+>010D0C
+410D4E0C19D0
+
+@84000
+>010D0C1104
+00A
+0:410D4D0C19A4
+1:111E042F
+
+@84100
+>010D0C
+410D4C0C1974
+
+@84200
+>010D0C
+410D4C0C1988
+
+@84300
+>0105
+41055E
+
+@84400
+>010D0C
+410D4D0C19DC
+
+@84500
+>010D0C1104
+00A
+0:410D4D0C19C4
+1:111E042F
+
+@84600
+>010D0C
+410D4D0C19A4
+
+@84700
+>010D0C
+410D4C0C1928
+
+@84800
+>010D0C
+410D4C0C18F8
+
+@84900
+>010D0C
+410D4B0C1874
+
+@85000
+>010D0C1104
+00A
+0:410D4A0C17F4
+1:111E042F
+
+@85100
+>010D0C
+410D4A0C17D0
+
+@85200
+>010D0C
+410D4A0C17B4
+
+@85300
+>010D0C
+410D4B0C17FC
+
+@85400
+>010D0C
+410D4B0C17FC
+
+@85500
+>010D0C1104
+00A
+0:410D4B0C180C
+1:111E042F
+
+@85600
+>010D0C
+410D4B0C1828
+
+@85700
+>010D0C
+410D4A0C17F8
+
+@85800
+>010D0C
+410D490C17D0
+
+@85900
+>010D0C
+410D490C1800
+
+@86000
+>010D0C1104
+00A
+0:410D490C1830
+1:111E042F
+
+@86100
+>010D0C
+410D490C1858
+
+@86200
+>010D0C
+410D490C1878
+
+@86300
+>0105
+410560
+
+@86400
+>010D0C
+410D4A0C18E4
+
+@86500
+>010D0C1104
+00A
+0:410D490C1888
+1:111E042F
+
+@86600
+>010D0C
+410D490C1874
+
+@86700
+>010D0C
+410D480C1800
+
+@86800
+>010D0C
+410D480C17D4
+
+@86900
+>010D0C
+410D480C17A8
+
+@87000
+>010D0C1104
+00A
+0:410D480C1778
+1:111E042F
+
+@87100
+>010D0C
+410D480C174C
+
+@87200
+>010D0C
+410D490C177C
+
+@87300
+>010D0C
+410D490C1760
+
+@87400
+>010D0C
+410D480C1700
+
+@87500
+>010D0C1104
+00A
+0:410D480C1700
+1:111E042F
+
+@87600
+>010D0C
+410D470C16BC
+
+@87700
+>010D0C
+410D470C16D8
+
+@87800
+>010D0C
+410D470C1700
+
+@87900
+>010D0C
+410D470C172C
+
+@88000
+>010D0C1104
+00A
+0:410D480C17B0
+1:111E042F
+
+@88100
+>010D0C
+410D480C17DC
+
+@88200
+>010D0C
+410D480C1804
+
+@88300
+>0105
+410560
+
+@88400
+>010D0C
+410D470C17E4
+
+@88500
+>010D0C1104
+00A
+0:410D470C17E8
+1:111E042F
+
+@88600
+>010D0C
+410D460C178C
+
+@88700
+>010D0C
+410D460C1778
+
+@88800
+>010D0C
+410D470C17A8
+
+@88900
+>010D0C
+410D470C1780
+
+@89000
+>010D0C1104
+00A
+0:410D480C17A4
+1:111E042F
+
+@89100
+>010D0C
+410D480C1774
+
+@89200
+>010D0C
+410D470C16F4
+
+@89300
+>010D0C
+410D470C16D0
+
+@89400
+>010D0C
+410D460C1664
+
+@89500
+>010D0C1104
+00A
+0:410D460C1658
+1:111E042F
+
+@89600
+>010D0C
+410D460C1658
+
+@89700
+>010D0C
+410D460C1668
+
+@89800
+>010D0C
+410D470C16D8
+
+@89900
+>010D0C
+410D470C1700
+
+@90000
+>010D0C1104
+00A
+0:410D470C172C
+1:111E042F
+
+@90100
+>010D0C
+410D470C175C
+
+@90200
+>010D0C
+410D470C178C
+
+@90300
+>0105
+410562
+
+@90400
+>010D0C
+410D460C1780
+
+@90500
+>010D0C1104
+00A
+0:410D460C1790
+1:111E042F
+
+@90600
+>010D0C
+410D460C1794
+
+@90700
+>010D0C
+410D470C17E0
+
+@90800
+>010D0C
+410D470C17C8
+
+@90900
+>010D0C
+410D470C17A8
+
+@91000
+>010D0C1104
+00A
+0:410D470C177C
+1:111E042F
+
+@91100
+>010D0C
+410D460C16F8
+
+@91200
+>010D0C
+410D460C16C8
+
+@91300
+>010D0C
+410D460C16A0
+
+@91400
+>010D0C
+410D460C167C
+
+@91500
+>010D0C1104
+00A
+0:410D460C1660
+1:111E042F
+
+@91600
+>010D0C
+410D470C16AC
+
+@91700
+>010D0C
+410D470C16AC
+
+@91800
+>010D0C
+410D470C16C0
+
+@91900
+>010D0C
+410D470C16DC
+
+@92000
+>010D0C1104
+00A
+0:410D460C16B0
+1:111E042F
+
+@92100
+>010D0C
+410D460C16DC
+
+@92200
+>010D0C
+410D450C1D84
+
+@92300
+>0105
+410562
+
+@92400
+>010D0C
+410D460C1760
+
+@92500
+>010D0C1104
+00A
+0:410D460C1780
+1:111E042F
+
+@92600
+>010D0C
+410D470C17E4
+
+@92700
+>010D0C
+410D470C17E8
+
+@92800
+>010D0C
+410D470C17E0
+
+@92900
+>010D0C
+410D460C1774
+
+@93000
+>010D0C1104
+00A
+0:410D460C1750
+1:111E042F
+
+@93100
+>010D0C
+410D450C1D9C
+
+@93200
+>010D0C
+410D450C1D6C
+
+@93300
+>010D0C
+410D460C16C8
+
+@93400
+>010D0C
+410D460C169C
+
+@93500
+>010D0C1104
+00A
+0:410D470C16CC
+1:111E042F
+
+@93600
+>010D0C
+410D470C16B4
+
+@93700
+>010D0C
+410D470C16AC
+
+@93800
+>010D0C
+410D460C165C
+
+@93900
+>010D0C
+410D460C166C
+
+@94000
+>010D0C1104
+00A
+0:410D450C1D00
+1:111E042F
+
+@94100
+>010D0C
+410D450C1D28
+
+@94200
+>010D0C
+410D460C16E0
+
+@94300
+>0105
+410562
+
+@94400
+>010D0C
+410D470C1790
+
+@94500
+>010D0C1104
+00A
+0:410D470C17B8
+1:111E042F
+
+@94600
+>010D0C
+410D470C17D4
+
+@94700
+>010D0C
+410D460C1794
+
+@94800
+>010D0C
+410D460C1794
+
+@94900
+>010D0C
+410D450C1E00
+
+@95000
+>010D0C1104
+00A
+0:410D450C1DE8
+1:111E042F
+
+@95100
+>010D0C
+410D460C1750
+
+@95200
+>010D0C
+410D460C1724
+
+@95300
+>010D0C
+410D470C1748
+
+@95400
+>010D0C
+410D470C1718
+
+@95500
+>010D0C1104
+00A
+0:410D470C16EC
+1:111E042F
+
+@95600
+>010D0C
+410D460C1678
+
+@95700
+>010D0C
+410D460C1660
+
+@95800
+>010D0C
+410D450C1CCC
+
+@95900
+>010D0C
+410D450C1CD0
+
+@96000
+>010D0C1104
+00A
+0:410D460C166C
+1:111E042F
+
+@96100
+>010D0C
+410D460C168C
+
+@96200
+>010D0C
+410D470C1708
+
+@96300
+>0105
+410564
+
+@96400
+>010D0C
+410D470C1764
+
+@96500
+>010D0C1104
+00A
+0:410D460C1740
+1:111E042F
+
+@96600
+>010D0C
+410D450C1DDC
+
+@96700
+>010D0C
+410D450C1DF8
+
+@96800
+>010D0C
+410D450C1E08
+
+@96900
+>010D0C
+410D460C1794
+
+@97000
+>010D0C1104
+00A
+0:410D460C1788
+1:111E042F
+
+@97100
+>010D0C
+410D470C17C4
+
+@97200
+>010D0C
+410D470C17A0
+
+@97300
+>010D0C
+410D470C1774
+
+@97400
+>010D0C
+410D460C16F0
+
+@97500
+>010D0C1104
+00A
+0:410D450C1D38
+1:111E042F
+
+@97600
+>010D0C
+410D450C1D10
+
+@97700
+>010D0C
+410D450C1CEC
+
+@97800
+>010D0C
+410D460C1660
+
+@97900
+>010D0C
+410D460C1658
+
+@98000
+>010D0C1104
+00A
+0:410D470C16B0
+1:111E042F
+
+@98100
+>010D0C
+410D470C16C4
+
+@98200
+>010D0C
+410D460C168C
+
+@98300
+>0105
+410564
+
+@98400
+>010D0C
+410D450C1D5C
+
+@98500
+>010D0C1104
+00A
+0:410D450C1D8C
+1:111E042F
+
+@98600
+>010D0C
+410D450C1DB8
+
+@98700
+>010D0C
+410D460C1768
+
+@98800
+>010D0C
+410D460C1784
+
+@98900
+>010D0C
+410D470C17E8
+
+@99000
+>010D0C1104
+00A
+0:410D470C17E8
+1:111E042F
+
+@99100
+>010D0C
+410D460C1788
+
+@99200
+>010D0C
+410D460C1770
+
+@99300
+>010D0C
+410D450C1DC0
+
+@99400
+>010D0C
+410D450C1D94
+
+@99500
+>010D0C1104
+00A
+0:410D450C1D64
+1:111E042F
+
+@99600
+>010D0C
+410D460C16C0
+
+@99700
+>010D0C
+410D460C1694
+
+@99800
+>010D0C
+410D470C16C8
+
+@99900
+>010D0C
+410D470C16B4
+
+@100000
+>010D0C1104
+00A
+0:410D440C1C60
+1:111E042F
+
+@100100
+>010D0C
+410D400C1AB0
+
+@100200
+>010D0C
+410D3D0C197C
+
+@100300
+>0105
+410566
+
+@100400
+>010D0C
+410D380C17A4
+
+@100500
+>010D0C1104
+00A
+0:410D370C1764
+1:111E042F
+
+@100600
+>010D0C
+410D350C16BC
+
+@100700
+>010D0C
+410D330C160C
+
+@100800
+>010D0C
+410D310C1BC8
+
+@100900
+>010D0C
+410D2F0C1AC4
+
+@101000
+>010D0C1104
+00A
+0:410D2D0C19B4
+1:111E042F
+
+@101100
+>010D0C
+410D2A0C180C
+
+@101200
+>010D0C
+410D280C16E0
+
+@101300
+>010D0C
+410D270C1634
+
+@101400
+>010D0C
+410D260C1580
+
+@101500
+>010D0C1104
+00A
+0:410D250C14C8
+1:111E042F
+
+@101600
+>010D0C
+410D240C1408
+
+@101700
+>010D0C
+410D220C12BC
+
+@101800
+>010D0C
+410D210C1204
+
+@101900
+>010D0C
+410D1F0C10C4
+
+@102000
+>010D0C1104
+00A
+0:410D1D0C163C
+1:111E042F
+
+@102100
+>010D0C
+410D1C0C156C
+
+@102200
+>010D0C
+410D1B0C14A8
+
+@102300
+>0105
+410566
+
+@102400
+>010D0C
+410D1A0C1414
+
+@102500
+>010D0C1104
+00A
+0:410D190C1374
+1:111E042F
+
+@102600
+>010D0C
+410D180C12D8
+
+@102700
+>010D0C
+410D170C1240
+
+@102800
+>010D0C
+410D150C10D8
+
+@102900
+>010D0C
+410D140C1034
+
+@103000
+>010D0C1104
+00A
+0:410D130C0F84
+1:111E042F
+
+@103100
+>010D0C
+410D120C0EC8
+
+@103200
+>010D0C
+410D120C0EC8
+
+@103300
+>010D0C
+410D120C0EBC
+
+@103400
+>010D0C
+410D120C0EA0
+
+@103500
+>010D0C1104
+00A
+0:410D110C0E10
+1:111E042F
+
+@103600
+>010D0C
+410D100C0E10
+
+@103700
+>010D0C
+410D0F0C0E10
+
+@103800
+>010D0C
+410D0E0C1138
+
+@103900
+>010D0C
+410D0D0C0FD0
+
+@104000
+>010D0C1104
+00A
+0:410D0D0C0FB0
+1:111E042F
+
+@104100
+>010D0C
+410D0C0C0E5C
+
+@104200
+>010D0C
+410D0D0C0F94
+
+@104300
+>0105
+410566
+
+@104400
+>010D0C
+410D0C0C0E70
+
+@104500
+>010D0C1104
+00A
+0:410D0B0C0E10
+1:111E042F
+
+@104600
+>010D0C
+410D0A0C0E10
+
+@104700
+>010D0C
+410D090C0E10
+
+@104800
+>010D0C
+410D090C0E10
+
+@104900
+>010D0C
+410D090C0E10
+
+@105000
+>010D0C1104
+00A
+0:410D090C0E10
+1:111E042F
+
+@105100
+>010D0C
+410D090C0E10
+
+@105200
+>010D0C
+410D090C0E10
+
+@105300
+>010D0C
+410D080C0E10
+
+@105400
+>010D0C
+410D080C0E10
+
+@105500
+>010D0C1104
+00A
+0:410D070C0E10
+1:111E042F
+
+@105600
+>010D0C
+410D060C0E10
+
+@105700
+>010D0C
+410D060C0E10
+
+@105800
+>010D0C
+410D060C0E10
+
+@105900
+>010D0C
+410D060C0E10
+
+@106000
+>010D0C1104
+00A
+0:410D060C0E10
+1:111E042F
+
+@106100
+>010D0C
+410D060C0E10
+
+@106200
+>010D0C
+410D060C0E10
+
+@106300
+>0105
+410568
+
+@106400
+>010D0C
+410D050C0E10
+
+@106500
+>010D0C1104
+00A
+0:410D040C0E10
+1:111E042F
+
+@106600
+>010D0C
+410D040C0E10
+
+@106700
+>010D0C
+410D040C0E10
+
+@106800
+>010D0C
+410D040C0E10
+
+@106900
+>010D0C
+410D040C0E10
+
+@107000
+>010D0C1104
+00A
+0:410D050C0E10
+1:111E042F
+
+@107100
+>010D0C
+410D040C0E10
+
+@107200
+>010D0C
+410D040C0E10
+
+@107300
+>010D0C
+410D030C0E10
+
+@107400
+>010D0C
+410D030C0E10
+
+@107500
+>010D0C1104
+00A
+0:410D020C0E10
+1:111E042F
+
+@107600
+>010D0C
+410D020C0E10
+
+@107700
+>010D0C
+410D030C0E10
+
+@107800
+>010D0C
+410D030C0E10
+
+@107900
+>010D0C
+410D030C0E10
+
+@108000
+>010D0C1104
+00A
+0:410D030C0E10
+1:111E042F
+
+@108100
+>010D0C
+410D030C0E10
+
+@108200
+>010D0C
+410D020C0E10
+
+@108300
+>0105
+410568
+
+@108400
+>010D0C
+410D010C0E10
+
+@108500
+>010D0C1104
+00A
+0:410D020C0E10
+1:111E042F
+
+@108600
+>010D0C
+410D020C0E10
+
+@108700
+>010D0C
+410D020C0E10
+
+@108800
+>010D0C
+410D030C0E10
+
+@108900
+>010D0C
+410D020C0E10
+
+@109000
+>010D0C1104
+00A
+0:410D020C0E10
+1:111E042F
+
+@109100
+>010D0C
+410D010C0E10
+
+@109200
+>010D0C
+410D010C0E10
+
+@109300
+>010D0C
+410D010C0E10
+
+@109400
+>010D0C
+410D010C0E10
+
+@109500
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@109600
+>010D0C
+410D020C0E10
+
+@109700
+>010D0C
+410D020C0E10
+
+@109800
+>010D0C
+410D020C0E10
+
+@109900
+>010D0C
+410D010C0E10
+
+@110000
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@110100
+>010D0C
+410D000C0C80
+
+@110200
+>010D0C
+410D000C0C80
+
+@110300
+>0105
+41056A
+
+@110400
+>010D0C
+410D010C0E10
+
+@110500
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@110600
+>010D0C
+410D020C0E10
+
+@110700
+>010D0C
+410D020C0E10
+
+@110800
+>010D0C
+410D010C0E10
+
+@110900
+>010D0C
+410D010C0E10
+
+@111000
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@111100
+>010D0C
+410D000C0C80
+
+@111200
+>010D0C
+410D000C0C80
+
+@111300
+>010D0C
+410D010C0E10
+
+@111400
+>010D0C
+410D010C0E10
+
+@111500
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@111600
+>010D0C
+410D010C0E10
+
+@111700
+>010D0C
+410D010C0E10
+
+@111800
+>010D0C
+410D000C0C80
+
+@111900
+>010D0C
+410D000C0C80
+
+@112000
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@112100
+>010D0C
+410D000C0C80
+
+@112200
+>010D0C
+410D000C0C80
+
+@112300
+>0105
+41056A
+
+@112400
+>010D0C
+410D010C0E10
+
+@112500
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@112600
+>010D0C
+410D010C0E10
+
+@112700
+>010D0C
+410D000C0C80
+
+@112800
+>010D0C
+410D000C0C80
+
+@112900
+>010D0C
+410D000C0C80
+
+@113000
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@113100
+>010D0C
+410D000C0C80
+
+@113200
+>010D0C
+410D010C0E10
+
+@113300
+>010D0C
+410D010C0E10
+
+@113400
+>010D0C
+410D010C0E10
+
+@113500
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@113600
+>010D0C
+410D000C0C80
+
+@113700
+>010D0C
+410D000C0C80
+
+@113800
+>010D0C
+410D000C0C80
+
+@113900
+>010D0C
+410D000C0C80
+
+@114000
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@114100
+>010D0C
+410D010C0E10
+
+@114200
+>010D0C
+410D010C0E10
+
+@114300
+>0105
+41056A
+
+@114400
+>010D0C
+410D000C0C80
+
+@114500
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@114600
+>010D0C
+410D000C0C80
+
+@114700
+>010D0C
+410D000C0C80
+
+@114800
+>010D0C
+410D000C0C80
+
+@114900
+>010D0C
+410D000C0C80
+
+@115000
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@115100
+>010D0C
+410D010C0E10
+
+@115200
+>010D0C
+410D010C0E10
+
+@115300
+>010D0C
+410D000C0C80
+
+@115400
+>010D0C
+410D000C0C80
+
+@115500
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@115600
+>010D0C
+410D000C0C80
+
+@115700
+>010D0C
+410D000C0C80
+
+@115800
+>010D0C
+410D000C0C80
+
+@115900
+>010D0C
+410D010C0E10
+
+@116000
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@116100
+>010D0C
+410D010C0E10
+
+@116200
+>010D0C
+410D000C0C80
+
+@116300
+>0105
+41056C
+
+@116400
+>010D0C
+410D000C0C80
+
+@116500
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@116600
+>010D0C
+410D000C0C80
+
+@116700
+>010D0C
+410D000C0C80
+
+@116800
+>010D0C
+410D010C0E10
+
+@116900
+>010D0C
+410D010C0E10
+
+@117000
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@117100
+>010D0C
+410D000C0C80
+
+@117200
+>010D0C
+410D000C0C80
+
+@117300
+>010D0C
+410D000C0C80
+
+@117400
+>010D0C
+410D000C0C80
+
+@117500
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@117600
+>010D0C
+410D000C0C80
+
+@117700
+>010D0C
+410D010C0E10
+
+@117800
+>010D0C
+410D010C0E10
+
+@117900
+>010D0C
+410D010C0E10
+
+@118000
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@118100
+>010D0C
+410D000C0C80
+
+@118200
+>010D0C
+410D000C0C80
+
+@118300
+>0105
+41056C
+
+@118400
+>010D0C
+410D000C0C80
+
+@118500
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@118600
+>010D0C
+410D010C0E10
+
+@118700
+>010D0C
+410D010C0E10
+
+@118800
+>010D0C
+410D010C0E10
+
+@118900
+>010D0C
+410D000C0C80
+
+@119000
+>010D0C1104
+00A
+0:410D000C0C80
+1:111E042F
+
+@119100
+>010D0C
+410D000C0C80
+
+@119200
+>010D0C
+410D000C0C80
+
+@119300
+>010D0C
+410D000C0C80
+
+@119400
+>010D0C
+410D000C0C80
+
+@119500
+>010D0C1104
+00A
+0:410D010C0E10
+1:111E042F
+
+@119600
+>010D0C
+410D010C0E10
+
+@119700
+>010D0C
+410D010C0E10
+
+@119800
+>010D0C
+410D000C0C80
+
+@119900
+>010D0C
+410D000C0C80
+
+>
@@ -0,0 +1,303 @@
+package com.maxdrive.app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Random;
+
+class Elm327Emulator {
+    static final long SUPPORTED_PIDS = 0xBE1FA813L;
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double noise;
+    private final int ecuCount;
+    private final boolean multiPid;
+    private final Random random;
+    private final long startedNs = System.nanoTime();
+
+    private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+    private final ArrayDeque<Long> readyAt = new ArrayDeque<>();
+    private final StringBuilder command = new StringBuilder();
+    private int chunkOffset = 0;
+    private boolean closed = false;
+
+    private boolean echo = true;
+    private boolean spaces = true;
+    private boolean headers = false;
+    private boolean searching = true;
+
+    private long commands = 0;
+    private long pidRequests = 0;
+
+    final InputStream input = new InputStream() {
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return readResponse(buffer, offset, length);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return availableResponse();
+        }
+
+        @Override
+        public void close() {
+            Elm327Emulator.this.close();
+        }
+    };
+
+    final OutputStream output = new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+            receive((byte) b);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            for (int i = 0; i < length; i++) receive(buffer[offset + i]);
+        }
+
+        @Override
+        public void close() {
+            Elm327Emulator.this.close();
+        }
+    };
+
+    Elm327Emulator() {
+        this(0, 0, 0, 1, true, 1);
+    }
+
+    Elm327Emulator(long latencyMs, long jitterMs, double noise, int ecuCount, boolean multiPid, long seed) {
+        this.latencyMs = Math.max(0, latencyMs);
+        this.jitterMs = Math.max(0, jitterMs);
+        this.noise = Math.max(0, Math.min(1, noise));
+        this.ecuCount = Math.max(1, ecuCount);
+        this.multiPid = multiPid;
+        this.random = new Random(seed);
+    }
+
+    synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    synchronized long commandCount() {
+        return commands;
+    }
+
+    synchronized long pidRequestCount() {
+        return pidRequests;
+    }
+
+    double valueAt(int pid, long elapsedMs) {
+        double t = elapsedMs / 1000.0;
+        double speed = Math.round(60 + 40 * Math.sin(t / 10));
+        switch (pid) {
+            case ObdParser.PID_SPEED: return speed;
+            case ObdParser.PID_RPM: return Math.round((800 + speed * 28) * 4) / 4.0;
+            case ObdParser.PID_ENGINE_LOAD: return 20 + speed / 2;
+            case ObdParser.PID_THROTTLE: return 10 + speed / 4;
+            case ObdParser.PID_COOLANT_TEMP: return Math.min(90, 20 + t);
+            case ObdParser.PID_INTAKE_TEMP: return 25;
+            case ObdParser.PID_FUEL_LEVEL: return 62.5;
+            default: return Double.NaN;
+        }
+    }
+
+    private synchronized void receive(byte b) throws IOException {
+        if (closed) throw new IOException("Emulator closed");
+        if (b == '\r') {
+            String cmd = command.toString().replace(" ", "").toUpperCase(Locale.US);
+            command.setLength(0);
+            respond(cmd);
+        } else if (b != '\n') {
+            command.append((char) b);
+        }
+    }
+
+    private void respond(String cmd) {
+        commands++;
+        StringBuilder out = new StringBuilder();
+        if (echo) out.append(cmd).append('\r');
+        if (cmd.startsWith("AT")) {
+            out.append(atCommand(cmd.substring(2)));
+        } else if (cmd.startsWith("01") && cmd.length() >= 4 && cmd.length() % 2 == 0) {
+            pidRequests++;
+            out.append(pidCommand(cmd));
+        } else {
+            out.append("?\r");
+        }
+        out.append("\r>");
+        String response = out.toString();
+        if (noise > 0 && random.nextDouble() < noise) response = corrupt(response);
+        long delayMs = latencyMs + (jitterMs > 0 ? (long) (random.nextDouble() * jitterMs) : 0);
+        chunks.addLast(response.getBytes(StandardCharsets.US_ASCII));
+        readyAt.addLast(System.nanoTime() + delayMs * 1_000_000L);
+        notifyAll();
+    }
+
+    private String atCommand(String at) {
+        switch (at) {
+            case "Z":
+                echo = true;
+                spaces = true;
+                headers = false;
+                searching = true;
+                return "\rELM327 v1.5\r";
+            case "E0": echo = false; return "OK\r";
+            case "E1": echo = true; return "OK\r";
+            case "S0": spaces = false; return "OK\r";
+            case "S1": spaces = true; return "OK\r";
+            case "H0": headers = false; return "OK\r";
+            case "H1": headers = true; return "OK\r";
+            case "SP0": searching = true; return "OK\r";
+            case "I": return "ELM327 v1.5\r";
+            default: return "OK\r";
+        }
+    }
+
+    private String pidCommand(String cmd) {
+        int count = (cmd.length() - 2) / 2;
+        if (!multiPid) count = 1;
+        count = Math.min(count, 6);
+        long elapsedMs = (System.nanoTime() - startedNs) / 1_000_000L;
+        StringBuilder out = new StringBuilder();
+        if (searching) {
+            out.append("SEARCHING...\r");
+            searching = false;
+        }
+        boolean answered = false;
+        for (int ecu = 0; ecu < ecuCount; ecu++) {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            payload.write(0x41);
+            for (int i = 0; i < count; i++) {
+                int pid = Integer.parseInt(cmd.substring(2 + i * 2, 4 + i * 2), 16);
+                appendPid(payload, pid, ecu, elapsedMs);
+            }
+            if (payload.size() > 1) {
+                out.append(frame(payload.toByteArray(), ecu));
+                answered = true;
+            }
+        }
+        if (!answered) out.append("NO DATA\r");
+        return out.toString();
+    }
+
+    private void appendPid(ByteArrayOutputStream payload, int pid, int ecu, long elapsedMs) {
+        if (pid == ObdParser.PID_SUPPORTED_01_20) {
+            long mask = ecu == 0 ? SUPPORTED_PIDS : 0x80018001L;
+            payload.write(pid);
+            for (int shift = 24; shift >= 0; shift -= 8) payload.write((int) (mask >> shift) & 0xFF);
+            return;
+        }
+        if (ecu > 0 && pid != ObdParser.PID_SPEED) return;
+        double value = valueAt(pid, elapsedMs);
+        if (Double.isNaN(value)) return;
+        byte[] encoded = new byte[16];
+        int length = TelemetryReplay.encode(pid, value, encoded);
+        if (length == 0) return;
+        for (int i = 2; i < length - 2; i += 2) {
+            payload.write(Character.digit(encoded[i], 16) << 4 | Character.digit(encoded[i + 1], 16));
+        }
+    }
+
+    private String frame(byte[] payload, int ecu) {
+        String header = headers ? String.format(Locale.US, spaces ? "%03X " : "%03X", 0x7E8 + ecu) : "";
+        StringBuilder out = new StringBuilder();
+        if (payload.length <= 7) {
+            out.append(header).append(hex(payload, 0, payload.length)).append('\r');
+            return out.toString();
+        }
+        out.append(String.format(Locale.US, "%03X", payload.length)).append('\r');
+        int index = 0;
+        for (int offset = 0; offset < payload.length; index++) {
+            int length = Math.min(offset == 0 ? 6 : 7, payload.length - offset);
+            out.append(header).append(Integer.toHexString(index & 0xF).toUpperCase(Locale.US)).append(':');
+            if (spaces) out.append(' ');
+            out.append(hex(payload, offset, length)).append('\r');
+            offset += length;
+        }
+        return out.toString();
+    }
+
+    private String hex(byte[] data, int offset, int length) {
+        StringBuilder out = new StringBuilder(length * 3);
+        for (int i = 0; i < length; i++) {
+            if (spaces && i > 0) out.append(' ');
+            out.append(String.format(Locale.US, "%02X", data[offset + i] & 0xFF));
+        }
+        return out.toString();
+    }
+
+    private String corrupt(String response) {
+        int prompt = response.lastIndexOf('>');
+        if (prompt <= 1) return response;
+        int at = random.nextInt(prompt);
+        switch (random.nextInt(3)) {
+            case 0: return response.substring(0, at) + "\u0000" + response.substring(at);
+            case 1: return response.substring(0, at) + response.substring(at + 1);
+            default: return response.substring(0, at) + "\rCAN ERROR\r" + response.substring(at);
+        }
+    }
+
+    private synchronized int availableResponse() throws IOException {
+        if (closed) throw new IOException("Emulator closed");
+        long now = System.nanoTime();
+        int available = 0;
+        int index = 0;
+        Iterator<Long> times = readyAt.iterator();
+        for (byte[] chunk : chunks) {
+            if (times.next() > now) break;
+            available += chunk.length - (index == 0 ? chunkOffset : 0);
+            index++;
+        }
+        return available;
+    }
+
+    private synchronized int readResponse(byte[] buffer, int offset, int length) throws IOException {
+        while (true) {
+            if (closed) return -1;
+            if (!chunks.isEmpty()) {
+                long waitNs = readyAt.peekFirst() - System.nanoTime();
+                if (waitNs <= 0) break;
+                try {
+                    wait(Math.max(1, waitNs / 1_000_000L));
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted", e);
+                }
+            } else {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted", e);
+                }
+            }
+        }
+        int read = 0;
+        while (read < length && !chunks.isEmpty() && readyAt.peekFirst() <= System.nanoTime()) {
+            byte[] chunk = chunks.peekFirst();
+            int n = Math.min(length - read, chunk.length - chunkOffset);
+            System.arraycopy(chunk, chunkOffset, buffer, offset + read, n);
+            read += n;
+            chunkOffset += n;
+            if (chunkOffset == chunk.length) {
+                chunks.pollFirst();
+                readyAt.pollFirst();
+                chunkOffset = 0;
+            }
+        }
+        return read;
+    }
+}
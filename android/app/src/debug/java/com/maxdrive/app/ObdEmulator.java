@@ -0,0 +1,12 @@
+package com.maxdrive.app;
+
+// Debug builds can stream from an in-process ELM327 when the "emulator" target is requested.
+final class ObdEmulator {
+    private ObdEmulator() {}
+
+    static ObdSessionManager.Link open() {
+        Elm327Emulator emulator = new Elm327Emulator(30, 20, 0.01, 2, true, System.nanoTime());
+        return new ObdSessionManager.Link(emulator.input, emulator.output, emulator.output,
+                ObdSessionManager.TARGET_EMULATOR, ObdSessionManager.TARGET_EMULATOR);
+    }
+}
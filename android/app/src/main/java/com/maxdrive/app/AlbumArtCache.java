@@ -0,0 +1,130 @@
+package com.maxdrive.app;
+
+import android.graphics.Bitmap;
+import android.media.MediaMetadata;
+import android.util.Log;
+import android.util.LruCache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class AlbumArtCache {
+    private static final String TAG = "AlbumArtCache";
+    static final String ROUTE = "art";
+    static final int MAX_SIZE_PX = 256;
+    private static final int QUALITY = 80;
+    private static final int MAX_BYTES = 2 * 1024 * 1024;
+    private static final String[] ART_KEYS = {
+            MediaMetadata.METADATA_KEY_ART, MediaMetadata.METADATA_KEY_ALBUM_ART, MediaMetadata.METADATA_KEY_DISPLAY_ICON};
+
+    private static final AlbumArtCache SHARED = new AlbumArtCache();
+
+    private final LruCache<String, byte[]> cache = new LruCache<String, byte[]>(MAX_BYTES) {
+        @Override
+        protected int sizeOf(String key, byte[] value) {
+            return value.length;
+        }
+    };
+    private final ConcurrentHashMap<String, Future<byte[]>> pending = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "AlbumArt");
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    static AlbumArtCache shared() {
+        return SHARED;
+    }
+
+    void register(LocalResourceServer server) {
+        server.register(ROUTE, (id, uri) -> {
+            byte[] bytes = get(id);
+            return bytes != null ? LocalResourceServer.Resource.ofBytes(bytes, IconRenderer.MIME_TYPE) : null;
+        });
+    }
+
+    String urlFor(MediaMetadata metadata, String packageName) {
+        Bitmap art = artwork(metadata);
+        if (art == null) return null;
+        String key = keyFor(metadata, packageName);
+        if (cache.get(key) == null) {
+            pending.computeIfAbsent(key, k -> executor.submit(() -> {
+                try {
+                    byte[] bytes = encode(art);
+                    if (bytes != null) cache.put(k, bytes);
+                    return bytes;
+                } finally {
+                    pending.remove(k);
+                }
+            }));
+        }
+        return LocalResourceServer.urlFor(ROUTE, key, key);
+    }
+
+    byte[] get(String key) {
+        byte[] bytes = cache.get(key);
+        if (bytes != null) return bytes;
+        Future<byte[]> future = pending.get(key);
+        if (future == null) return null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static Bitmap artwork(MediaMetadata metadata) {
+        for (String key : ART_KEYS) {
+            Bitmap bitmap = metadata.getBitmap(key);
+            if (bitmap != null && !bitmap.isRecycled() && bitmap.getWidth() > 0 && bitmap.getHeight() > 0) return bitmap;
+        }
+        return null;
+    }
+
+    static String keyFor(MediaMetadata metadata, String packageName) {
+        String mediaId = metadata.getString(MediaMetadata.METADATA_KEY_MEDIA_ID);
+        long hash = hash(0xcbf29ce484222325L, packageName);
+        if (mediaId != null && !mediaId.isEmpty()) {
+            hash = hash(hash, mediaId);
+        } else {
+            hash = hash(hash, metadata.getString(MediaMetadata.METADATA_KEY_TITLE));
+            hash = hash(hash, metadata.getString(MediaMetadata.METADATA_KEY_ARTIST));
+            hash = hash(hash, metadata.getString(MediaMetadata.METADATA_KEY_ALBUM));
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long hash(long hash, String value) {
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+        hash ^= 0xFF;
+        return hash * 0x100000001b3L;
+    }
+
+    private static byte[] encode(Bitmap source) {
+        try {
+            float scale = Math.min(1f, MAX_SIZE_PX / (float) Math.max(source.getWidth(), source.getHeight()));
+            int width = Math.max(1, Math.round(source.getWidth() * scale));
+            int height = Math.max(1, Math.round(source.getHeight() * scale));
+            Bitmap scaled = scale < 1f ? Bitmap.createScaledBitmap(source, width, height, true) : source;
+            ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+            boolean ok = scaled.compress(IconRenderer.compressFormat(), QUALITY, out);
+            if (scaled != source) scaled.recycle();
+            return ok ? out.toByteArray() : null;
+        } catch (Exception e) {
+            Log.w(TAG, "Could not encode album art", e);
+            return null;
+        }
+    }
+}
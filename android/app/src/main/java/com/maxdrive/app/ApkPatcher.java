@@ -0,0 +1,154 @@
+package com.maxdrive.app;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+class ApkPatcher {
+    static final byte[] MAGIC = "MXDELTA/BSDIFF43".getBytes(StandardCharsets.US_ASCII);
+    static final int HASH_SIZE = 32;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static String apply(File oldFile, InputStream patch, File outFile) throws IOException {
+        DataInputStream header = new DataInputStream(new BufferedInputStream(patch, BUFFER_SIZE));
+        byte[] magic = new byte[MAGIC.length];
+        header.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) throw new IOException("Not a delta patch");
+        long newSize = readOffset(header);
+        byte[] oldHash = new byte[HASH_SIZE];
+        byte[] newHash = new byte[HASH_SIZE];
+        header.readFully(oldHash);
+        header.readFully(newHash);
+        if (newSize < 0) throw new IOException("Corrupt patch header");
+        if (!MessageDigest.isEqual(oldHash, sha256(oldFile))) throw new IOException("Patch does not match the installed APK");
+
+        MessageDigest digest = newDigest();
+        Inflater inflater = new Inflater();
+        try (RandomAccessFile old = new RandomAccessFile(oldFile, "r");
+             OutputStream out = new DigestOutputStream(new BufferedOutputStream(new FileOutputStream(outFile), BUFFER_SIZE), digest)) {
+            DataInputStream body = new DataInputStream(new InflaterInputStream(header, inflater, BUFFER_SIZE));
+            long oldSize = old.length();
+            byte[] data = new byte[BUFFER_SIZE];
+            byte[] base = new byte[BUFFER_SIZE];
+            long oldPos = 0;
+            long newPos = 0;
+            while (newPos < newSize) {
+                long diffLength = readOffset(body);
+                long extraLength = readOffset(body);
+                long seek = readOffset(body);
+                if (diffLength < 0 || extraLength < 0 || diffLength + extraLength > newSize - newPos) {
+                    throw new IOException("Corrupt patch control block");
+                }
+                for (long remaining = diffLength; remaining > 0; ) {
+                    int n = (int) Math.min(BUFFER_SIZE, remaining);
+                    body.readFully(data, 0, n);
+                    readOld(old, oldSize, oldPos, base, n);
+                    for (int i = 0; i < n; i++) data[i] += base[i];
+                    out.write(data, 0, n);
+                    oldPos += n;
+                    remaining -= n;
+                }
+                for (long remaining = extraLength; remaining > 0; ) {
+                    int n = (int) Math.min(BUFFER_SIZE, remaining);
+                    body.readFully(data, 0, n);
+                    out.write(data, 0, n);
+                    remaining -= n;
+                }
+                newPos += diffLength + extraLength;
+                oldPos += seek;
+            }
+        } catch (IOException e) {
+            outFile.delete();
+            throw e;
+        } finally {
+            inflater.end();
+        }
+
+        byte[] actual = digest.digest();
+        if (!MessageDigest.isEqual(newHash, actual)) {
+            outFile.delete();
+            throw new IOException("Patched APK failed verification");
+        }
+        return hex(actual);
+    }
+
+    static byte[] sha256(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) != -1) digest.update(buffer, 0, n);
+        }
+        return digest.digest();
+    }
+
+    static String sha256Hex(File file) throws IOException {
+        return hex(sha256(file));
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    static void writeOffset(OutputStream out, long value) throws IOException {
+        long magnitude = Math.abs(value);
+        for (int i = 0; i < 8; i++) {
+            int b = (int) (magnitude >>> (8 * i)) & 0xff;
+            if (i == 7 && value < 0) b |= 0x80;
+            out.write(b);
+        }
+    }
+
+    static long readOffset(InputStream in) throws IOException {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            int b = in.read();
+            if (b < 0) throw new EOFException("Truncated patch");
+            value |= (long) (i == 7 ? b & 0x7f : b) << (8 * i);
+            if (i == 7 && (b & 0x80) != 0) value = -value;
+        }
+        return value;
+    }
+
+    private static void readOld(RandomAccessFile old, long oldSize, long oldPos, byte[] base, int n) throws IOException {
+        long start = Math.max(0, oldPos);
+        long end = Math.min(oldSize, oldPos + n);
+        if (start >= end) {
+            Arrays.fill(base, 0, n, (byte) 0);
+            return;
+        }
+        int offset = (int) (start - oldPos);
+        int length = (int) (end - start);
+        Arrays.fill(base, 0, offset, (byte) 0);
+        old.seek(start);
+        old.readFully(base, offset, length);
+        Arrays.fill(base, offset + length, n, (byte) 0);
+    }
+}
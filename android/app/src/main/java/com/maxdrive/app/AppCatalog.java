@@ -0,0 +1,128 @@
+package com.maxdrive.app;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.content.pm.ResolveInfo;
+import android.util.Log;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class AppCatalog {
+    private static final String TAG = "AppCatalog";
+
+    interface Listener {
+        void onCatalogChanged(long version);
+    }
+
+    private final PackageManager packageManager;
+    private final IconCache iconCache;
+    private final Map<String, CatalogEntry> entries = new HashMap<>();
+    private final long baseVersion = System.currentTimeMillis();
+    private long version = baseVersion;
+    private boolean loaded = false;
+    private Listener listener;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "AppCatalog");
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    AppCatalog(Context context, IconCache iconCache) {
+        this.packageManager = context.getPackageManager();
+        this.iconCache = iconCache;
+    }
+
+    void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    synchronized String getAppsJson() {
+        ensureLoaded();
+        return CatalogEntry.appsJson(entries.values());
+    }
+
+    synchronized String getDeltaJson(long sinceVersion) {
+        ensureLoaded();
+        return CatalogEntry.deltaJson(entries.values(), sinceVersion, baseVersion, version);
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    void onPackageChanged(String packageName) {
+        executor.execute(() -> {
+            try {
+                refreshPackage(packageName);
+            } catch (Exception e) {
+                Log.w(TAG, "Failed to refresh " + packageName, e);
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        loaded = true;
+        Intent intent = new Intent(Intent.ACTION_MAIN, null);
+        intent.addCategory(Intent.CATEGORY_LAUNCHER);
+        List<ResolveInfo> apps = packageManager.queryIntentActivities(intent, 0);
+        Set<String> seenPackages = new HashSet<>();
+        for (ResolveInfo resolveInfo : apps) {
+            String packageName = resolveInfo.activityInfo.packageName;
+            if (!seenPackages.add(packageName)) continue;
+            update(packageName, resolveInfo);
+        }
+    }
+
+    private void refreshPackage(String packageName) {
+        Intent intent = new Intent(Intent.ACTION_MAIN, null);
+        intent.addCategory(Intent.CATEGORY_LAUNCHER);
+        intent.setPackage(packageName);
+        List<ResolveInfo> activities = packageManager.queryIntentActivities(intent, 0);
+
+        long before;
+        long after;
+        synchronized (this) {
+            if (!loaded) {
+                if (activities.isEmpty()) iconCache.evict(packageName);
+                else iconCache.prefetch(activities.get(0), iconCache.cacheKey(packageName));
+                return;
+            }
+            before = version;
+            if (activities.isEmpty()) {
+                iconCache.evict(packageName);
+                CatalogEntry existing = entries.get(packageName);
+                if (existing != null && !existing.removed) {
+                    entries.put(packageName, new CatalogEntry(packageName, existing.name, existing.category, null, null, ++version, true));
+                }
+            } else {
+                update(packageName, activities.get(0));
+            }
+            after = version;
+        }
+        Listener l = listener;
+        if (l != null && after != before) l.onCatalogChanged(after);
+    }
+
+    private void update(String packageName, ResolveInfo resolveInfo) {
+        String name = resolveInfo.loadLabel(packageManager).toString();
+        boolean isSystemApp = (resolveInfo.activityInfo.applicationInfo.flags & ApplicationInfo.FLAG_SYSTEM) != 0;
+        String category = isSystemApp ? "System" : "App";
+        String iconKey = iconCache.cacheKey(packageName);
+
+        CatalogEntry existing = entries.get(packageName);
+        if (existing != null && existing.sameAs(name, category, iconKey)) return;
+
+        String icon = iconCache.urlFor(packageName, iconKey);
+        iconCache.prefetch(resolveInfo, iconKey);
+        entries.put(packageName, new CatalogEntry(packageName, name, category, iconKey, icon, ++version, false));
+    }
+}
@@ -0,0 +1,95 @@
+package com.maxdrive.app;
+
+import android.util.Log;
+import android.webkit.JavascriptInterface;
+import android.webkit.WebView;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AsyncBridge {
+    private static final String TAG = "AsyncBridge";
+    private static final int MAX_WORKERS = 4;
+
+    private final Object target;
+    private final WebView webView;
+    private final Map<String, Method> methods = new HashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    AsyncBridge(Object target, WebView webView) {
+        this.target = target;
+        this.webView = webView;
+        for (Method method : target.getClass().getMethods()) {
+            if (method.isAnnotationPresent(JavascriptInterface.class) && !method.getName().equals("invokeAsync")) {
+                methods.put(method.getName(), method);
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(MAX_WORKERS, MAX_WORKERS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> new Thread(r, "AsyncBridge-" + count.incrementAndGet()));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    boolean invoke(int requestId, String methodName, String argsJson) {
+        Method method = methods.get(methodName);
+        if (method == null) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    Object result = method.invoke(target, convertArgs(method.getParameterTypes(), argsJson));
+                    deliver(requestId, true, result);
+                } catch (InvocationTargetException e) {
+                    Log.w(TAG, methodName + " failed", e.getCause());
+                    deliver(requestId, false, String.valueOf(e.getCause()));
+                } catch (Exception e) {
+                    Log.w(TAG, methodName + " failed", e);
+                    deliver(requestId, false, e.toString());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        return true;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Object[] convertArgs(Class<?>[] types, String argsJson) throws JSONException {
+        JSONArray args = argsJson != null && !argsJson.isEmpty() ? new JSONArray(argsJson) : new JSONArray();
+        Object[] values = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            boolean missing = i >= args.length() || args.isNull(i);
+            if (type == String.class) values[i] = missing ? null : args.getString(i);
+            else if (type == int.class) values[i] = missing ? 0 : args.getInt(i);
+            else if (type == long.class) values[i] = missing ? 0L : args.getLong(i);
+            else if (type == double.class) values[i] = missing ? 0d : args.getDouble(i);
+            else if (type == float.class) values[i] = missing ? 0f : (float) args.getDouble(i);
+            else if (type == boolean.class) values[i] = !missing && args.getBoolean(i);
+            else throw new JSONException("Unsupported parameter type " + type.getName());
+        }
+        return values;
+    }
+
+    private void deliver(int requestId, boolean ok, Object result) {
+        String value;
+        if (result == null) value = "null";
+        else if (result instanceof String) value = JSONObject.quote((String) result);
+        else value = String.valueOf(result);
+        String script = "window.__maxdriveBridge && window.__maxdriveBridge.resolve(" + requestId + "," + ok + "," + value + ");";
+        webView.post(() -> webView.evaluateJavascript(script, null));
+    }
+}
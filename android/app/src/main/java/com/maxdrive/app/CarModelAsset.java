@@ -0,0 +1,66 @@
+package com.maxdrive.app;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+// Serves the build-time car model (see ModelCompiler) from APK assets; LOD and texture URLs carry
+// the manifest version, so the WebView caches them as immutable.
+class CarModelAsset {
+    static final String ROUTE = "model";
+    static final String ASSET_DIR = "car-model";
+    private static final Pattern ID = Pattern.compile("manifest|texture|lod[0-9]");
+    private static final String BINARY_TYPE = "application/octet-stream";
+
+    private final AssetManager assets;
+    private volatile byte[] manifest;
+    private volatile String textureType;
+
+    CarModelAsset(Context context) {
+        this.assets = context.getAssets();
+    }
+
+    void register(LocalResourceServer server) {
+        server.register(ROUTE, (id, uri) -> {
+            if (!ID.matcher(id).matches()) return null;
+            if (id.equals("manifest")) return LocalResourceServer.Resource.ofBytes(manifest(), "application/json");
+            String type = id.equals("texture") ? textureType() : BINARY_TYPE;
+            return new LocalResourceServer.Resource(type, assets.open(ASSET_DIR + "/" + id + ".bin"), -1);
+        });
+    }
+
+    private byte[] manifest() throws IOException {
+        byte[] bytes = manifest;
+        if (bytes == null) {
+            try (InputStream in = assets.open(ASSET_DIR + "/manifest.json")) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int n;
+                while ((n = in.read(buffer)) != -1) out.write(buffer, 0, n);
+                bytes = out.toByteArray();
+            }
+            manifest = bytes;
+        }
+        return bytes;
+    }
+
+    private String textureType() throws IOException {
+        String type = textureType;
+        if (type == null) {
+            try {
+                JSONObject texture = new JSONObject(new String(manifest(), "UTF-8")).optJSONObject("texture");
+                type = texture != null ? texture.optString("type", BINARY_TYPE) : BINARY_TYPE;
+            } catch (Exception e) {
+                type = BINARY_TYPE;
+            }
+            textureType = type;
+        }
+        return type;
+    }
+}
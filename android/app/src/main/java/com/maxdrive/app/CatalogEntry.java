@@ -0,0 +1,71 @@
+package com.maxdrive.app;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+final class CatalogEntry {
+    final String packageName;
+    final String name;
+    final String category;
+    final String iconKey;
+    final String icon;
+    final long version;
+    final boolean removed;
+
+    CatalogEntry(String packageName, String name, String category, String iconKey, String icon, long version, boolean removed) {
+        this.packageName = packageName;
+        this.name = name;
+        this.category = category;
+        this.iconKey = iconKey;
+        this.icon = icon;
+        this.version = version;
+        this.removed = removed;
+    }
+
+    boolean sameAs(String name, String category, String iconKey) {
+        return !removed && this.name.equals(name) && this.category.equals(category)
+                && (this.iconKey == null ? iconKey == null : this.iconKey.equals(iconKey));
+    }
+
+    JSONObject toJson() {
+        JSONObject obj = new JSONObject();
+        try {
+            obj.put("name", name);
+            obj.put("packageName", packageName);
+            obj.put("icon", icon);
+            obj.put("category", category);
+        } catch (JSONException ignored) {}
+        return obj;
+    }
+
+    static String appsJson(Iterable<CatalogEntry> entries) {
+        JSONArray array = new JSONArray();
+        for (CatalogEntry entry : entries) {
+            if (!entry.removed) array.put(entry.toJson());
+        }
+        return array.toString();
+    }
+
+    static String deltaJson(Iterable<CatalogEntry> entries, long sinceVersion, long baseVersion, long version) {
+        boolean full = sinceVersion < baseVersion || sinceVersion > version;
+        JSONArray apps = new JSONArray();
+        JSONArray removed = new JSONArray();
+        for (CatalogEntry entry : entries) {
+            if (!full && entry.version <= sinceVersion) continue;
+            if (entry.removed) {
+                if (!full) removed.put(entry.packageName);
+            } else {
+                apps.put(entry.toJson());
+            }
+        }
+        JSONObject delta = new JSONObject();
+        try {
+            delta.put("version", version);
+            delta.put("full", full);
+            delta.put("apps", apps);
+            delta.put("removed", removed);
+        } catch (JSONException ignored) {}
+        return delta.toString();
+    }
+}
@@ -0,0 +1,233 @@
+package com.maxdrive.app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class Elm327Engine implements ObdParser.Listener {
+    private static final int MAX_PIDS_PER_REQUEST = 6;
+    private static final int MAX_FAILURES = 3;
+    private static final long COMMAND_TIMEOUT_MS = 1000;
+    private static final long RESET_TIMEOUT_MS = 3000;
+    private static final long SEARCH_TIMEOUT_MS = 8000;
+    private static final long STALL_TIMEOUT_MS = 5000;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    static final class PidSchedule {
+        final int pid;
+        final long periodMs;
+        long nextDueMs = 0;
+        int failures = 0;
+        boolean enabled = true;
+        boolean answered = false;
+
+        PidSchedule(int pid, long periodMs) {
+            this.pid = pid;
+            this.periodMs = periodMs;
+        }
+    }
+
+    private final InputStream in;
+    private final OutputStream out;
+    private final ObdParser.Listener listener;
+    private final ObdParser parser = new ObdParser(this);
+    private final List<PidSchedule> schedule = new ArrayList<>();
+    private final PidSchedule[] scheduleByPid = new PidSchedule[256];
+    private final byte[] readBuffer = new byte[512];
+    private final byte[] requestBuffer = new byte[3 + MAX_PIDS_PER_REQUEST * 2];
+    private volatile boolean running = false;
+    private boolean multiPid = false;
+
+    private long requests = 0;
+    private volatile long startedAtMs = 0;
+    private long lastResponseMs = 0;
+
+    Elm327Engine(InputStream in, OutputStream out, ObdParser.Listener listener) {
+        this.in = in;
+        this.out = out;
+        this.listener = listener;
+        schedule.add(new PidSchedule(ObdParser.PID_SPEED, 0));
+        schedule.add(new PidSchedule(ObdParser.PID_RPM, 0));
+        schedule.add(new PidSchedule(ObdParser.PID_ENGINE_LOAD, 250));
+        schedule.add(new PidSchedule(ObdParser.PID_THROTTLE, 250));
+        schedule.add(new PidSchedule(ObdParser.PID_COOLANT_TEMP, 2000));
+        schedule.add(new PidSchedule(ObdParser.PID_INTAKE_TEMP, 5000));
+        schedule.add(new PidSchedule(ObdParser.PID_FUEL_LEVEL, 10000));
+        for (PidSchedule p : schedule) scheduleByPid[p.pid] = p;
+        requestBuffer[0] = '0';
+        requestBuffer[1] = '1';
+    }
+
+    void initialize() throws IOException {
+        command("ATZ", RESET_TIMEOUT_MS);
+        command("ATE0", COMMAND_TIMEOUT_MS);
+        command("ATL0", COMMAND_TIMEOUT_MS);
+        command("ATS0", COMMAND_TIMEOUT_MS);
+        command("ATH0", COMMAND_TIMEOUT_MS);
+        command("ATAT2", COMMAND_TIMEOUT_MS);
+        command("ATSP0", COMMAND_TIMEOUT_MS);
+
+        parser.reset();
+        request(new int[]{ObdParser.PID_SUPPORTED_01_20}, 1, SEARCH_TIMEOUT_MS);
+        for (PidSchedule p : schedule) p.enabled = parser.isSupported(p.pid);
+        probeMultiPid();
+    }
+
+    void run() throws IOException {
+        running = true;
+        startedAtMs = System.currentTimeMillis();
+        lastResponseMs = startedAtMs;
+        int[] batch = new int[MAX_PIDS_PER_REQUEST];
+        while (running) {
+            long now = System.currentTimeMillis();
+            if (now - lastResponseMs > STALL_TIMEOUT_MS) throw new IOException("ELM327 stopped responding");
+            int count = collectDue(now, batch, multiPid ? MAX_PIDS_PER_REQUEST : 1);
+            if (count == 0) {
+                sleepUntilNextDue(now);
+                continue;
+            }
+            request(batch, count, COMMAND_TIMEOUT_MS);
+            requests++;
+            updateSchedule(batch, count, now);
+        }
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    boolean isMultiPid() {
+        return multiPid;
+    }
+
+    double samplesPerSecond() {
+        long elapsed = System.currentTimeMillis() - startedAtMs;
+        return startedAtMs > 0 && elapsed > 0 ? parser.samples * 1000.0 / elapsed : 0;
+    }
+
+    long requestCount() {
+        return requests;
+    }
+
+    @Override
+    public void onSample(int pid, double value, long timestampMs) {
+        PidSchedule p = scheduleByPid[pid];
+        if (p != null) p.answered = true;
+        listener.onSample(pid, value, timestampMs);
+    }
+
+    private int collectDue(long now, int[] batch, int max) {
+        int count = 0;
+        while (count < max) {
+            PidSchedule next = null;
+            for (int i = 0; i < schedule.size(); i++) {
+                PidSchedule p = schedule.get(i);
+                if (!p.enabled || p.nextDueMs > now || contains(batch, count, p.pid)) continue;
+                if (next == null || p.nextDueMs < next.nextDueMs) next = p;
+            }
+            if (next == null) break;
+            batch[count++] = next.pid;
+        }
+        return count;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private void sleepUntilNextDue(long now) {
+        long next = Long.MAX_VALUE;
+        for (PidSchedule p : schedule) {
+            if (p.enabled) next = Math.min(next, p.nextDueMs);
+        }
+        if (next == Long.MAX_VALUE) {
+            running = false;
+            return;
+        }
+        try {
+            Thread.sleep(Math.max(1, Math.min(next - now, 100)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void updateSchedule(int[] batch, int count, long now) {
+        for (int i = 0; i < count; i++) {
+            PidSchedule p = scheduleByPid[batch[i]];
+            p.nextDueMs = now + p.periodMs;
+            if (p.answered) {
+                p.failures = 0;
+            } else if (++p.failures >= MAX_FAILURES && p.periodMs > 0) {
+                p.enabled = false;
+            }
+            p.answered = false;
+        }
+    }
+
+    private void probeMultiPid() throws IOException {
+        long before = parser.samples;
+        request(new int[]{ObdParser.PID_SPEED, ObdParser.PID_RPM}, 2, COMMAND_TIMEOUT_MS);
+        multiPid = parser.samples - before >= 2;
+    }
+
+    private void request(int[] pids, int count, long timeoutMs) throws IOException {
+        int length = 2;
+        for (int i = 0; i < count; i++) {
+            requestBuffer[length++] = HEX[(pids[i] >> 4) & 0xF];
+            requestBuffer[length++] = HEX[pids[i] & 0xF];
+        }
+        requestBuffer[length++] = '\r';
+        out.write(requestBuffer, 0, length);
+        out.flush();
+
+        long prompts = parser.prompts;
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (parser.prompts == prompts && System.currentTimeMillis() < deadline) {
+            int read = readAvailable();
+            if (read < 0) break;
+            if (read > 0) parser.feed(readBuffer, 0, read, System.currentTimeMillis());
+        }
+        if (parser.prompts != prompts) lastResponseMs = System.currentTimeMillis();
+    }
+
+    String command(String cmd, long timeoutMs) throws IOException {
+        out.write((cmd + "\r").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+
+        StringBuilder response = new StringBuilder();
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (System.currentTimeMillis() < deadline) {
+            int read = readAvailable();
+            if (read < 0) break;
+            for (int i = 0; i < read; i++) {
+                char c = (char) readBuffer[i];
+                if (c == '>') return response.toString();
+                response.append(c);
+            }
+        }
+        return response.toString();
+    }
+
+    private int readAvailable() throws IOException {
+        int available = in.available();
+        if (available <= 0) {
+            try {
+                Thread.sleep(2);
+                return 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+        int read = in.read(readBuffer, 0, Math.min(available, readBuffer.length));
+        if (read < 0) throw new IOException("OBD stream closed");
+        return read;
+    }
+}
@@ -0,0 +1,132 @@
+package com.maxdrive.app;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.content.pm.ResolveInfo;
+import android.util.Log;
+
+import androidx.core.content.pm.PackageInfoCompat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+class IconCache {
+    private static final String TAG = "IconCache";
+    static final String ROUTE = "icon";
+
+    private final PackageManager packageManager;
+    private final File cacheDir;
+    private final IconRenderer renderer;
+    private final ConcurrentHashMap<String, Future<File>> pending = new ConcurrentHashMap<>();
+
+    IconCache(Context context, IconRenderer renderer) {
+        this.packageManager = context.getPackageManager();
+        this.renderer = renderer;
+        this.cacheDir = new File(context.getCacheDir(), "icons");
+        if (!cacheDir.exists() && !cacheDir.mkdirs()) {
+            Log.w(TAG, "Could not create icon cache directory");
+        }
+    }
+
+    void register(LocalResourceServer server) {
+        server.register(ROUTE, (id, uri) -> {
+            int tier = "2".equals(uri.getQueryParameter("s")) ? 2 : 1;
+            File file = getIconFile(id, tier);
+            return file != null ? LocalResourceServer.Resource.ofFile(file, IconRenderer.MIME_TYPE) : null;
+        });
+    }
+
+    String urlFor(String packageName, String key) {
+        String version = key != null ? key.substring(packageName.length() + 1) : "0";
+        return LocalResourceServer.urlFor(ROUTE, packageName, version);
+    }
+
+    File getIconFile(String packageName, int tier) {
+        String key = cacheKey(packageName);
+        if (key == null) return null;
+        File file = fileFor(key, tier);
+        if (file.exists()) return file;
+
+        Intent intent = new Intent(Intent.ACTION_MAIN, null);
+        intent.addCategory(Intent.CATEGORY_LAUNCHER);
+        intent.setPackage(packageName);
+        List<ResolveInfo> activities = packageManager.queryIntentActivities(intent, 0);
+        if (activities.isEmpty()) return null;
+        return await(submit(activities.get(0), key, tier));
+    }
+
+    Future<File> submit(ResolveInfo resolveInfo, String key, int tier) {
+        File file = fileFor(key, tier);
+        return pending.computeIfAbsent(file.getName(), name -> renderer.pool().submit(() -> {
+            try {
+                if (file.exists()) return file;
+                evictStale(resolveInfo.activityInfo.packageName, key);
+                return write(resolveInfo, file, tier) ? file : null;
+            } finally {
+                pending.remove(name);
+            }
+        }));
+    }
+
+    void prefetch(ResolveInfo resolveInfo, String key) {
+        if (key != null && !fileFor(key, 1).exists()) submit(resolveInfo, key, 1);
+    }
+
+    void evict(String packageName) {
+        evictStale(packageName, null);
+    }
+
+    String cacheKey(String packageName) {
+        try {
+            PackageInfo info = packageManager.getPackageInfo(packageName, 0);
+            return packageName + "@" + PackageInfoCompat.getLongVersionCode(info) + "@" + info.lastUpdateTime;
+        } catch (PackageManager.NameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private File fileFor(String key, int tier) {
+        return new File(cacheDir, key + "@" + tier + IconRenderer.EXTENSION);
+    }
+
+    private void evictStale(String packageName, String keepKey) {
+        String prefix = packageName + "@";
+        String keep = keepKey != null ? keepKey + "@" : null;
+        File[] files = cacheDir.listFiles((dir, name) -> name.startsWith(prefix) && (keep == null || !name.startsWith(keep)));
+        if (files == null) return;
+        for (File f : files) {
+            if (!f.delete()) Log.w(TAG, "Could not delete stale icon " + f.getName());
+        }
+    }
+
+    private boolean write(ResolveInfo resolveInfo, File file, int tier) {
+        File tmp = new File(file.getPath() + ".tmp");
+        boolean ok;
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            ok = renderer.render(resolveInfo.activityInfo.packageName, resolveInfo.loadIcon(packageManager), IconRenderer.sizeForTier(tier), out);
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to write icon cache entry", e);
+            ok = false;
+        }
+        if (ok && tmp.renameTo(file)) return true;
+        tmp.delete();
+        return false;
+    }
+
+    private static File await(Future<File> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.maxdrive.app;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.os.SystemClock;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class IconRenderer {
+    static final int BASE_SIZE_PX = 90;
+    static final String MIME_TYPE = "image/webp";
+    static final String EXTENSION = ".webp";
+    private static final int QUALITY = 90;
+    private static final int MAX_RECENT = 32;
+
+    private final ExecutorService pool;
+    private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG | Paint.ANTI_ALIAS_FLAG);
+
+    private long rendered = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+    private long firstStart = 0;
+    private long lastEnd = 0;
+    private final ArrayDeque<JSONObject> recent = new ArrayDeque<>();
+
+    IconRenderer() {
+        int workers = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger count = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "IconRenderer-" + count.incrementAndGet());
+            t.setPriority(Thread.NORM_PRIORITY - 1);
+            return t;
+        });
+    }
+
+    ExecutorService pool() {
+        return pool;
+    }
+
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    static int sizeForTier(int tier) {
+        return BASE_SIZE_PX * (tier == 2 ? 2 : 1);
+    }
+
+    boolean render(String packageName, Drawable drawable, int size, OutputStream out) throws IOException {
+        long start = SystemClock.elapsedRealtimeNanos();
+        Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        if (drawable instanceof BitmapDrawable bitmapDrawable && bitmapDrawable.getBitmap() != null) {
+            Bitmap source = bitmapDrawable.getBitmap();
+            canvas.drawBitmap(source, new Rect(0, 0, source.getWidth(), source.getHeight()), new Rect(0, 0, size, size), paint);
+        } else {
+            drawable.setBounds(0, 0, size, size);
+            drawable.draw(canvas);
+        }
+        long drawn = SystemClock.elapsedRealtimeNanos();
+
+        boolean ok = bitmap.compress(compressFormat(), QUALITY, out);
+        bitmap.recycle();
+        long end = SystemClock.elapsedRealtimeNanos();
+        record(packageName, size, start, drawn, end);
+        return ok;
+    }
+
+    @SuppressWarnings("deprecation")
+    static Bitmap.CompressFormat compressFormat() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R ? Bitmap.CompressFormat.WEBP_LOSSY : Bitmap.CompressFormat.WEBP;
+    }
+
+    private synchronized void record(String packageName, int size, long start, long drawn, long end) {
+        long nanos = end - start;
+        rendered++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        if (firstStart == 0) firstStart = start;
+        lastEnd = end;
+
+        try {
+            JSONObject entry = new JSONObject();
+            entry.put("packageName", packageName);
+            entry.put("size", size);
+            entry.put("drawMs", (drawn - start) / 1e6);
+            entry.put("encodeMs", (end - drawn) / 1e6);
+            recent.addLast(entry);
+            if (recent.size() > MAX_RECENT) recent.removeFirst();
+        } catch (JSONException ignored) {}
+    }
+
+    synchronized String getStatsJson() {
+        JSONObject stats = new JSONObject();
+        try {
+            stats.put("rendered", rendered);
+            stats.put("totalMs", totalNanos / 1e6);
+            stats.put("avgMs", rendered > 0 ? totalNanos / 1e6 / rendered : 0);
+            stats.put("maxMs", maxNanos / 1e6);
+            stats.put("wallMs", firstStart > 0 ? (lastEnd - firstStart) / 1e6 : 0);
+            stats.put("recent", new JSONArray(recent));
+        } catch (JSONException ignored) {}
+        return stats.toString();
+    }
+}
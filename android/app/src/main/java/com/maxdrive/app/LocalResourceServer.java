@@ -0,0 +1,85 @@
+package com.maxdrive.app;
+
+import android.net.Uri;
+import android.util.Log;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class LocalResourceServer {
+    private static final String TAG = "LocalResourceServer";
+    static final String PATH_PREFIX = "/_maxdrive/";
+
+    interface Handler {
+        Resource open(String id, Uri uri) throws IOException;
+    }
+
+    static final class Resource {
+        final String mimeType;
+        final InputStream stream;
+        final long length;
+
+        Resource(String mimeType, InputStream stream, long length) {
+            this.mimeType = mimeType;
+            this.stream = stream;
+            this.length = length;
+        }
+
+        static Resource ofFile(File file, String mimeType) throws IOException {
+            return new Resource(mimeType, new FileInputStream(file), file.length());
+        }
+
+        static Resource ofBytes(byte[] bytes, String mimeType) {
+            return new Resource(mimeType, new ByteArrayInputStream(bytes), bytes.length);
+        }
+    }
+
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+
+    void register(String route, Handler handler) {
+        handlers.put(route, handler);
+    }
+
+    static String urlFor(String route, String id, String version) {
+        return PATH_PREFIX + route + "/" + Uri.encode(id) + "?v=" + Uri.encode(version);
+    }
+
+    WebResourceResponse intercept(WebResourceRequest request) {
+        Uri uri = request.getUrl();
+        String path = uri.getPath();
+        if (path == null || !path.startsWith(PATH_PREFIX)) return null;
+
+        List<String> segments = uri.getPathSegments();
+        if (segments.size() < 3) return notFound();
+        Handler handler = handlers.get(segments.get(1));
+        if (handler == null) return notFound();
+
+        try {
+            Resource resource = handler.open(segments.get(2), uri);
+            if (resource == null) return notFound();
+
+            Map<String, String> headers = new HashMap<>();
+            headers.put("Cache-Control", uri.getQueryParameter("v") != null ? "public, max-age=31536000, immutable" : "no-cache");
+            if (resource.length >= 0) headers.put("Content-Length", String.valueOf(resource.length));
+            return new WebResourceResponse(resource.mimeType, null, 200, "OK", headers, resource.stream);
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to serve " + path, e);
+            return notFound();
+        }
+    }
+
+    private static WebResourceResponse notFound() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Cache-Control", "no-store");
+        return new WebResourceResponse("text/plain", "utf-8", 404, "Not Found", headers, new ByteArrayInputStream(new byte[0]));
+    }
+}
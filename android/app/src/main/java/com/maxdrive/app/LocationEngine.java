@@ -0,0 +1,215 @@
+package com.maxdrive.app;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.location.Location;
+import android.location.LocationListener;
+import android.location.LocationManager;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.core.content.ContextCompat;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+class LocationEngine {
+    private static final String TAG = "LocationEngine";
+    static final long DEFAULT_INTERVAL_MS = 200;
+    static final long DEFAULT_BATCH_MS = 250;
+
+    interface Listener {
+        void onFix(double latitude, double longitude, double speedKmh, double speedSigmaKmh, double accuracy, long timestampMs);
+        void onBatch(String fixesJson);
+    }
+
+    private final Context context;
+    private final LocationManager locationManager;
+    private final Listener listener;
+    private final LocationFilter filter = new LocationFilter();
+    private final LocationListener locationListener = new LocationListener() {
+        @Override
+        public void onLocationChanged(Location location) {
+            handleLocation(location);
+        }
+
+        @Override
+        public void onStatusChanged(String provider, int status, Bundle extras) {}
+
+        @Override
+        public void onProviderEnabled(String provider) {}
+
+        @Override
+        public void onProviderDisabled(String provider) {}
+    };
+    private final Runnable flush = this::flush;
+
+    private HandlerThread thread;
+    private volatile Handler handler;
+    private String provider;
+    private long batchMs = DEFAULT_BATCH_MS;
+    private JSONArray pending = new JSONArray();
+    private boolean flushScheduled = false;
+    private volatile String lastFix = null;
+
+    LocationEngine(Context context, Listener listener) {
+        this.context = context.getApplicationContext();
+        this.locationManager = (LocationManager) context.getSystemService(Context.LOCATION_SERVICE);
+        this.listener = listener;
+    }
+
+    synchronized boolean start(long intervalMs, long batchMs) {
+        if (thread != null) return true;
+        if (locationManager == null || !granted(context)) return false;
+        provider = pickProvider();
+        if (provider == null) return false;
+        this.batchMs = Math.max(0, batchMs);
+        filter.reset();
+        HandlerThread t = new HandlerThread("LocationEngine");
+        t.start();
+        Handler h = new Handler(t.getLooper());
+        try {
+            locationManager.requestLocationUpdates(provider, Math.max(100, intervalMs), 0, locationListener, t.getLooper());
+        } catch (SecurityException | IllegalArgumentException e) {
+            Log.w(TAG, "Location updates unavailable", e);
+            t.quit();
+            return false;
+        }
+        thread = t;
+        handler = h;
+        return true;
+    }
+
+    synchronized void stop() {
+        if (thread == null) return;
+        try { locationManager.removeUpdates(locationListener); } catch (Exception ignored) {}
+        Handler h = handler;
+        h.removeCallbacks(flush);
+        h.post(this::flush);
+        thread.quitSafely();
+        thread = null;
+        handler = null;
+    }
+
+    synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    String getLastFix() {
+        return lastFix;
+    }
+
+    // Most recent cached fix across providers, in the same shape as published fixes; no radio is woken.
+    static String lastKnownFix(Context context) {
+        LocationManager manager = (LocationManager) context.getSystemService(Context.LOCATION_SERVICE);
+        if (manager == null || !granted(context)) return null;
+        Location best = null;
+        try {
+            for (String name : manager.getProviders(true)) {
+                Location location = manager.getLastKnownLocation(name);
+                if (location != null && (best == null || location.getElapsedRealtimeNanos() > best.getElapsedRealtimeNanos())) {
+                    best = location;
+                }
+            }
+        } catch (SecurityException | IllegalArgumentException e) {
+            return null;
+        }
+        if (best == null) return null;
+        long ageMs = (SystemClock.elapsedRealtimeNanos() - best.getElapsedRealtimeNanos()) / 1_000_000L;
+        JSONObject fix = new JSONObject();
+        try {
+            fix.put("lat", best.getLatitude());
+            fix.put("lon", best.getLongitude());
+            fix.put("accuracy", best.hasAccuracy() ? best.getAccuracy() : LocationFilter.MAX_ACCURACY_M);
+            fix.put("speed", best.hasSpeed() ? best.getSpeed() * 3.6 : 0);
+            fix.put("t", System.currentTimeMillis() - Math.max(0, ageMs));
+        } catch (JSONException ignored) {}
+        return fix.toString();
+    }
+
+    synchronized String getStatsJson() {
+        JSONObject stats = new JSONObject();
+        try {
+            stats.put("running", thread != null);
+            stats.put("provider", provider != null ? provider : JSONObject.NULL);
+            stats.put("accepted", filter.accepted);
+            stats.put("rejected", filter.rejected);
+        } catch (JSONException ignored) {}
+        return stats.toString();
+    }
+
+    private String pickProvider() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && locationManager.hasProvider(LocationManager.FUSED_PROVIDER)
+                && locationManager.isProviderEnabled(LocationManager.FUSED_PROVIDER)) {
+            return LocationManager.FUSED_PROVIDER;
+        }
+        if (locationManager.isProviderEnabled(LocationManager.GPS_PROVIDER)) return LocationManager.GPS_PROVIDER;
+        if (locationManager.isProviderEnabled(LocationManager.NETWORK_PROVIDER)) return LocationManager.NETWORK_PROVIDER;
+        return null;
+    }
+
+    static boolean granted(Context context) {
+        return ContextCompat.checkSelfPermission(context, Manifest.permission.ACCESS_FINE_LOCATION) == PackageManager.PERMISSION_GRANTED
+                || ContextCompat.checkSelfPermission(context, Manifest.permission.ACCESS_COARSE_LOCATION) == PackageManager.PERMISSION_GRANTED;
+    }
+
+    private void handleLocation(Location location) {
+        Handler h = handler;
+        if (h == null) return;
+        long ageMs = (SystemClock.elapsedRealtimeNanos() - location.getElapsedRealtimeNanos()) / 1_000_000L;
+        long timestampMs = System.currentTimeMillis() - Math.max(0, ageMs);
+        double accuracy = location.hasAccuracy() ? location.getAccuracy() : LocationFilter.MAX_ACCURACY_M;
+        double rawSpeed = location.hasSpeed() ? location.getSpeed() : Double.NaN;
+        double speedAccuracy = Double.NaN;
+        double bearingAccuracy = Double.NaN;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            if (location.hasSpeedAccuracy()) speedAccuracy = location.getSpeedAccuracyMetersPerSecond();
+            if (location.hasBearingAccuracy()) bearingAccuracy = location.getBearingAccuracyDegrees();
+        }
+        double bearing = location.hasBearing() ? location.getBearing() : Double.NaN;
+
+        if (!filter.update(location.getLatitude(), location.getLongitude(), accuracy, rawSpeed, speedAccuracy,
+                bearing, bearingAccuracy, timestampMs)) {
+            return;
+        }
+
+        double speedKmh = filter.speed() * 3.6;
+        listener.onFix(location.getLatitude(), location.getLongitude(), speedKmh, filter.speedSigma() * 3.6, accuracy, timestampMs);
+
+        JSONObject fix = new JSONObject();
+        try {
+            fix.put("lat", location.getLatitude());
+            fix.put("lon", location.getLongitude());
+            fix.put("accuracy", accuracy);
+            fix.put("speed", speedKmh);
+            fix.put("speedSigma", filter.speedSigma() * 3.6);
+            fix.put("acceleration", filter.acceleration());
+            if (!Double.isNaN(rawSpeed)) fix.put("rawSpeed", rawSpeed * 3.6);
+            if (!Double.isNaN(filter.heading())) fix.put("heading", filter.heading());
+            fix.put("t", timestampMs);
+        } catch (JSONException ignored) {}
+        lastFix = fix.toString();
+        pending.put(fix);
+
+        if (batchMs == 0) {
+            flush();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            h.postDelayed(flush, batchMs);
+        }
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        if (pending.length() == 0) return;
+        JSONArray fixes = pending;
+        pending = new JSONArray();
+        listener.onBatch(fixes.toString());
+    }
+}
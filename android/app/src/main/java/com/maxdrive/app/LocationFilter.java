@@ -0,0 +1,196 @@
+package com.maxdrive.app;
+
+class LocationFilter {
+    static final double MAX_ACCURACY_M = 50;
+    static final double MAX_ACCELERATION_MPS2 = 12;
+    static final double GATE_SIGMA = 4;
+    static final int MAX_CONSECUTIVE_REJECTS = 3;
+    static final double MIN_HEADING_SPEED_MPS = 1.5;
+
+    private static final double EARTH_RADIUS_M = 6371000;
+    private static final double JERK_NOISE = 4;
+    private static final double DOPPLER_SPEED_SIGMA = 0.5;
+    private static final double BEARING_SIGMA_DEG = 10;
+    private static final double HEADING_DRIFT_DEG2_PER_S = 900;
+
+    private double speed = 0;
+    private double acceleration = 0;
+    private double p00 = 100, p01 = 0, p11 = 10;
+    private double heading = Double.NaN;
+    private double headingVariance = 0;
+
+    private boolean initialized = false;
+    private double lastLatitude;
+    private double lastLongitude;
+    private long lastTimeMs;
+    private int consecutiveRejects = 0;
+
+    long accepted = 0;
+    long rejected = 0;
+
+    double speed() {
+        return speed;
+    }
+
+    double acceleration() {
+        return acceleration;
+    }
+
+    double heading() {
+        return heading;
+    }
+
+    double speedSigma() {
+        return Math.sqrt(p00);
+    }
+
+    void reset() {
+        initialized = false;
+        speed = 0;
+        acceleration = 0;
+        p00 = 100;
+        p01 = 0;
+        p11 = 10;
+        heading = Double.NaN;
+        headingVariance = 0;
+        consecutiveRejects = 0;
+    }
+
+    boolean update(double latitude, double longitude, double accuracyM, double measuredSpeed, double speedAccuracy,
+                   double bearing, double bearingAccuracy, long timeMs) {
+        if (accuracyM > MAX_ACCURACY_M || Double.isNaN(latitude) || Double.isNaN(longitude)) {
+            rejected++;
+            return false;
+        }
+        if (!initialized) {
+            initialized = true;
+            lastLatitude = latitude;
+            lastLongitude = longitude;
+            lastTimeMs = timeMs;
+            if (!Double.isNaN(measuredSpeed) && measuredSpeed >= 0) {
+                speed = measuredSpeed;
+                p00 = variance(speedAccuracy, DOPPLER_SPEED_SIGMA);
+            }
+            if (!Double.isNaN(bearing) && speed >= MIN_HEADING_SPEED_MPS) {
+                heading = normalize(bearing);
+                headingVariance = variance(bearingAccuracy, BEARING_SIGMA_DEG);
+            }
+            accepted++;
+            return true;
+        }
+
+        double dt = (timeMs - lastTimeMs) / 1000.0;
+        if (dt <= 0) {
+            rejected++;
+            return false;
+        }
+        double distance = distance(lastLatitude, lastLongitude, latitude, longitude);
+
+        double z;
+        double r;
+        if (!Double.isNaN(measuredSpeed) && measuredSpeed >= 0) {
+            z = measuredSpeed;
+            r = variance(speedAccuracy, DOPPLER_SPEED_SIGMA);
+        } else {
+            z = distance / dt;
+            double sigma = 2 * accuracyM / dt;
+            r = sigma * sigma;
+        }
+
+        double predicted = speed + acceleration * dt;
+        double q = JERK_NOISE;
+        double n00 = p00 + dt * (2 * p01 + dt * p11) + q * dt * dt * dt / 3;
+        double n01 = p01 + dt * p11 + q * dt * dt / 2;
+        double n11 = p11 + q * dt;
+
+        double innovation = z - predicted;
+        double s = n00 + r;
+        boolean implausibleJump = distance / dt > Math.max(z, predicted) + MAX_ACCELERATION_MPS2 * dt + 3 * accuracyM / dt;
+        boolean outlier = innovation * innovation > GATE_SIGMA * GATE_SIGMA * s
+                && Math.abs(innovation) / dt > MAX_ACCELERATION_MPS2;
+        if ((outlier || implausibleJump) && ++consecutiveRejects <= MAX_CONSECUTIVE_REJECTS) {
+            rejected++;
+            return false;
+        }
+        if (consecutiveRejects > MAX_CONSECUTIVE_REJECTS) {
+            reset();
+            return update(latitude, longitude, accuracyM, measuredSpeed, speedAccuracy, bearing, bearingAccuracy, timeMs);
+        }
+        consecutiveRejects = 0;
+
+        double k0 = n00 / s;
+        double k1 = n01 / s;
+        speed = Math.max(0, predicted + k0 * innovation);
+        acceleration = acceleration + k1 * innovation;
+        p00 = (1 - k0) * n00;
+        p01 = (1 - k0) * n01;
+        p11 = n11 - k1 * n01;
+
+        updateHeading(latitude, longitude, bearing, bearingAccuracy, dt);
+
+        lastLatitude = latitude;
+        lastLongitude = longitude;
+        lastTimeMs = timeMs;
+        accepted++;
+        return true;
+    }
+
+    private void updateHeading(double latitude, double longitude, double bearing, double bearingAccuracy, double dt) {
+        if (speed < MIN_HEADING_SPEED_MPS) return;
+        double measured;
+        double r;
+        if (!Double.isNaN(bearing)) {
+            measured = normalize(bearing);
+            r = variance(bearingAccuracy, BEARING_SIGMA_DEG);
+        } else {
+            measured = bearing(lastLatitude, lastLongitude, latitude, longitude);
+            r = BEARING_SIGMA_DEG * BEARING_SIGMA_DEG * 4;
+        }
+        if (Double.isNaN(heading)) {
+            heading = measured;
+            headingVariance = r;
+            return;
+        }
+        double predictedVariance = headingVariance + HEADING_DRIFT_DEG2_PER_S * dt;
+        double innovation = wrap(measured - heading);
+        double k = predictedVariance / (predictedVariance + r);
+        heading = normalize(heading + k * innovation);
+        headingVariance = (1 - k) * predictedVariance;
+    }
+
+    private static double variance(double sigma, double fallback) {
+        double s = !Double.isNaN(sigma) && sigma > 0 ? sigma : fallback;
+        return s * s;
+    }
+
+    static double wrap(double degrees) {
+        double d = degrees % 360;
+        if (d > 180) d -= 360;
+        if (d < -180) d += 360;
+        return d;
+    }
+
+    static double normalize(double degrees) {
+        double d = degrees % 360;
+        return d < 0 ? d + 360 : d;
+    }
+
+    static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dPhi = Math.toRadians(lat2 - lat1);
+        double dLambda = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dPhi / 2) * Math.sin(dPhi / 2)
+                + Math.cos(phi1) * Math.cos(phi2) * Math.sin(dLambda / 2) * Math.sin(dLambda / 2);
+        return EARTH_RADIUS_M * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    static double bearing(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dLambda = Math.toRadians(lon2 - lon1);
+        double y = Math.sin(dLambda) * Math.cos(phi2);
+        double x = Math.cos(phi1) * Math.sin(phi2) - Math.sin(phi1) * Math.cos(phi2) * Math.cos(dLambda);
+        return normalize(Math.toDegrees(Math.atan2(y, x)));
+    }
+}
@@ -1,161 +1,253 @@
 package com.maxdrive.app;
 
-import android.Manifest;
-import android.app.DownloadManager;
-import android.content.BroadcastReceiver;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
-import android.content.pm.ApplicationInfo;
+import android.content.ServiceConnection;
 import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.ResolveInfo;
-import android.database.Cursor;
-import android.graphics.Bitmap;
-import android.graphics.Canvas;
-import android.graphics.drawable.BitmapDrawable;
-import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
-import android.os.Environment;
+import android.os.IBinder;
 import android.provider.Settings;
 import android.text.TextUtils;
-import android.util.Base64;
 import android.util.Log;
 import android.webkit.JavascriptInterface;
-import android.bluetooth.BluetoothAdapter;
-import android.bluetooth.BluetoothDevice;
-import android.bluetooth.BluetoothSocket;
-import java.io.InputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.util.UUID;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
-import android.media.session.MediaController;
 import android.media.session.MediaSessionManager;
-import android.media.MediaMetadata;
-import android.media.session.PlaybackState;
-import java.util.List;
-
-import androidx.core.app.ActivityCompat;
-import androidx.core.content.ContextCompat;
-import androidx.core.content.FileProvider;
 
+import com.getcapacitor.Bridge;
 import com.getcapacitor.BridgeActivity;
+import com.getcapacitor.BridgeWebViewClient;
 
 import org.json.JSONArray;
-import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.ByteArrayOutputStream;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 @SuppressWarnings("unused")
-class WebAppInterface {
+class WebAppInterface implements TelemetryService.Client {
     private final BridgeActivity activity;
     private final WebView webView;
-    private final DownloadManager downloadManager;
-    private long currentDownloadId = -1;
-    private DownloadCompleteReceiver downloadReceiver;
-    private BluetoothAdapter bluetoothAdapter;
-    private BluetoothSocket obdSocket;
-    private InputStream obdInputStream;
-    private Thread obdThread;
-    private volatile boolean obdRunning = false;
+    private final ObdFrameBatcher obdBatcher;
+    private final TelemetryChannel telemetry;
+    private volatile TelemetryService telemetryService;
+    private volatile String updateFeed;
+    private volatile long updateCheckIntervalMs;
     private final MediaSessionManager mediaSessionManager;
+    private final AppCatalog appCatalog;
+    private final PackageChangeReceiver packageChangeReceiver;
+    private final IconRenderer iconRenderer;
+    private final AsyncBridge asyncBridge;
+    private final StartupTracer tracer;
+    private final StartupBootstrap bootstrap;
+    private final ServiceConnection telemetryConnection = new ServiceConnection() {
+        @Override
+        public void onServiceConnected(ComponentName name, IBinder binder) {
+            TelemetryService service = ((TelemetryService.LocalBinder) binder).getService();
+            telemetryService = service;
+            if (updateFeed != null) service.configureUpdateChecks(updateFeed, updateCheckIntervalMs);
+            if (telemetry.isOpen()) attachTelemetry();
+        }
+
+        @Override
+        public void onServiceDisconnected(ComponentName name) {
+            telemetryService = null;
+        }
+    };
 
-    WebAppInterface(BridgeActivity activity, WebView webView) {
+    WebAppInterface(BridgeActivity activity, WebView webView, LocalResourceServer resourceServer, StartupTracer tracer) {
         this.activity = activity;
         this.webView = webView;
-        this.downloadManager = (DownloadManager) activity.getSystemService(Context.DOWNLOAD_SERVICE);
-        this.bluetoothAdapter = BluetoothAdapter.getDefaultAdapter();
+        this.tracer = tracer;
+        Context appContext = activity.getApplicationContext();
+        this.iconRenderer = new IconRenderer();
+        IconCache iconCache = new IconCache(appContext, iconRenderer);
+        iconCache.register(resourceServer);
+        AlbumArtCache.shared().register(resourceServer);
+        new CarModelAsset(appContext).register(resourceServer);
+        this.appCatalog = new AppCatalog(appContext, iconCache);
+        this.appCatalog.setListener(version -> webView.post(() -> webView.evaluateJavascript(
+                "window.dispatchEvent(new CustomEvent('appCatalogChanged', { detail: " + version + " }));", null)));
+        this.packageChangeReceiver = new PackageChangeReceiver(appCatalog);
+        packageChangeReceiver.register(appContext);
         this.mediaSessionManager = (MediaSessionManager) activity.getSystemService(Context.MEDIA_SESSION_SERVICE);
+        this.bootstrap = prefetch(appContext);
+        this.asyncBridge = new AsyncBridge(this, webView);
+        Bridge bridge = activity.getBridge();
+        String serverUrl = bridge.getServerUrl();
+        this.telemetry = new TelemetryChannel(webView, serverUrl != null ? serverUrl : bridge.getLocalUrl());
+        this.obdBatcher = new ObdFrameBatcher(
+                webView::postOnAnimation,
+                (framesJson, onDelivered) -> telemetry.publish("obd", framesJson, onDelivered));
+        activity.bindService(new Intent(activity, TelemetryService.class), telemetryConnection, Context.BIND_AUTO_CREATE);
+    }
 
-        if (this.mediaSessionManager != null) {
-            MediaSessionManager.OnActiveSessionsChangedListener sessionsListener = controllers -> {
-                try {
-                    String media = getCurrentMedia();
-                    MediaNotificationListener.setCachedMedia(media);
-                } catch (Exception ignored) {}
-            };
+    private StartupBootstrap prefetch(Context appContext) {
+        Map<String, Callable<String>> loaders = new LinkedHashMap<>();
+        loaders.put("catalog", traced("catalog-ready", () -> appCatalog.getDeltaJson(0)));
+        loaders.put("media", traced("media-ready", () -> {
+            String media = MediaReader.read(appContext, mediaSessionManager);
+            return media != null ? media : MediaNotificationListener.getCachedMedia();
+        }));
+        loaders.put("location", traced("location-ready", () -> {
+            JSONObject location = new JSONObject();
+            location.put("granted", LocationEngine.granted(appContext));
+            String fix = LocationEngine.lastKnownFix(appContext);
+            location.put("fix", fix != null ? new JSONObject(fix) : JSONObject.NULL);
+            return location.toString();
+        }));
+        return new StartupBootstrap(loaders);
+    }
 
+    private Callable<String> traced(String name, Callable<String> loader) {
+        tracer.begin(name);
+        return () -> {
             try {
-                ComponentName componentName = new ComponentName(activity, MediaNotificationListener.class);
-                this.mediaSessionManager.addOnActiveSessionsChangedListener(sessionsListener, componentName);
-            } catch (Exception e) {
-                try { this.mediaSessionManager.addOnActiveSessionsChangedListener(sessionsListener, null); } catch (Exception ignored) {}
+                return loader.call();
+            } finally {
+                tracer.end(name);
             }
-        }
+        };
+    }
+
+    void onHostStart() {
+        TelemetryService service = telemetryService;
+        if (service == null) return;
+        if (telemetry.isOpen()) attachTelemetry();
+        service.refreshMedia();
+    }
+
+    void onHostStop() {
+        TelemetryService service = telemetryService;
+        if (service != null) service.detach(this);
+    }
+
+    void release() {
+        onHostStop();
+        packageChangeReceiver.unregister(activity.getApplicationContext());
+        iconRenderer.shutdown();
+        appCatalog.shutdown();
+        asyncBridge.shutdown();
+        try { activity.unbindService(telemetryConnection); } catch (Exception ignored) {}
+        telemetryService = null;
+    }
+
+    @Override
+    public void onObdSample(int pid, double value, long timestampMs) {
+        obdBatcher.offer(pid, value, timestampMs);
+    }
+
+    @Override
+    public void onObdState(String stateJson) {
+        telemetry.publish("obd-state", stateJson);
+    }
+
+    @Override
+    public void onMedia(String mediaJson) {
+        telemetry.publish("media", mediaJson);
+    }
+
+    @Override
+    public void onLocation(String fixesJson) {
+        telemetry.publish("gps", fixesJson);
+    }
+
+    @Override
+    public void onSpeed(String estimateJson) {
+        telemetry.publish("speed", estimateJson);
+    }
+
+    @Override
+    public void onUpdateState(String stateJson) {
+        telemetry.publish("download", stateJson);
+    }
+
+    @Override
+    public void onUpdateInfo(String infoJson) {
+        telemetry.publish("update", infoJson);
+    }
+
+    // Until the page holds the port, samples stay in the service backlog; attaching drains it into the snapshot.
+    private void attachTelemetry() {
+        TelemetryService service = telemetryService;
+        if (service == null) return;
+        service.attach(this);
+        telemetry.publish("obd-state", service.getObdState());
+        telemetry.publish("media", service.getMedia());
+        String lastFix = service.getLastLocation();
+        if (lastFix != null) telemetry.publish("gps", "[" + lastFix + "]");
+        String speed = service.getSpeed();
+        if (speed != null) telemetry.publish("speed", speed);
+        telemetry.publish("download", service.getUpdateState());
+        telemetry.publish("update", service.getUpdateInfo());
+
+        StringBuilder backlog = new StringBuilder("[");
+        service.drainBacklog((pid, value, timestampMs) -> {
+            String name = ObdParser.pidName(pid);
+            if (name == null) return;
+            if (backlog.length() > 1) backlog.append(',');
+            ObdFrameBatcher.appendSample(backlog, name, value, timestampMs);
+        });
+        // Latest values go last so they win over older backlog entries for the same PID.
+        service.visitLatest((pid, value, timestampMs) -> {
+            String name = ObdParser.pidName(pid);
+            if (name == null) return;
+            if (backlog.length() > 1) backlog.append(',');
+            ObdFrameBatcher.appendSample(backlog, name, value, timestampMs);
+        });
+        if (backlog.length() > 1) telemetry.publish("obd-backlog", backlog.append(']').toString());
     }
 
     @JavascriptInterface
-    public String getInstalledApps() {
-        PackageManager pm = activity.getPackageManager();
-        Intent intent = new Intent(Intent.ACTION_MAIN, null);
-        intent.addCategory(Intent.CATEGORY_LAUNCHER);
-        
-        List<ResolveInfo> apps = pm.queryIntentActivities(intent, 0);
-        JSONArray jsonArray = new JSONArray();
-        Set<String> seenPackages = new HashSet<>();
-
-        for (ResolveInfo resolveInfo : apps) {
-            String packageName = resolveInfo.activityInfo.packageName;
-            
-            if (seenPackages.contains(packageName)) continue;
-            seenPackages.add(packageName);
+    public boolean invokeAsync(int requestId, String method, String argsJson) {
+        return asyncBridge.invoke(requestId, method, argsJson);
+    }
 
-            try {
-                JSONObject obj = new JSONObject();
-                String appName = resolveInfo.loadLabel(pm).toString();
-                String iconBase64 = getIconAsBase64(resolveInfo.loadIcon(pm));
-                
-                boolean isSystemApp = (resolveInfo.activityInfo.applicationInfo.flags & ApplicationInfo.FLAG_SYSTEM) != 0;
-                
-                obj.put("name", appName);
-                obj.put("packageName", packageName);
-                obj.put("icon", iconBase64);
-                obj.put("category", isSystemApp ? "System" : "App");
-                jsonArray.put(obj);
-            } catch (JSONException ignored) {
-            }
-        }
-        return jsonArray.toString();
+    @JavascriptInterface
+    public void openTelemetryChannel() {
+        // A reopen replaces the port, so samples go back to the backlog until the new one is handed over.
+        onHostStop();
+        telemetry.open(() -> {
+            obdBatcher.resume();
+            attachTelemetry();
+        });
     }
 
-    private String getIconAsBase64(Drawable icon) {
-        try {
-            Bitmap bitmap = drawableToBitmap(icon);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            bitmap.compress(Bitmap.CompressFormat.PNG, 85, baos);
-            byte[] bytes = baos.toByteArray();
-            return "data:image/png;base64," + Base64.encodeToString(bytes, Base64.NO_WRAP);
-        } catch (Exception e) {
-            return "";
-        }
+    @JavascriptInterface
+    public String getBootstrap() {
+        return bootstrap.getJson(StartupBootstrap.DEFAULT_WAIT_MS);
     }
 
-    private Bitmap drawableToBitmap(Drawable drawable) {
-        if (drawable instanceof BitmapDrawable bitmapDrawable) {
-            if (bitmapDrawable.getBitmap() != null) {
-                return bitmapDrawable.getBitmap();
-            }
-        }
+    @JavascriptInterface
+    public void markStartup(String name) {
+        tracer.end(name);
+    }
 
-        Bitmap bitmap;
-        if (drawable.getIntrinsicWidth() <= 0 || drawable.getIntrinsicHeight() <= 0) {
-            bitmap = Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
-        } else {
-            int size = Math.min(drawable.getIntrinsicWidth(), 128);
-            bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
-        }
+    @JavascriptInterface
+    public String getStartupTrace() {
+        return tracer.getJson();
+    }
 
-        Canvas canvas = new Canvas(bitmap);
-        drawable.setBounds(0, 0, canvas.getWidth(), canvas.getHeight());
-        drawable.draw(canvas);
-        return bitmap;
+    @JavascriptInterface
+    public String getInstalledApps() {
+        return appCatalog.getAppsJson();
+    }
+
+    @JavascriptInterface
+    public String getInstalledAppsDelta(long sinceVersion) {
+        return appCatalog.getDeltaJson(sinceVersion);
+    }
+
+    @JavascriptInterface
+    public String getIconRenderStats() {
+        return iconRenderer.getStatsJson();
     }
 
     @JavascriptInterface
@@ -198,95 +290,11 @@ class WebAppInterface {
 
     @JavascriptInterface
     public String getCurrentMedia() {
-        try {
-            if (mediaSessionManager != null) {
-                List<MediaController> controllers;
-
-                try {
-                    ComponentName componentName = new ComponentName(activity, MediaNotificationListener.class);
-                    controllers = mediaSessionManager.getActiveSessions(componentName);
-                } catch (Exception e) {
-                    controllers = mediaSessionManager.getActiveSessions(null);
-                }
-
-                if (controllers != null && !controllers.isEmpty()) {
-                    MediaController activeController = null;
-                    MediaController mostRecentController = null;
-                    long latestTime = 0;
-
-                    for (MediaController controller : controllers) {
-                        PlaybackState playbackState = controller.getPlaybackState();
-                        if (playbackState != null) {
-                            int state = playbackState.getState();
-                            if (state == PlaybackState.STATE_PLAYING || state == PlaybackState.STATE_BUFFERING) {
-                                activeController = controller;
-                                break;
-                            }
-                            long lastPositionUpdateTime = playbackState.getLastPositionUpdateTime();
-                            if (lastPositionUpdateTime > latestTime) {
-                                latestTime = lastPositionUpdateTime;
-                                mostRecentController = controller;
-                            }
-                        }
-                    }
-
-                    if (activeController == null) {
-                        activeController = (mostRecentController != null) ? mostRecentController : controllers.get(0);
-                    }
-
-                    if (activeController != null) {
-                        MediaMetadata metadata = activeController.getMetadata();
-                        PlaybackState playbackState = activeController.getPlaybackState();
-
-                        if (metadata != null) {
-                            JSONObject media = new JSONObject();
-
-                            CharSequence title = metadata.getText(MediaMetadata.METADATA_KEY_TITLE);
-                            CharSequence artist = metadata.getText(MediaMetadata.METADATA_KEY_ARTIST);
-                            CharSequence album = metadata.getText(MediaMetadata.METADATA_KEY_ALBUM);
-
-                            if (title != null) media.put("title", title.toString());
-                            if (artist != null) media.put("artist", artist.toString());
-                            if (album != null) media.put("album", album.toString());
-
-                            CharSequence displayTitle = metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_TITLE);
-                            CharSequence displaySubtitle = metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_SUBTITLE);
-                            CharSequence displayDescription = metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_DESCRIPTION);
-
-                            if (displayTitle != null && !media.has("title")) media.put("title", displayTitle.toString());
-                            if (displaySubtitle != null && !media.has("artist")) media.put("artist", displaySubtitle.toString());
-                            if (displayDescription != null) media.put("description", displayDescription.toString());
-
-                            long duration = 0;
-                            try { duration = metadata.getLong(MediaMetadata.METADATA_KEY_DURATION); } catch (Exception ignored) {}
-                            if (duration > 0) media.put("duration", duration);
-
-                            if (playbackState != null) {
-                                long position = playbackState.getPosition();
-                                if (position >= 0) media.put("position", position);
-
-                                int state = playbackState.getState();
-                                media.put("isPlaying", state == PlaybackState.STATE_PLAYING);
-                                media.put("isPaused", state == PlaybackState.STATE_PAUSED);
-                                media.put("isStopped", state == PlaybackState.STATE_STOPPED);
-
-                                float speed = playbackState.getPlaybackSpeed();
-                                if (speed != 0) media.put("speed", speed);
-                            }
-
-                            String packageName = activeController.getPackageName();
-                            if (packageName != null) media.put("packageName", packageName);
-
-                            return media.toString();
-                        }
-                    }
-                }
-            }
-
-            return MediaNotificationListener.getCachedMedia();
-        } catch (Exception e) {
-            return MediaNotificationListener.getCachedMedia();
-        }
+        TelemetryService service = telemetryService;
+        String media = service != null ? service.getMedia() : null;
+        if (media != null && !MediaSessionWatcher.EMPTY.equals(media)) return media;
+        media = MediaReader.read(activity, mediaSessionManager);
+        return media != null ? media : MediaNotificationListener.getCachedMedia();
     }
 
     @JavascriptInterface
@@ -331,251 +339,283 @@ class WebAppInterface {
 
     @JavascriptInterface
     public boolean downloadAndInstallApk(String url) {
-        try {
-            if (downloadManager == null) return false;
+        return downloadAndInstallUpdate("", url, "");
+    }
 
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                if (!activity.getPackageManager().canRequestPackageInstalls()) {
-                    Intent intent = new Intent(Settings.ACTION_MANAGE_UNKNOWN_APP_SOURCES);
-                    intent.setData(Uri.parse("package:" + activity.getPackageName()));
-                    activity.startActivity(intent);
-                    return true;
-                }
-            }
+    @JavascriptInterface
+    public boolean downloadAndInstallUpdate(String patchUrl, String apkUrl, String sha256) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && !activity.getPackageManager().canRequestPackageInstalls()) {
+            Intent intent = new Intent(Settings.ACTION_MANAGE_UNKNOWN_APP_SOURCES);
+            intent.setData(Uri.parse("package:" + activity.getPackageName()));
+            activity.startActivity(intent);
+            return true;
+        }
+        TelemetryService service = telemetryService;
+        return service != null && service.startUpdate(apkUrl, patchUrl, sha256);
+    }
 
-            if (downloadReceiver != null) {
-                try {
-                    activity.unregisterReceiver(downloadReceiver);
-                } catch (Exception ignored) {}
-            }
+    @JavascriptInterface
+    public void configureUpdateChecks(String feedUrl, long intervalMs) {
+        updateFeed = feedUrl;
+        updateCheckIntervalMs = intervalMs;
+        TelemetryService service = telemetryService;
+        if (service != null) service.configureUpdateChecks(feedUrl, intervalMs);
+    }
 
-            downloadReceiver = new DownloadCompleteReceiver(activity);
-            IntentFilter filter = new IntentFilter(DownloadManager.ACTION_DOWNLOAD_COMPLETE);
-            ContextCompat.registerReceiver(activity, downloadReceiver, filter, ContextCompat.RECEIVER_EXPORTED);
+    @JavascriptInterface
+    public String getUpdateInfo() {
+        TelemetryService service = telemetryService;
+        return service != null ? service.getUpdateInfo() : null;
+    }
 
-            File oldFile = new File(Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS), "maxdrive-latest.apk");
-            if (oldFile.exists()) {
-                boolean deleted = oldFile.delete();
-                if (!deleted) Log.w("WebAppInterface", "Could not delete old APK file");
-            }
+    @JavascriptInterface
+    public void checkForUpdatesNow() {
+        TelemetryService service = telemetryService;
+        if (service != null) service.checkForUpdatesNow();
+    }
 
-            DownloadManager.Request req = new DownloadManager.Request(Uri.parse(url))
-                    .setTitle("MAXDrive Update")
-                    .setDescription("Downloading latest APK")
-                    .setNotificationVisibility(DownloadManager.Request.VISIBILITY_VISIBLE_NOTIFY_COMPLETED)
-                    .setDestinationInExternalPublicDir(Environment.DIRECTORY_DOWNLOADS, "maxdrive-latest.apk")
-                    .setAllowedOverMetered(true)
-                    .setAllowedOverRoaming(true);
-            
-            currentDownloadId = downloadManager.enqueue(req);
-            startProgressTracking();
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    @JavascriptInterface
+    public void cancelUpdate() {
+        TelemetryService service = telemetryService;
+        if (service != null) service.cancelUpdate();
     }
 
-    private void startProgressTracking() {
-        new Thread(() -> {
-            while (currentDownloadId != -1) {
-                try {
-                    DownloadManager.Query query = new DownloadManager.Query().setFilterById(currentDownloadId);
-                    Cursor cursor = downloadManager.query(query);
-                    
-                    if (cursor != null && cursor.moveToFirst()) {
-                        int downloadedBytesIdx = cursor.getColumnIndex(DownloadManager.COLUMN_BYTES_DOWNLOADED_SO_FAR);
-                        int totalBytesIdx = cursor.getColumnIndex(DownloadManager.COLUMN_TOTAL_SIZE_BYTES);
-                        int statusIdx = cursor.getColumnIndex(DownloadManager.COLUMN_STATUS);
-                        
-                        if (downloadedBytesIdx != -1 && totalBytesIdx != -1) {
-                            long downloadedBytes = cursor.getLong(downloadedBytesIdx);
-                            long totalBytes = cursor.getLong(totalBytesIdx);
-                            
-                            if (totalBytes > 0) {
-                                int progress = (int) ((downloadedBytes * 100) / totalBytes);
-                                webView.post(() -> webView.evaluateJavascript(
-                                    "if(window.onDownloadProgress) window.onDownloadProgress(" + progress + ");",
-                                    null
-                                ));
-                            }
-                        }
-                        
-                        if (statusIdx != -1) {
-                            int status = cursor.getInt(statusIdx);
-                            if (status == DownloadManager.STATUS_FAILED || status == DownloadManager.STATUS_SUCCESSFUL) {
-                                currentDownloadId = -1;
-                                cursor.close();
-                                break;
-                            }
-                        }
-                        cursor.close();
-                    }
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (Exception e) {
-                    break;
-                }
-            }
-        }).start();
+    @JavascriptInterface
+    public String getUpdateState() {
+        TelemetryService service = telemetryService;
+        return service != null ? service.getUpdateState() : "{\"state\":\"idle\"}";
     }
 
     @JavascriptInterface
     public boolean isApkInstalled() {
-        File apkFile = new File(Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS), "maxdrive-latest.apk");
-        return !apkFile.exists();
+        TelemetryService service = telemetryService;
+        return service != null && service.isUpdateReady();
     }
 
     @JavascriptInterface
     public boolean startObd(String target) {
-        if (bluetoothAdapter == null) bluetoothAdapter = BluetoothAdapter.getDefaultAdapter();
-        try {
-            BluetoothDevice targetDevice = null;
-            if (bluetoothAdapter != null && bluetoothAdapter.isEnabled()) {
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && 
-                    ActivityCompat.checkSelfPermission(activity, Manifest.permission.BLUETOOTH_CONNECT) != PackageManager.PERMISSION_GRANTED) {
-                    return false;
-                }
-                
-                for (BluetoothDevice d : bluetoothAdapter.getBondedDevices()) {
-                    if (d == null) continue;
-                    String name = d.getName() != null ? d.getName() : "";
-                    String addr = d.getAddress() != null ? d.getAddress() : "";
-                    if ((target != null && !target.isEmpty() && (name.contains(target) || addr.equals(target))) || name.toLowerCase().contains("elm") || name.toLowerCase().contains("obd")) {
-                        targetDevice = d;
-                        break;
-                    }
-                }
-            }
-            if (targetDevice != null) {
-                UUID uuid = UUID.fromString("00001101-0000-1000-8000-00805F9B34FB");
-                obdSocket = targetDevice.createRfcommSocketToServiceRecord(uuid);
-                obdSocket.connect();
-                obdInputStream = obdSocket.getInputStream();
-            } else {
-                String[] candidates = new String[]{"/dev/ttyUSB0","/dev/ttyUSB1","/dev/ttyS0","/dev/ttyS1","/dev/ttyMT1","/dev/ttyMT2"};
-                FileInputStream fis = null;
-                for (String path : candidates) {
-                    try {
-                        File f = new File(path);
-                        if (f.exists() && f.canRead()) {
-                            fis = new FileInputStream(f);
-                            break;
-                        }
-                    } catch (Exception ignored) {}
-                }
-                if (fis == null) return false;
-                obdInputStream = fis;
-            }
-            obdRunning = true;
-            obdThread = new Thread(() -> {
-                try {
-                    InputStream in = obdInputStream;
-                    byte[] buffer = new byte[1024];
-                    int read;
-                    StringBuilder sb = new StringBuilder();
-                    while (obdRunning && in != null && (read = in.read(buffer)) > 0) {
-                        sb.append(new String(buffer, 0, read));
-                        int idx;
-                        while ((idx = sb.indexOf("\n")) != -1) {
-                            String line = sb.substring(0, idx).trim();
-                            sb.delete(0, idx + 1);
-                            final String payload = line;
-                            webView.post(() -> webView.evaluateJavascript("if(window.onOBDData) window.onOBDData(" + JSONObject.quote(payload) + ");", null));
-                        }
-                    }
-                } catch (Exception ignored) {
-                } finally {
-                    try { if (obdInputStream != null) obdInputStream.close(); } catch (Exception ignored) {}
-                    try { if (obdSocket != null) obdSocket.close(); } catch (Exception ignored) {}
-                    obdRunning = false;
-                }
-            });
-            obdThread.start();
-            return true;
-        } catch (SecurityException se) {
-            return false;
-        } catch (Exception e) {
-            try { if (obdInputStream != null) obdInputStream.close(); } catch (Exception ignored) {}
-            try { if (obdSocket != null) obdSocket.close(); } catch (Exception ignored) {}
-            obdRunning = false;
-            return false;
-        }
+        TelemetryService service = telemetryService;
+        return service != null && service.startObd(target);
     }
 
     @JavascriptInterface
     public void stopObd() {
-        obdRunning = false;
-        try { if (obdInputStream != null) obdInputStream.close(); } catch (Exception ignored) {}
-        try { if (obdSocket != null) obdSocket.close(); } catch (Exception ignored) {}
-        obdInputStream = null;
-        obdSocket = null;
-        if (obdThread != null) {
-            try { obdThread.join(200); } catch (Exception ignored) {}
-            obdThread = null;
-        }
+        TelemetryService service = telemetryService;
+        if (service != null) service.stopObd();
+        obdBatcher.clear();
     }
 
     @JavascriptInterface
     public boolean isObdRunning() {
-        return obdRunning;
+        TelemetryService service = telemetryService;
+        return service != null && service.isObdActive();
     }
-}
 
-class DownloadCompleteReceiver extends BroadcastReceiver {
-    private final BridgeActivity activity;
+    @JavascriptInterface
+    public String getObdState() {
+        TelemetryService service = telemetryService;
+        return service != null ? service.getObdState() : "{}";
+    }
 
-    DownloadCompleteReceiver(BridgeActivity activity) {
-        this.activity = activity;
+    @JavascriptInterface
+    public boolean startReplay(String source, double speed) {
+        TelemetryService service = telemetryService;
+        return service != null && source != null && service.startReplay(source, speed);
     }
 
-    @Override
-    public void onReceive(Context context, Intent intent) {
+    @JavascriptInterface
+    public void stopReplay() {
+        TelemetryService service = telemetryService;
+        if (service != null) service.stopReplay();
+        obdBatcher.clear();
+    }
+
+    @JavascriptInterface
+    public String getReplayStats() {
+        TelemetryService service = telemetryService;
+        return service != null ? service.getReplayStats() : "{}";
+    }
+
+    @JavascriptInterface
+    public boolean startLocation(long intervalMs, long batchMs) {
+        TelemetryService service = telemetryService;
+        return service != null && service.startLocation(
+                intervalMs > 0 ? intervalMs : LocationEngine.DEFAULT_INTERVAL_MS,
+                batchMs >= 0 ? batchMs : LocationEngine.DEFAULT_BATCH_MS);
+    }
+
+    @JavascriptInterface
+    public void stopLocation() {
+        TelemetryService service = telemetryService;
+        if (service != null) service.stopLocation();
+    }
+
+    @JavascriptInterface
+    public boolean isLocationRunning() {
+        TelemetryService service = telemetryService;
+        return service != null && service.isLocationRunning();
+    }
+
+    @JavascriptInterface
+    public String getLocationStats() {
+        TelemetryService service = telemetryService;
+        return service != null ? service.getLocationStats() : "{}";
+    }
+
+    @JavascriptInterface
+    public void recordLocation(double latitude, double longitude, double speedKmh, double accuracy, long timestampMs) {
+        TelemetryService service = telemetryService;
+        if (service != null) service.recordLocation(latitude, longitude, speedKmh, accuracy, timestampMs);
+    }
+
+    @JavascriptInterface
+    public String getTrips() {
+        TelemetryService service = telemetryService;
+        TripRecorder recorder = service != null ? service.getTripRecorder() : null;
+        JSONArray trips = new JSONArray();
+        if (recorder == null) return trips.toString();
         try {
-            DownloadManager dm = (DownloadManager) context.getSystemService(Context.DOWNLOAD_SERVICE);
-            if (dm == null) return;
-            long downloadId = intent.getLongExtra(DownloadManager.EXTRA_DOWNLOAD_ID, -1);
-            
-            DownloadManager.Query query = new DownloadManager.Query().setFilterById(downloadId);
-            try (Cursor cursor = dm.query(query)) {
-                if (cursor != null && cursor.moveToFirst()) {
-                    int statusIdx = cursor.getColumnIndex(DownloadManager.COLUMN_STATUS);
-                    if (statusIdx != -1) {
-                        int status = cursor.getInt(statusIdx);
-                        if (status == DownloadManager.STATUS_SUCCESSFUL) {
-                            installApk();
-                        }
-                    }
-                }
+            for (TripRecorder.Trip trip : recorder.trips()) {
+                JSONObject item = new JSONObject();
+                item.put("id", trip.id);
+                item.put("start", trip.startMs);
+                item.put("end", trip.endMs);
+                item.put("samples", trip.samples);
+                trips.put(item);
             }
-            activity.unregisterReceiver(this);
         } catch (Exception ignored) {}
+        return trips.toString();
     }
 
-    private void installApk() {
+    @JavascriptInterface
+    public String queryTelemetry(String channel, long fromMs, long toMs, int limit) {
+        TelemetryService service = telemetryService;
+        TripRecorder recorder = service != null ? service.getTripRecorder() : null;
+        int channelId = TripRecorder.channelForName(channel);
+        StringBuilder result = new StringBuilder("[");
+        if (recorder == null || channelId < 0) return result.append(']').toString();
+        int max = limit > 0 ? limit : 10000;
+        int[] count = {0};
         try {
-            File apkFile = new File(Environment.getExternalStoragePublicDirectory(Environment.DIRECTORY_DOWNLOADS), "maxdrive-latest.apk");
-            if (apkFile.exists()) {
-                Uri contentUri = FileProvider.getUriForFile(activity, activity.getPackageName() + ".fileprovider", apkFile);
-                Intent intent = new Intent(Intent.ACTION_VIEW);
-                intent.setDataAndType(contentUri, "application/vnd.android.package-archive");
-                intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
-                intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
-                activity.startActivity(intent);
+            recorder.scan(fromMs, toMs, (t, c, v) -> {
+                if (c != channelId) return true;
+                if (count[0]++ > 0) result.append(',');
+                result.append('[').append(t).append(',').append(v).append(']');
+                return count[0] < max;
+            });
+        } catch (Exception e) {
+            Log.w("WebAppInterface", "Telemetry query failed", e);
+        }
+        return result.append(']').toString();
+    }
+
+    @JavascriptInterface
+    public String queryTelemetrySeries(String channel, long fromMs, long toMs, int buckets) {
+        TelemetryService service = telemetryService;
+        TripRecorder recorder = service != null ? service.getTripRecorder() : null;
+        int channelId = TripRecorder.channelForName(channel);
+        JSONObject result = new JSONObject();
+        if (recorder == null || channelId < 0) return result.toString();
+        try {
+            TripRecorder.Series series = recorder.downsample(channelId, fromMs, toMs, Math.max(1, Math.min(buckets, 4096)));
+            JSONArray t = new JSONArray();
+            JSONArray avg = new JSONArray();
+            JSONArray min = new JSONArray();
+            JSONArray max = new JSONArray();
+            for (int i = 0; i < series.length; i++) {
+                t.put(series.timestamps[i]);
+                avg.put(series.average[i]);
+                min.put(series.min[i]);
+                max.put(series.max[i]);
             }
+            result.put("t", t);
+            result.put("avg", avg);
+            result.put("min", min);
+            result.put("max", max);
         } catch (Exception e) {
-            Log.e("DownloadReceiver", "Failed to install APK", e);
+            Log.w("WebAppInterface", "Telemetry series query failed", e);
         }
+        return result.toString();
+    }
+
+    @JavascriptInterface
+    public String getObdStats() {
+        try {
+            JSONObject stats = new JSONObject(obdBatcher.getStatsJson());
+            TelemetryService service = telemetryService;
+            Elm327Engine engine = service != null ? service.getObdEngine() : null;
+            if (engine != null) {
+                stats.put("requests", engine.requestCount());
+                stats.put("samplesPerSecond", engine.samplesPerSecond());
+                stats.put("multiPid", engine.isMultiPid());
+            }
+            return stats.toString();
+        } catch (Exception e) {
+            return obdBatcher.getStatsJson();
+        }
+    }
+
+    @JavascriptInterface
+    public void setObdQueueCapacity(int capacity) {
+        obdBatcher.setCapacity(capacity);
+    }
+}
+
+class LocalResourceWebViewClient extends BridgeWebViewClient {
+    private final LocalResourceServer resourceServer;
+    private final StartupTracer tracer;
+
+    LocalResourceWebViewClient(Bridge bridge, LocalResourceServer resourceServer, StartupTracer tracer) {
+        super(bridge);
+        this.resourceServer = resourceServer;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void onPageFinished(WebView view, String url) {
+        super.onPageFinished(view, url);
+        tracer.end("webview-ready");
+    }
+
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+        WebResourceResponse response = resourceServer.intercept(request);
+        return response != null ? response : super.shouldInterceptRequest(view, request);
     }
 }
 
 public class MainActivity extends BridgeActivity {
+    private final StartupTracer tracer = new StartupTracer();
+    private WebAppInterface webAppInterface;
+
     @Override
     public void onCreate(Bundle savedInstanceState) {
+        tracer.begin("webview-ready");
+        tracer.begin("first-speed");
         super.onCreate(savedInstanceState);
+        LocalResourceServer resourceServer = new LocalResourceServer();
+        getBridge().setWebViewClient(new LocalResourceWebViewClient(getBridge(), resourceServer, tracer));
         WebView wv = getBridge().getWebView();
         wv.getSettings().setJavaScriptEnabled(true);
-        wv.addJavascriptInterface(new WebAppInterface(this, wv), "Android");
+        webAppInterface = new WebAppInterface(this, wv, resourceServer, tracer);
+        wv.addJavascriptInterface(webAppInterface, "Android");
+    }
+
+    @Override
+    public void onStart() {
+        super.onStart();
+        if (webAppInterface != null) webAppInterface.onHostStart();
+    }
+
+    @Override
+    public void onStop() {
+        if (webAppInterface != null) webAppInterface.onHostStop();
+        super.onStop();
+    }
+
+    @Override
+    public void onDestroy() {
+        if (webAppInterface != null) webAppInterface.release();
+        super.onDestroy();
     }
 }
@@ -1,152 +1,95 @@
 package com.maxdrive.app;
 
+import android.app.Notification;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.service.notification.NotificationListenerService;
 import android.service.notification.StatusBarNotification;
-import android.media.session.MediaController;
 import android.media.session.MediaSessionManager;
-import android.media.session.PlaybackState;
-import android.media.MediaMetadata;
-import android.content.ComponentName;
-import java.util.List;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MediaNotificationListener extends NotificationListenerService {
     private static final String TAG = "MediaListener";
-    private static String cachedMediaJson = "{}";
-    private static long lastUpdateTime = 0;
+    private static final long REFRESH_DELAY_MS = 250;
+    private static final long CACHE_TTL_MS = 30000;
+
+    static final class CachedMedia {
+        final String json;
+        final long updatedAt;
+
+        CachedMedia(String json, long updatedAt) {
+            this.json = json;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    private static final AtomicReference<CachedMedia> cachedMedia = new AtomicReference<>(new CachedMedia("{}", 0));
+    // Only positives are remembered: a player can post ordinary notifications before its media one.
+    private static final Set<String> mediaPackages = ConcurrentHashMap.newKeySet();
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable refresh = this::updateCurrentMedia;
+    private boolean refreshScheduled = false;
 
     @Override
     public void onListenerConnected() {
         updateCurrentMedia();
     }
 
+    @Override
+    public void onListenerDisconnected() {
+        handler.removeCallbacks(refresh);
+        refreshScheduled = false;
+    }
+
     @Override
     public void onNotificationPosted(StatusBarNotification sbn) {
-        String packageName = sbn.getPackageName();
-        if (isMediaApp(packageName)) {
-            updateCurrentMedia();
-        }
+        if (isMediaNotification(sbn)) scheduleRefresh();
     }
 
     @Override
     public void onNotificationRemoved(StatusBarNotification sbn) {
+        if (isMediaNotification(sbn)) scheduleRefresh();
+    }
+
+    private boolean isMediaNotification(StatusBarNotification sbn) {
         String packageName = sbn.getPackageName();
-        if (isMediaApp(packageName)) {
-            updateCurrentMedia();
-        }
+        if (packageName == null) return false;
+        if (mediaPackages.contains(packageName)) return true;
+        if (!hasMediaSession(sbn.getNotification())) return false;
+        mediaPackages.add(packageName);
+        return true;
     }
 
-    private boolean isMediaApp(String packageName) {
-        return packageName != null && (
-            packageName.contains("music") ||
-            packageName.contains("spotify") ||
-            packageName.contains("youtube") ||
-            packageName.contains("soundcloud") ||
-            packageName.contains("pandora") ||
-            packageName.contains("deezer") ||
-            packageName.contains("tidal") ||
-            packageName.contains("apple.music") ||
-            packageName.contains("com.google.android.music") ||
-            packageName.contains("com.android.music")
-        );
+    private static boolean hasMediaSession(Notification notification) {
+        if (notification == null) return false;
+        if (Notification.CATEGORY_TRANSPORT.equals(notification.category)) return true;
+        Bundle extras = notification.extras;
+        return extras != null && extras.containsKey(Notification.EXTRA_MEDIA_SESSION);
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled) return;
+        refreshScheduled = true;
+        handler.postDelayed(refresh, REFRESH_DELAY_MS);
     }
 
     private void updateCurrentMedia() {
-        try {
-            MediaSessionManager mediaSessionManager = (MediaSessionManager) getSystemService(MEDIA_SESSION_SERVICE);
-            if (mediaSessionManager != null) {
-                List<MediaController> controllers;
-                try {
-                    ComponentName componentName = new ComponentName(this, MediaNotificationListener.class);
-                    controllers = mediaSessionManager.getActiveSessions(componentName);
-                } catch (Exception e) {
-                    controllers = mediaSessionManager.getActiveSessions(null);
-                }
-
-                if (controllers != null && !controllers.isEmpty()) {
-                    MediaController activeController = null;
-                    MediaController mostRecentController = null;
-                    long latestTime = 0;
-
-                    for (MediaController controller : controllers) {
-                        PlaybackState playbackState = controller.getPlaybackState();
-                        if (playbackState != null) {
-                            int state = playbackState.getState();
-                            if (state == PlaybackState.STATE_PLAYING || state == PlaybackState.STATE_BUFFERING) {
-                                activeController = controller;
-                                break;
-                            }
-                            long lastPositionUpdateTime = playbackState.getLastPositionUpdateTime();
-                            if (lastPositionUpdateTime > latestTime) {
-                                latestTime = lastPositionUpdateTime;
-                                mostRecentController = controller;
-                            }
-                        }
-                    }
-
-                    if (activeController == null) {
-                        activeController = (mostRecentController != null) ? mostRecentController : controllers.get(0);
-                    }
-
-                    if (activeController != null) {
-                        MediaMetadata metadata = activeController.getMetadata();
-                        PlaybackState playbackState = activeController.getPlaybackState();
-                        if (metadata != null) {
-                            org.json.JSONObject media = new org.json.JSONObject();
-
-                            CharSequence title = metadata.getText(MediaMetadata.METADATA_KEY_TITLE);
-                            CharSequence artist = metadata.getText(MediaMetadata.METADATA_KEY_ARTIST);
-                            CharSequence album = metadata.getText(MediaMetadata.METADATA_KEY_ALBUM);
-
-                            if (title != null) media.put("title", title.toString());
-                            if (artist != null) media.put("artist", artist.toString());
-                            if (album != null) media.put("album", album.toString());
-
-                            CharSequence displayTitle = metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_TITLE);
-                            CharSequence displaySubtitle = metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_SUBTITLE);
-                            CharSequence displayDescription = metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_DESCRIPTION);
-
-                            if (displayTitle != null && !media.has("title")) media.put("title", displayTitle.toString());
-                            if (displaySubtitle != null && !media.has("artist")) media.put("artist", displaySubtitle.toString());
-                            if (displayDescription != null) media.put("description", displayDescription.toString());
-
-                            long duration = metadata.getLong(MediaMetadata.METADATA_KEY_DURATION);
-                            if (duration > 0) media.put("duration", duration);
-
-                            if (playbackState != null) {
-                                long position = playbackState.getPosition();
-                                if (position >= 0) media.put("position", position);
-
-                                int state = playbackState.getState();
-                                media.put("isPlaying", state == PlaybackState.STATE_PLAYING);
-                                media.put("isPaused", state == PlaybackState.STATE_PAUSED);
-                                media.put("isStopped", state == PlaybackState.STATE_STOPPED);
-
-                                float speed = playbackState.getPlaybackSpeed();
-                                if (speed != 0) media.put("speed", speed);
-                            }
-
-                            String packageName = activeController.getPackageName();
-                            if (packageName != null) media.put("packageName", packageName);
-
-                            cachedMediaJson = media.toString();
-                            lastUpdateTime = System.currentTimeMillis();
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-        }
+        refreshScheduled = false;
+        String media = MediaReader.read(this, (MediaSessionManager) getSystemService(MEDIA_SESSION_SERVICE));
+        if (media != null) setCachedMedia(media);
     }
 
     public static void setCachedMedia(String json) {
-        cachedMediaJson = json;
-        lastUpdateTime = System.currentTimeMillis();
+        cachedMedia.set(new CachedMedia(json, System.currentTimeMillis()));
     }
 
     public static String getCachedMedia() {
-        if (System.currentTimeMillis() - lastUpdateTime < 30000) {
-            return cachedMediaJson;
-        }
-        return "{}";
+        CachedMedia cached = cachedMedia.get();
+        return System.currentTimeMillis() - cached.updatedAt < CACHE_TTL_MS ? cached.json : "{}";
     }
 }
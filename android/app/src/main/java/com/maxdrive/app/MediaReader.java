@@ -0,0 +1,99 @@
+package com.maxdrive.app;
+
+import android.content.ComponentName;
+import android.content.Context;
+import android.media.MediaMetadata;
+import android.media.session.MediaController;
+import android.media.session.MediaSessionManager;
+import android.media.session.PlaybackState;
+import android.os.SystemClock;
+
+import java.util.List;
+
+class MediaReader {
+    private MediaReader() {}
+
+    static List<MediaController> activeSessions(Context context, MediaSessionManager manager) {
+        try {
+            return manager.getActiveSessions(new ComponentName(context, MediaNotificationListener.class));
+        } catch (Exception e) {
+            return manager.getActiveSessions(null);
+        }
+    }
+
+    static MediaController pickController(List<MediaController> controllers) {
+        if (controllers == null || controllers.isEmpty()) return null;
+        MediaController mostRecentController = null;
+        long latestTime = 0;
+        for (MediaController controller : controllers) {
+            PlaybackState playbackState = controller.getPlaybackState();
+            if (playbackState != null) {
+                int state = playbackState.getState();
+                if (state == PlaybackState.STATE_PLAYING || state == PlaybackState.STATE_BUFFERING) {
+                    return controller;
+                }
+                long lastPositionUpdateTime = playbackState.getLastPositionUpdateTime();
+                if (lastPositionUpdateTime > latestTime) {
+                    latestTime = lastPositionUpdateTime;
+                    mostRecentController = controller;
+                }
+            }
+        }
+        return mostRecentController != null ? mostRecentController : controllers.get(0);
+    }
+
+    static String read(Context context, MediaSessionManager manager) {
+        if (manager == null) return null;
+        try {
+            MediaController controller = pickController(activeSessions(context, manager));
+            return controller != null ? toJson(controller) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    static String toJson(MediaController controller) throws Exception {
+        MediaSnapshot snapshot = snapshot(controller);
+        return snapshot != null ? snapshot.toJson() : null;
+    }
+
+    static MediaSnapshot snapshot(MediaController controller) {
+        MediaMetadata metadata = controller.getMetadata();
+        PlaybackState playbackState = controller.getPlaybackState();
+        if (metadata == null) return null;
+
+        long duration = 0;
+        try { duration = metadata.getLong(MediaMetadata.METADATA_KEY_DURATION); } catch (Exception ignored) {}
+
+        long position = -1;
+        long positionAt = 0;
+        int state = MediaSnapshot.STATE_UNKNOWN;
+        float speed = 0;
+        if (playbackState != null) {
+            position = playbackState.getPosition();
+            long updatedAt = playbackState.getLastPositionUpdateTime();
+            long now = System.currentTimeMillis();
+            positionAt = updatedAt > 0 ? now - (SystemClock.elapsedRealtime() - updatedAt) : now;
+            state = toSnapshotState(playbackState.getState());
+            speed = playbackState.getPlaybackSpeed();
+        }
+
+        String packageName = controller.getPackageName();
+        return new MediaSnapshot(
+                MediaSnapshot.text(metadata.getText(MediaMetadata.METADATA_KEY_TITLE), metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_TITLE)),
+                MediaSnapshot.text(metadata.getText(MediaMetadata.METADATA_KEY_ARTIST), metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_SUBTITLE)),
+                MediaSnapshot.text(metadata.getText(MediaMetadata.METADATA_KEY_ALBUM), null),
+                MediaSnapshot.text(metadata.getText(MediaMetadata.METADATA_KEY_DISPLAY_DESCRIPTION), null),
+                duration, position, positionAt, state, speed, packageName,
+                AlbumArtCache.shared().urlFor(metadata, packageName));
+    }
+
+    private static int toSnapshotState(int state) {
+        switch (state) {
+            case PlaybackState.STATE_PLAYING: return MediaSnapshot.STATE_PLAYING;
+            case PlaybackState.STATE_PAUSED: return MediaSnapshot.STATE_PAUSED;
+            case PlaybackState.STATE_STOPPED: return MediaSnapshot.STATE_STOPPED;
+            default: return MediaSnapshot.STATE_OTHER;
+        }
+    }
+}
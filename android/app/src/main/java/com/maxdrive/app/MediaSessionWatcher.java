@@ -0,0 +1,146 @@
+package com.maxdrive.app;
+
+import android.content.ComponentName;
+import android.content.Context;
+import android.media.MediaMetadata;
+import android.media.session.MediaController;
+import android.media.session.MediaSession;
+import android.media.session.MediaSessionManager;
+import android.media.session.PlaybackState;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+class MediaSessionWatcher {
+    private static final String TAG = "MediaSessionWatcher";
+    static final String EMPTY = "{}";
+
+    interface Listener {
+        void onMediaChanged(String mediaJson);
+    }
+
+    private final Context context;
+    private final MediaSessionManager manager;
+    private final Listener listener;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Map<MediaSession.Token, MediaController> controllers = new HashMap<>();
+    private final MediaSessionManager.OnActiveSessionsChangedListener sessionsListener = this::sync;
+    private final MediaController.Callback callback = new MediaController.Callback() {
+        @Override
+        public void onMetadataChanged(MediaMetadata metadata) {
+            publish();
+        }
+
+        @Override
+        public void onPlaybackStateChanged(PlaybackState state) {
+            publish();
+        }
+
+        @Override
+        public void onSessionDestroyed() {
+            refresh();
+        }
+    };
+    private volatile String current = EMPTY;
+    private boolean started = false;
+    private boolean listening = false;
+
+    MediaSessionWatcher(Context context, Listener listener) {
+        this.context = context.getApplicationContext();
+        this.manager = (MediaSessionManager) context.getSystemService(Context.MEDIA_SESSION_SERVICE);
+        this.listener = listener;
+    }
+
+    String current() {
+        return current;
+    }
+
+    void start() {
+        if (manager == null || started) return;
+        started = true;
+        refresh();
+    }
+
+    void stop() {
+        if (!started) return;
+        started = false;
+        if (listening) {
+            try { manager.removeOnActiveSessionsChangedListener(sessionsListener); } catch (Exception ignored) {}
+            listening = false;
+        }
+        for (MediaController c : controllers.values()) {
+            try { c.unregisterCallback(callback); } catch (Exception ignored) {}
+        }
+        controllers.clear();
+    }
+
+    void refresh() {
+        if (!started) return;
+        if (!listening) listen();
+        try {
+            sync(MediaReader.activeSessions(context, manager));
+        } catch (SecurityException e) {
+            Log.w(TAG, "Media session access not granted");
+        } catch (Exception e) {
+            Log.w(TAG, "Could not list media sessions", e);
+        }
+    }
+
+    private void listen() {
+        try {
+            manager.addOnActiveSessionsChangedListener(sessionsListener, new ComponentName(context, MediaNotificationListener.class), handler);
+            listening = true;
+        } catch (Exception e) {
+            try {
+                manager.addOnActiveSessionsChangedListener(sessionsListener, null, handler);
+                listening = true;
+            } catch (Exception ignored) {}
+        }
+    }
+
+    private void sync(List<MediaController> active) {
+        if (!started) return;
+        Map<MediaSession.Token, MediaController> next = new HashMap<>();
+        if (active != null) {
+            for (MediaController c : active) next.put(c.getSessionToken(), c);
+        }
+        Iterator<Map.Entry<MediaSession.Token, MediaController>> it = controllers.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<MediaSession.Token, MediaController> entry = it.next();
+            if (next.containsKey(entry.getKey())) continue;
+            try { entry.getValue().unregisterCallback(callback); } catch (Exception ignored) {}
+            it.remove();
+        }
+        for (Map.Entry<MediaSession.Token, MediaController> entry : next.entrySet()) {
+            if (controllers.containsKey(entry.getKey())) continue;
+            entry.getValue().registerCallback(callback, handler);
+            controllers.put(entry.getKey(), entry.getValue());
+        }
+        publish();
+    }
+
+    private void publish() {
+        String media;
+        if (controllers.isEmpty()) {
+            media = EMPTY;
+        } else {
+            try {
+                MediaController c = MediaReader.pickController(new ArrayList<>(controllers.values()));
+                media = c != null ? MediaReader.toJson(c) : null;
+            } catch (Exception e) {
+                media = null;
+            }
+            if (media == null) return;
+        }
+        if (media.equals(current)) return;
+        current = media;
+        MediaNotificationListener.setCachedMedia(media);
+        listener.onMediaChanged(media);
+    }
+}
@@ -0,0 +1,68 @@
+package com.maxdrive.app;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+final class MediaSnapshot {
+    static final int STATE_UNKNOWN = -1;
+    static final int STATE_OTHER = 0;
+    static final int STATE_STOPPED = 1;
+    static final int STATE_PAUSED = 2;
+    static final int STATE_PLAYING = 3;
+
+    final String title;
+    final String artist;
+    final String album;
+    final String description;
+    final long duration;
+    final long position;
+    final long positionAt;
+    final int state;
+    final float speed;
+    final String packageName;
+    final String artUrl;
+
+    MediaSnapshot(String title, String artist, String album, String description, long duration,
+                  long position, long positionAt, int state, float speed, String packageName, String artUrl) {
+        this.title = title;
+        this.artist = artist;
+        this.album = album;
+        this.description = description;
+        this.duration = duration;
+        this.position = position;
+        this.positionAt = positionAt;
+        this.state = state;
+        this.speed = speed;
+        this.packageName = packageName;
+        this.artUrl = artUrl;
+    }
+
+    static String text(CharSequence primary, CharSequence fallback) {
+        if (primary != null) return primary.toString();
+        return fallback != null ? fallback.toString() : null;
+    }
+
+    String toJson() {
+        JSONObject media = new JSONObject();
+        try {
+            if (title != null) media.put("title", title);
+            if (artist != null) media.put("artist", artist);
+            if (album != null) media.put("album", album);
+            if (description != null) media.put("description", description);
+            if (duration > 0) media.put("duration", duration);
+            if (state != STATE_UNKNOWN) {
+                if (position >= 0) {
+                    media.put("position", position);
+                    media.put("positionAt", positionAt);
+                }
+                media.put("isPlaying", state == STATE_PLAYING);
+                media.put("isPaused", state == STATE_PAUSED);
+                media.put("isStopped", state == STATE_STOPPED);
+                if (speed != 0) media.put("speed", speed);
+            }
+            if (packageName != null) media.put("packageName", packageName);
+            if (artUrl != null) media.put("artUrl", artUrl);
+        } catch (JSONException ignored) {}
+        return media.toString();
+    }
+}
@@ -0,0 +1,180 @@
+package com.maxdrive.app;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+// Coalesces OBD samples into one [["name",value,t],...] array per display frame, kept as primitives until then.
+class ObdFrameBatcher {
+    static final int DEFAULT_CAPACITY = 256;
+
+    interface Scheduler {
+        void scheduleFrame(Runnable flush);
+    }
+
+    interface Sink {
+        // Returns false when the batch could not be handed off; onDelivered is only run for accepted batches.
+        boolean deliver(String framesJson, Runnable onDelivered);
+    }
+
+    private final Scheduler scheduler;
+    private final Sink sink;
+    private int[] pids = new int[DEFAULT_CAPACITY];
+    private double[] values = new double[DEFAULT_CAPACITY];
+    private long[] timestamps = new long[DEFAULT_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+    private boolean scheduled = false;
+    private boolean inFlight = false;
+    private boolean paused = false;
+
+    private long received = 0;
+    private long delivered = 0;
+    private long dropped = 0;
+    private long batches = 0;
+
+    ObdFrameBatcher(Scheduler scheduler, Sink sink) {
+        this.scheduler = scheduler;
+        this.sink = sink;
+    }
+
+    static void appendSample(StringBuilder out, String name, double value, long timestampMs) {
+        out.append("[\"").append(name).append("\",").append(value).append(',').append(timestampMs).append(']');
+    }
+
+    synchronized void setCapacity(int capacity) {
+        capacity = Math.max(1, capacity);
+        while (size > capacity) pollFirst();
+        int[] newPids = new int[capacity];
+        double[] newValues = new double[capacity];
+        long[] newTimestamps = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            int j = (head + i) % pids.length;
+            newPids[i] = pids[j];
+            newValues[i] = values[j];
+            newTimestamps[i] = timestamps[j];
+        }
+        pids = newPids;
+        values = newValues;
+        timestamps = newTimestamps;
+        head = 0;
+    }
+
+    void offer(int pid, double value, long timestampMs) {
+        if (ObdParser.pidName(pid) == null) return;
+        boolean schedule;
+        synchronized (this) {
+            received++;
+            if (size == pids.length) pollFirst();
+            int i = (head + size) % pids.length;
+            pids[i] = pid;
+            values[i] = value;
+            timestamps[i] = timestampMs;
+            size++;
+            schedule = shouldSchedule();
+        }
+        if (schedule) scheduler.scheduleFrame(this::flush);
+    }
+
+    synchronized void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // Flushes whatever was held back while the sink was rejecting batches.
+    void resume() {
+        boolean schedule;
+        synchronized (this) {
+            paused = false;
+            schedule = shouldSchedule();
+        }
+        if (schedule) scheduler.scheduleFrame(this::flush);
+    }
+
+    private boolean shouldSchedule() {
+        if (scheduled || inFlight || paused || size == 0) return false;
+        scheduled = true;
+        return true;
+    }
+
+    private void pollFirst() {
+        head = (head + 1) % pids.length;
+        size--;
+        dropped++;
+    }
+
+    private void flush() {
+        int count;
+        int[] batchPids;
+        double[] batchValues;
+        long[] batchTimestamps;
+        synchronized (this) {
+            scheduled = false;
+            if (size == 0 || paused) return;
+            count = size;
+            batchPids = new int[count];
+            batchValues = new double[count];
+            batchTimestamps = new long[count];
+            for (int i = 0; i < count; i++) {
+                int j = (head + i) % pids.length;
+                batchPids[i] = pids[j];
+                batchValues[i] = values[j];
+                batchTimestamps[i] = timestamps[j];
+            }
+            head = 0;
+            size = 0;
+            inFlight = true;
+        }
+        StringBuilder json = new StringBuilder(count * 32).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            appendSample(json, ObdParser.pidName(batchPids[i]), batchValues[i], batchTimestamps[i]);
+        }
+        if (sink.deliver(json.append(']').toString(), this::onDelivered)) {
+            synchronized (this) {
+                delivered += count;
+                batches++;
+            }
+        } else {
+            requeue(batchPids, batchValues, batchTimestamps);
+        }
+    }
+
+    // Puts a rejected batch back in front of anything offered since, oldest first out when over capacity.
+    private synchronized void requeue(int[] batchPids, double[] batchValues, long[] batchTimestamps) {
+        inFlight = false;
+        paused = true;
+        int room = pids.length - size;
+        int keep = Math.min(room, batchPids.length);
+        dropped += batchPids.length - keep;
+        for (int i = batchPids.length - 1; i >= batchPids.length - keep; i--) {
+            head = (head - 1 + pids.length) % pids.length;
+            pids[head] = batchPids[i];
+            values[head] = batchValues[i];
+            timestamps[head] = batchTimestamps[i];
+            size++;
+        }
+    }
+
+    private void onDelivered() {
+        boolean schedule;
+        synchronized (this) {
+            inFlight = false;
+            schedule = shouldSchedule();
+        }
+        if (schedule) scheduler.scheduleFrame(this::flush);
+    }
+
+    synchronized String getStatsJson() {
+        JSONObject stats = new JSONObject();
+        try {
+            stats.put("received", received);
+            stats.put("delivered", delivered);
+            stats.put("dropped", dropped);
+            stats.put("batches", batches);
+            stats.put("queued", size);
+            stats.put("capacity", pids.length);
+            stats.put("paused", paused);
+        } catch (JSONException ignored) {}
+        return stats.toString();
+    }
+}
@@ -0,0 +1,239 @@
+package com.maxdrive.app;
+
+class ObdParser {
+    static final int PID_SUPPORTED_01_20 = 0x00;
+    static final int PID_ENGINE_LOAD = 0x04;
+    static final int PID_COOLANT_TEMP = 0x05;
+    static final int PID_RPM = 0x0C;
+    static final int PID_SPEED = 0x0D;
+    static final int PID_INTAKE_TEMP = 0x0F;
+    static final int PID_THROTTLE = 0x11;
+    static final int PID_FUEL_LEVEL = 0x2F;
+
+    private static final int RING_SIZE = 1024;
+    private static final int RING_MASK = RING_SIZE - 1;
+    private static final int MAX_MESSAGE = 256;
+
+    interface Listener {
+        void onSample(int pid, double value, long timestampMs);
+    }
+
+    private final Listener listener;
+    private final byte[] ring = new byte[RING_SIZE];
+    private int head = 0;
+    private int tail = 0;
+
+    private final int[] line = new int[MAX_MESSAGE];
+    private final int[] message = new int[MAX_MESSAGE];
+    private int messageLength = 0;
+    private int expectedLength = -1;
+
+    double speed = Double.NaN;
+    double rpm = Double.NaN;
+    double engineLoad = Double.NaN;
+    double coolantTemp = Double.NaN;
+    double intakeTemp = Double.NaN;
+    double throttle = Double.NaN;
+    double fuelLevel = Double.NaN;
+    long supportedPids = -1;
+
+    long samples = 0;
+    long prompts = 0;
+    long textLines = 0;
+    long overflows = 0;
+
+    ObdParser(Listener listener) {
+        this.listener = listener;
+    }
+
+    static String pidName(int pid) {
+        switch (pid) {
+            case PID_ENGINE_LOAD: return "engineLoad";
+            case PID_COOLANT_TEMP: return "coolantTemp";
+            case PID_RPM: return "rpm";
+            case PID_SPEED: return "speed";
+            case PID_INTAKE_TEMP: return "intakeTemp";
+            case PID_THROTTLE: return "throttle";
+            case PID_FUEL_LEVEL: return "fuelLevel";
+            default: return null;
+        }
+    }
+
+    static int dataLength(int pid) {
+        switch (pid) {
+            case PID_RPM:
+            case 0x10:
+                return 2;
+            case PID_SUPPORTED_01_20:
+            case 0x20:
+            case 0x40:
+                return 4;
+            default:
+                return 1;
+        }
+    }
+
+    void reset() {
+        head = 0;
+        tail = 0;
+        messageLength = 0;
+        expectedLength = -1;
+    }
+
+    void feed(byte[] buffer, int offset, int length, long timestampMs) {
+        for (int i = 0; i < length; i++) {
+            if (tail - head == RING_SIZE) {
+                head = 0;
+                tail = 0;
+                overflows++;
+            }
+            ring[tail & RING_MASK] = buffer[offset + i];
+            tail++;
+            byte b = buffer[offset + i];
+            if (b == '\r' || b == '\n' || b == '>') {
+                consumeLine(timestampMs);
+                if (b == '>') {
+                    finishMessage(timestampMs);
+                    prompts++;
+                }
+            }
+        }
+    }
+
+    private void consumeLine(long timestampMs) {
+        int end = tail - 1;
+        int nibbles = 0;
+        int frameIndex = -1;
+        int current = 0;
+        boolean valid = true;
+        boolean empty = true;
+
+        for (int i = head; i < end; i++) {
+            int c = ring[i & RING_MASK];
+            if (c == ' ') continue;
+            empty = false;
+            if (c == ':' && frameIndex < 0 && nibbles == 1) {
+                frameIndex = current;
+                nibbles = 0;
+                current = 0;
+                continue;
+            }
+            int digit = hexValue(c);
+            if (digit < 0) {
+                valid = false;
+                break;
+            }
+            current = (current << 4) | digit;
+            nibbles++;
+            if ((nibbles & 1) == 0) {
+                if ((nibbles >> 1) > MAX_MESSAGE) {
+                    valid = false;
+                    break;
+                }
+                line[(nibbles >> 1) - 1] = current;
+                current = 0;
+            }
+        }
+        head = 0;
+        tail = 0;
+        if (empty) return;
+        if (!valid) {
+            textLines++;
+            return;
+        }
+
+        if (frameIndex >= 0) {
+            if (frameIndex == 0) messageLength = 0;
+            appendToMessage(nibbles >> 1);
+            if (expectedLength > 0 && messageLength >= expectedLength) {
+                messageLength = expectedLength;
+                finishMessage(timestampMs);
+            }
+        } else if ((nibbles & 1) == 1 && nibbles <= 3) {
+            finishMessage(timestampMs);
+            expectedLength = nibbles == 3 ? ((line[0] << 4) | current) : current;
+        } else if ((nibbles & 1) == 0) {
+            finishMessage(timestampMs);
+            appendToMessage(nibbles >> 1);
+            finishMessage(timestampMs);
+        } else {
+            textLines++;
+        }
+    }
+
+    private void appendToMessage(int count) {
+        int room = MAX_MESSAGE - messageLength;
+        int n = Math.min(count, room);
+        System.arraycopy(line, 0, message, messageLength, n);
+        messageLength += n;
+    }
+
+    private void finishMessage(long timestampMs) {
+        if (messageLength > 0) decodeMessage(timestampMs);
+        messageLength = 0;
+        expectedLength = -1;
+    }
+
+    private void decodeMessage(long timestampMs) {
+        if (message[0] != 0x41) return;
+        int i = 1;
+        while (i < messageLength) {
+            int pid = message[i];
+            int len = dataLength(pid);
+            if (i + len >= messageLength) break;
+            int a = message[i + 1];
+            int b = len > 1 ? message[i + 2] : 0;
+            if (pid == PID_SUPPORTED_01_20) {
+                long mask = ((long) message[i + 1] << 24) | ((long) message[i + 2] << 16) | ((long) message[i + 3] << 8) | message[i + 4];
+                supportedPids = supportedPids == -1 ? mask : supportedPids | mask;
+            } else {
+                double value = decode(pid, a, b);
+                if (!Double.isNaN(value)) {
+                    store(pid, value);
+                    samples++;
+                    if (listener != null) listener.onSample(pid, value, timestampMs);
+                }
+            }
+            i += 1 + len;
+        }
+    }
+
+    private void store(int pid, double value) {
+        switch (pid) {
+            case PID_SPEED: speed = value; break;
+            case PID_RPM: rpm = value; break;
+            case PID_ENGINE_LOAD: engineLoad = value; break;
+            case PID_COOLANT_TEMP: coolantTemp = value; break;
+            case PID_INTAKE_TEMP: intakeTemp = value; break;
+            case PID_THROTTLE: throttle = value; break;
+            case PID_FUEL_LEVEL: fuelLevel = value; break;
+        }
+    }
+
+    static double decode(int pid, int a, int b) {
+        switch (pid) {
+            case PID_RPM: return ((a << 8) | b) / 4.0;
+            case PID_SPEED: return a;
+            case PID_COOLANT_TEMP:
+            case PID_INTAKE_TEMP:
+                return a - 40;
+            case PID_ENGINE_LOAD:
+            case PID_THROTTLE:
+            case PID_FUEL_LEVEL:
+                return a * 100.0 / 255.0;
+            default: return Double.NaN;
+        }
+    }
+
+    boolean isSupported(int pid) {
+        if (supportedPids == -1 || pid < 1 || pid > 0x20) return true;
+        return (supportedPids & (1L << (32 - pid))) != 0;
+    }
+
+    private static int hexValue(int c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        return -1;
+    }
+}
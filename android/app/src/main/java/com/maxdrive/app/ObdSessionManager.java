@@ -0,0 +1,369 @@
+package com.maxdrive.app;
+
+import android.Manifest;
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothSocket;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Build;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.core.content.ContextCompat;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.UUID;
+
+class ObdSessionManager {
+    private static final String TAG = "ObdSessionManager";
+    private static final String PREFS = "obd_session";
+    private static final String KEY_ADDRESS = "address";
+    private static final String KEY_METHOD = "method";
+    private static final UUID SPP_UUID = UUID.fromString("00001101-0000-1000-8000-00805F9B34FB");
+    private static final String[] SERIAL_PATHS = {"/dev/ttyUSB0", "/dev/ttyUSB1", "/dev/ttyS0", "/dev/ttyS1", "/dev/ttyMT1", "/dev/ttyMT2"};
+    private static final String[] BLUETOOTH_METHODS = {"spp", "insecure", "channel"};
+    private static final long BACKOFF_BASE_MS = 250;
+    private static final long BACKOFF_MAX_MS = 15000;
+
+    static final String TARGET_EMULATOR = "emulator";
+
+    static final String STATE_IDLE = "idle";
+    static final String STATE_CONNECTING = "connecting";
+    static final String STATE_INITIALIZING = "initializing";
+    static final String STATE_STREAMING = "streaming";
+    static final String STATE_RECONNECTING = "reconnecting";
+
+    interface Listener {
+        void onStateChanged(String stateJson);
+    }
+
+    static final class Link {
+        final InputStream in;
+        final OutputStream out;
+        final Closeable resource;
+        final String address;
+        final String method;
+
+        Link(InputStream in, OutputStream out, Closeable resource, String address, String method) {
+            this.in = in;
+            this.out = out;
+            this.resource = resource;
+            this.address = address;
+            this.method = method;
+        }
+
+        void close() {
+            try { in.close(); } catch (Exception ignored) {}
+            try { out.close(); } catch (Exception ignored) {}
+            try { if (resource != null) resource.close(); } catch (Exception ignored) {}
+        }
+    }
+
+    private final Context context;
+    private final SharedPreferences prefs;
+    private final ObdParser.Listener sampleListener;
+    private final Listener stateListener;
+    private final BluetoothAdapter bluetoothAdapter;
+    private final Random random = new Random();
+
+    private volatile boolean active = false;
+    private volatile String state = STATE_IDLE;
+    private volatile Link link;
+    private volatile Elm327Engine engine;
+    private volatile Thread thread;
+    private String target;
+
+    private volatile long attemptStartedMs = 0;
+    private volatile long connectMs = -1;
+    private volatile long timeToFirstSampleMs = -1;
+    private volatile boolean sampled = false;
+    private volatile int attempt = 0;
+    private volatile int reconnects = 0;
+    private volatile String lastError;
+
+    ObdSessionManager(Context context, ObdParser.Listener sampleListener, Listener stateListener) {
+        this.context = context.getApplicationContext();
+        this.prefs = this.context.getSharedPreferences(PREFS, Context.MODE_PRIVATE);
+        this.sampleListener = sampleListener;
+        this.stateListener = stateListener;
+        this.bluetoothAdapter = BluetoothAdapter.getDefaultAdapter();
+    }
+
+    synchronized boolean start(String target) {
+        if (active) return true;
+        this.target = target != null ? target.trim() : "";
+        if (!hasCandidate()) return false;
+        active = true;
+        attempt = 0;
+        reconnects = 0;
+        Thread t = new Thread(this::loop, "ObdSession");
+        thread = t;
+        t.start();
+        return true;
+    }
+
+    void stop() {
+        Thread t;
+        synchronized (this) {
+            active = false;
+            t = thread;
+            thread = null;
+        }
+        Elm327Engine e = engine;
+        if (e != null) e.stop();
+        Link l = link;
+        if (l != null) l.close();
+        if (t != null) {
+            t.interrupt();
+            try { t.join(200); } catch (InterruptedException ignored) {}
+        }
+        setState(STATE_IDLE);
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    Elm327Engine getEngine() {
+        return engine;
+    }
+
+    String getStateJson() {
+        JSONObject json = new JSONObject();
+        try {
+            json.put("state", state);
+            Link l = link;
+            if (l != null) {
+                json.put("address", l.address);
+                json.put("method", l.method);
+            }
+            json.put("attempt", attempt);
+            json.put("reconnects", reconnects);
+            json.put("connectMs", connectMs);
+            json.put("timeToFirstSampleMs", timeToFirstSampleMs);
+            if (lastError != null) json.put("lastError", lastError);
+        } catch (JSONException ignored) {}
+        return json.toString();
+    }
+
+    private void loop() {
+        while (isCurrent()) {
+            attemptStartedMs = SystemClock.elapsedRealtime();
+            sampled = false;
+            setState(attempt == 0 && reconnects == 0 ? STATE_CONNECTING : STATE_RECONNECTING);
+            Link l = connect();
+            if (l == null) {
+                if (!backoff(++attempt)) break;
+                continue;
+            }
+            link = l;
+            // stop() may have run while connect() was blocked; it has already published idle.
+            if (!isCurrent()) {
+                if (link == l) link = null;
+                l.close();
+                return;
+            }
+            connectMs = SystemClock.elapsedRealtime() - attemptStartedMs;
+            Elm327Engine e = new Elm327Engine(l.in, l.out, this::onSample);
+            engine = e;
+            try {
+                setState(STATE_INITIALIZING);
+                e.initialize();
+                if (isCurrent()) {
+                    setState(STATE_STREAMING);
+                    e.run();
+                }
+            } catch (Exception ex) {
+                lastError = ex.getMessage();
+            } finally {
+                if (engine == e) engine = null;
+                if (link == l) link = null;
+                l.close();
+            }
+            if (!isCurrent()) break;
+            reconnects++;
+            if (sampled) {
+                attempt = 0;
+            } else if (!backoff(++attempt)) {
+                break;
+            }
+        }
+        synchronized (this) {
+            if (thread != Thread.currentThread()) return;
+            active = false;
+            thread = null;
+        }
+        setState(STATE_IDLE);
+    }
+
+    private boolean isCurrent() {
+        return active && thread == Thread.currentThread();
+    }
+
+    private void onSample(int pid, double value, long timestampMs) {
+        if (!sampled) {
+            sampled = true;
+            timeToFirstSampleMs = SystemClock.elapsedRealtime() - attemptStartedMs;
+            stateListener.onStateChanged(getStateJson());
+        }
+        sampleListener.onSample(pid, value, timestampMs);
+    }
+
+    private boolean backoff(int attempt) {
+        long cap = Math.min(BACKOFF_MAX_MS, BACKOFF_BASE_MS << Math.min(attempt - 1, 16));
+        long delay = cap / 2 + (long) (random.nextDouble() * (cap / 2));
+        try {
+            Thread.sleep(delay);
+            return isCurrent();
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private void setState(String state) {
+        this.state = state;
+        stateListener.onStateChanged(getStateJson());
+    }
+
+    private boolean hasCandidate() {
+        if (isEmulatorTarget()) return true;
+        if (canUseBluetooth()) return true;
+        for (String path : SERIAL_PATHS) {
+            File f = new File(path);
+            if (f.exists() && f.canRead() && f.canWrite()) return true;
+        }
+        return false;
+    }
+
+    private boolean canUseBluetooth() {
+        if (bluetoothAdapter == null || !bluetoothAdapter.isEnabled()) return false;
+        return Build.VERSION.SDK_INT < Build.VERSION_CODES.S
+                || ContextCompat.checkSelfPermission(context, Manifest.permission.BLUETOOTH_CONNECT) == PackageManager.PERMISSION_GRANTED;
+    }
+
+    private boolean isEmulatorTarget() {
+        return TARGET_EMULATOR.equals(target) && (context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+    }
+
+    private Link connect() {
+        if (isEmulatorTarget()) return ObdEmulator.open();
+        String address = prefs.getString(KEY_ADDRESS, null);
+        String method = prefs.getString(KEY_METHOD, null);
+        boolean useCached = address != null && (target.isEmpty() || target.equals(address));
+        Link l = null;
+        try {
+            if (useCached && "tty".equals(method)) {
+                l = openSerial(address);
+            } else if (useCached && canUseBluetooth()) {
+                l = openBluetooth(bluetoothAdapter.getRemoteDevice(address), method);
+            }
+            if (l == null && canUseBluetooth()) {
+                BluetoothDevice device = findBondedDevice();
+                if (device != null && !(useCached && device.getAddress().equals(address))) {
+                    l = openBluetooth(device, null);
+                }
+            }
+            if (l == null) {
+                for (String path : SERIAL_PATHS) {
+                    if ((l = openSerial(path)) != null) break;
+                }
+            }
+        } catch (SecurityException e) {
+            lastError = e.getMessage();
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            Log.w(TAG, "OBD connect failed", e);
+        }
+        if (l != null) {
+            prefs.edit().putString(KEY_ADDRESS, l.address).putString(KEY_METHOD, l.method).apply();
+        }
+        return l;
+    }
+
+    private BluetoothDevice findBondedDevice() {
+        for (BluetoothDevice d : bluetoothAdapter.getBondedDevices()) {
+            if (d == null) continue;
+            String name = d.getName() != null ? d.getName() : "";
+            String addr = d.getAddress() != null ? d.getAddress() : "";
+            if (!target.isEmpty()) {
+                if (name.contains(target) || addr.equals(target)) return d;
+            } else if (name.toLowerCase().contains("elm") || name.toLowerCase().contains("obd")) {
+                return d;
+            }
+        }
+        return null;
+    }
+
+    private Link openBluetooth(BluetoothDevice device, String preferred) {
+        try { bluetoothAdapter.cancelDiscovery(); } catch (SecurityException ignored) {}
+        if (preferred != null) {
+            Link l = openBluetooth(device, preferred, true);
+            if (l != null) return l;
+        }
+        for (String method : BLUETOOTH_METHODS) {
+            if (method.equals(preferred)) continue;
+            Link l = openBluetooth(device, method, false);
+            if (l != null) return l;
+        }
+        return null;
+    }
+
+    private Link openBluetooth(BluetoothDevice device, String method, boolean cached) {
+        BluetoothSocket socket = null;
+        try {
+            switch (method) {
+                case "spp":
+                    socket = device.createRfcommSocketToServiceRecord(SPP_UUID);
+                    break;
+                case "insecure":
+                    socket = device.createInsecureRfcommSocketToServiceRecord(SPP_UUID);
+                    break;
+                case "channel":
+                    socket = (BluetoothSocket) device.getClass().getMethod("createRfcommSocket", int.class).invoke(device, 1);
+                    break;
+                default:
+                    return null;
+            }
+            socket.connect();
+            return new Link(socket.getInputStream(), socket.getOutputStream(), socket, device.getAddress(), method);
+        } catch (SecurityException e) {
+            throw e;
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            if (socket != null) {
+                try { socket.close(); } catch (IOException ignored) {}
+            }
+            if (cached) Log.w(TAG, "Cached OBD link " + method + " failed, trying alternatives");
+            return null;
+        }
+    }
+
+    private Link openSerial(String path) {
+        File f = new File(path);
+        if (!f.exists() || !f.canRead() || !f.canWrite()) return null;
+        try {
+            FileInputStream in = new FileInputStream(f);
+            try {
+                return new Link(in, new FileOutputStream(f), null, path, "tty");
+            } catch (IOException e) {
+                in.close();
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.maxdrive.app;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.Uri;
+
+import androidx.core.content.ContextCompat;
+
+class PackageChangeReceiver extends BroadcastReceiver {
+    private final AppCatalog catalog;
+
+    PackageChangeReceiver(AppCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    void register(Context context) {
+        IntentFilter filter = new IntentFilter();
+        filter.addAction(Intent.ACTION_PACKAGE_ADDED);
+        filter.addAction(Intent.ACTION_PACKAGE_REPLACED);
+        filter.addAction(Intent.ACTION_PACKAGE_REMOVED);
+        filter.addAction(Intent.ACTION_PACKAGE_CHANGED);
+        filter.addDataScheme("package");
+        ContextCompat.registerReceiver(context, this, filter, ContextCompat.RECEIVER_NOT_EXPORTED);
+    }
+
+    void unregister(Context context) {
+        try { context.unregisterReceiver(this); } catch (IllegalArgumentException ignored) {}
+    }
+
+    @Override
+    public void onReceive(Context context, Intent intent) {
+        Uri data = intent.getData();
+        String packageName = data != null ? data.getSchemeSpecificPart() : null;
+        if (packageName == null || intent.getAction() == null) return;
+
+        boolean replacing = intent.getBooleanExtra(Intent.EXTRA_REPLACING, false);
+        if (replacing && !Intent.ACTION_PACKAGE_REPLACED.equals(intent.getAction())) return;
+        catalog.onPackageChanged(packageName);
+    }
+}
@@ -0,0 +1,69 @@
+package com.maxdrive.app;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class SampleRing {
+    interface Visitor {
+        void visit(int pid, double value, long timestampMs);
+    }
+
+    private final int mask;
+    private final int[] pids;
+    private final double[] values;
+    private final long[] timestamps;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    SampleRing(int capacity) {
+        int size = 2;
+        while (size < capacity) size <<= 1;
+        mask = size - 1;
+        pids = new int[size];
+        values = new double[size];
+        timestamps = new long[size];
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    long droppedCount() {
+        return dropped.get();
+    }
+
+    void offer(int pid, double value, long timestampMs) {
+        long t = tail.get();
+        long h = head.get();
+        while (t - h >= capacity()) {
+            if (head.compareAndSet(h, h + 1)) dropped.incrementAndGet();
+            h = head.get();
+        }
+        int i = (int) (t & mask);
+        pids[i] = pid;
+        values[i] = value;
+        timestamps[i] = timestampMs;
+        tail.lazySet(t + 1);
+    }
+
+    int drain(Visitor visitor) {
+        int count = 0;
+        long h = head.get();
+        while (h < tail.get()) {
+            int i = (int) (h & mask);
+            int pid = pids[i];
+            double value = values[i];
+            long timestampMs = timestamps[i];
+            if (head.compareAndSet(h, h + 1)) {
+                visitor.visit(pid, value, timestampMs);
+                count++;
+            }
+            h = head.get();
+        }
+        return count;
+    }
+}
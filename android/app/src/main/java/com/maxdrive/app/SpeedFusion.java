@@ -0,0 +1,160 @@
+package com.maxdrive.app;
+
+class SpeedFusion {
+    static final String SOURCE_NONE = "none";
+    static final String SOURCE_OBD = "obd";
+    static final String SOURCE_GPS = "gps";
+    static final String SOURCE_FUSED = "fused";
+    static final String SOURCE_INERTIAL = "inertial";
+
+    static final long SOURCE_TIMEOUT_MS = 2000;
+    static final long IDLE_TIMEOUT_MS = 10000;
+    static final double MIN_SCALE = 0.85;
+    static final double MAX_SCALE = 1.15;
+
+    private static final double OBD_SIGMA_KMH = 1.0;
+    private static final double PROCESS_NOISE = 10;
+    private static final double INERTIAL_PROCESS_NOISE = 3;
+    private static final double SCALE_LEARNING_RATE = 0.02;
+    private static final double SCALE_MIN_SPEED_KMH = 20;
+    private static final double SCALE_MAX_GPS_SIGMA_KMH = 2.5;
+    private static final double AXIS_LEARNING_RATE = 0.002;
+    private static final int AXIS_MIN_TRAINING = 50;
+    private static final long ACCEL_TIMEOUT_MS = 250;
+    private static final double ACCEL_SMOOTHING = 0.2;
+    private static final double CONFIDENCE_SIGMA_KMH = 5;
+
+    private double speed = 0;
+    private double variance = 1e4;
+    private long timeMs = 0;
+    private boolean initialized = false;
+
+    private double scale = 1;
+    private double lastObdKmh = Double.NaN;
+    private long lastObdMs = Long.MIN_VALUE / 2;
+    private long lastGpsMs = Long.MIN_VALUE / 2;
+
+    private final double[] accel = new double[3];
+    private final double[] axis = new double[3];
+    private long lastAccelMs = Long.MIN_VALUE / 2;
+    private int axisTraining = 0;
+
+    synchronized void onObdSpeed(double kmh, long timestampMs) {
+        if (Double.isNaN(kmh) || kmh < 0) return;
+        if (!Double.isNaN(lastObdKmh) && timestampMs - lastObdMs > 50 && timestampMs - lastObdMs <= 1000) {
+            trainAxis((kmh - lastObdKmh) * scale / 3.6 / ((timestampMs - lastObdMs) / 1000.0), timestampMs);
+        }
+        lastObdKmh = kmh;
+        lastObdMs = timestampMs;
+        measure(kmh * scale, OBD_SIGMA_KMH * OBD_SIGMA_KMH, timestampMs);
+    }
+
+    synchronized void onGpsSpeed(double kmh, double sigmaKmh, long timestampMs) {
+        if (Double.isNaN(kmh) || kmh < 0) return;
+        double sigma = sigmaKmh > 0 ? sigmaKmh : 3;
+        lastGpsMs = timestampMs;
+        if (kmh >= SCALE_MIN_SPEED_KMH && sigma <= SCALE_MAX_GPS_SIGMA_KMH && timestampMs - lastObdMs <= 500
+                && lastObdKmh >= SCALE_MIN_SPEED_KMH) {
+            double observed = kmh / lastObdKmh;
+            scale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, scale + SCALE_LEARNING_RATE * (observed - scale)));
+        }
+        measure(kmh, sigma * sigma, timestampMs);
+    }
+
+    synchronized void onAccelerometer(double x, double y, double z, long timestampMs) {
+        accel[0] += ACCEL_SMOOTHING * (x - accel[0]);
+        accel[1] += ACCEL_SMOOTHING * (y - accel[1]);
+        accel[2] += ACCEL_SMOOTHING * (z - accel[2]);
+        lastAccelMs = timestampMs;
+    }
+
+    synchronized boolean isActive(long nowMs) {
+        return initialized && (nowMs - lastObdMs < IDLE_TIMEOUT_MS || nowMs - lastGpsMs < IDLE_TIMEOUT_MS);
+    }
+
+    synchronized double scale() {
+        return scale;
+    }
+
+    synchronized boolean hasInertialAxis() {
+        return axisTraining >= AXIS_MIN_TRAINING;
+    }
+
+    synchronized Estimate estimate(long nowMs) {
+        if (!initialized) return new Estimate(0, 0, 0, SOURCE_NONE, nowMs);
+        long dt = Math.max(0, nowMs - timeMs);
+        double inertial = inertialAcceleration(nowMs);
+        double predicted = Math.max(0, speed + (Double.isNaN(inertial) ? 0 : inertial * 3.6 * dt / 1000.0));
+        double predictedVariance = variance + processNoise(inertial) * dt / 1000.0;
+        double sigma = Math.sqrt(predictedVariance);
+        return new Estimate(predicted, sigma, Math.exp(-sigma / CONFIDENCE_SIGMA_KMH), source(nowMs, inertial), nowMs);
+    }
+
+    static final class Estimate {
+        final double speedKmh;
+        final double sigmaKmh;
+        final double confidence;
+        final String source;
+        final long timestampMs;
+
+        Estimate(double speedKmh, double sigmaKmh, double confidence, String source, long timestampMs) {
+            this.speedKmh = speedKmh;
+            this.sigmaKmh = sigmaKmh;
+            this.confidence = confidence;
+            this.source = source;
+            this.timestampMs = timestampMs;
+        }
+
+        String toJson() {
+            return "{\"speed\":" + Math.round(speedKmh * 10) / 10.0
+                    + ",\"sigma\":" + Math.round(sigmaKmh * 100) / 100.0
+                    + ",\"confidence\":" + Math.round(confidence * 1000) / 1000.0
+                    + ",\"source\":\"" + source + "\",\"t\":" + timestampMs + "}";
+        }
+    }
+
+    private String source(long nowMs, double inertial) {
+        boolean obd = nowMs - lastObdMs <= SOURCE_TIMEOUT_MS;
+        boolean gps = nowMs - lastGpsMs <= SOURCE_TIMEOUT_MS;
+        if (obd && gps) return SOURCE_FUSED;
+        if (obd) return SOURCE_OBD;
+        if (gps) return SOURCE_GPS;
+        return Double.isNaN(inertial) ? SOURCE_NONE : SOURCE_INERTIAL;
+    }
+
+    private void measure(double z, double r, long timestampMs) {
+        if (!initialized) {
+            initialized = true;
+            speed = z;
+            variance = r;
+            timeMs = timestampMs;
+            return;
+        }
+        if (timestampMs > timeMs) {
+            double dt = (timestampMs - timeMs) / 1000.0;
+            double inertial = inertialAcceleration(timestampMs);
+            if (!Double.isNaN(inertial)) speed = Math.max(0, speed + inertial * 3.6 * dt);
+            variance += processNoise(inertial) * dt;
+            timeMs = timestampMs;
+        }
+        double k = variance / (variance + r);
+        speed = Math.max(0, speed + k * (z - speed));
+        variance = (1 - k) * variance;
+    }
+
+    private double processNoise(double inertial) {
+        return Double.isNaN(inertial) ? PROCESS_NOISE : INERTIAL_PROCESS_NOISE;
+    }
+
+    private double inertialAcceleration(long nowMs) {
+        if (axisTraining < AXIS_MIN_TRAINING || nowMs - lastAccelMs > ACCEL_TIMEOUT_MS) return Double.NaN;
+        return axis[0] * accel[0] + axis[1] * accel[1] + axis[2] * accel[2];
+    }
+
+    private void trainAxis(double referenceMps2, long timestampMs) {
+        if (timestampMs - lastAccelMs > ACCEL_TIMEOUT_MS) return;
+        double error = referenceMps2 - (axis[0] * accel[0] + axis[1] * accel[1] + axis[2] * accel[2]);
+        for (int i = 0; i < 3; i++) axis[i] += AXIS_LEARNING_RATE * error * accel[i];
+        axisTraining++;
+    }
+}
@@ -0,0 +1,92 @@
+package com.maxdrive.app;
+
+import android.content.Context;
+import android.hardware.Sensor;
+import android.hardware.SensorEvent;
+import android.hardware.SensorEventListener;
+import android.hardware.SensorManager;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+
+class SpeedFusionEngine implements SensorEventListener {
+    static final long PUBLISH_INTERVAL_MS = 50;
+
+    interface Listener {
+        void onSpeed(String estimateJson);
+    }
+
+    private final SpeedFusion fusion = new SpeedFusion();
+    private final SensorManager sensorManager;
+    private final Sensor accelerometer;
+    private final Listener listener;
+    private final Runnable tick = this::tick;
+
+    private HandlerThread thread;
+    private Handler handler;
+    private volatile String latest = null;
+
+    SpeedFusionEngine(Context context, Listener listener) {
+        this.sensorManager = (SensorManager) context.getSystemService(Context.SENSOR_SERVICE);
+        this.accelerometer = sensorManager != null ? sensorManager.getDefaultSensor(Sensor.TYPE_LINEAR_ACCELERATION) : null;
+        this.listener = listener;
+    }
+
+    void onObdSpeed(double kmh, long timestampMs) {
+        fusion.onObdSpeed(kmh, timestampMs);
+        ensureRunning();
+    }
+
+    void onGpsSpeed(double kmh, double sigmaKmh, long timestampMs) {
+        fusion.onGpsSpeed(kmh, sigmaKmh, timestampMs);
+        ensureRunning();
+    }
+
+    String getLatest() {
+        return latest;
+    }
+
+    synchronized void stop() {
+        if (thread == null) return;
+        if (accelerometer != null) sensorManager.unregisterListener(this);
+        handler.removeCallbacks(tick);
+        thread.quitSafely();
+        thread = null;
+        handler = null;
+    }
+
+    private synchronized void ensureRunning() {
+        if (thread != null) return;
+        HandlerThread t = new HandlerThread("SpeedFusion");
+        t.start();
+        Handler h = new Handler(t.getLooper());
+        if (accelerometer != null) sensorManager.registerListener(this, accelerometer, SensorManager.SENSOR_DELAY_GAME, h);
+        thread = t;
+        handler = h;
+        h.post(tick);
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        if (!fusion.isActive(now)) {
+            stop();
+            return;
+        }
+        String json = fusion.estimate(now).toJson();
+        latest = json;
+        listener.onSpeed(json);
+        Handler h;
+        synchronized (this) {
+            h = handler;
+        }
+        if (h != null && h.getLooper() == Looper.myLooper()) h.postDelayed(tick, PUBLISH_INTERVAL_MS);
+    }
+
+    @Override
+    public void onSensorChanged(SensorEvent event) {
+        fusion.onAccelerometer(event.values[0], event.values[1], event.values[2], System.currentTimeMillis());
+    }
+
+    @Override
+    public void onAccuracyChanged(Sensor sensor, int accuracy) {}
+}
@@ -0,0 +1,55 @@
+package com.maxdrive.app;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Loads launch-critical state in parallel while the WebView boots, so JS can read it in one call.
+class StartupBootstrap {
+    static final long DEFAULT_WAIT_MS = 1500;
+
+    private final Map<String, Future<String>> parts = new LinkedHashMap<>();
+    private final long startedAtMs = System.currentTimeMillis();
+
+    StartupBootstrap(Map<String, Callable<String>> loaders) {
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, loaders.size()), r -> {
+            Thread t = new Thread(r, "StartupBootstrap-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        for (Map.Entry<String, Callable<String>> loader : loaders.entrySet()) {
+            parts.put(loader.getKey(), executor.submit(loader.getValue()));
+        }
+        executor.shutdown();
+    }
+
+    // Each value is raw JSON from its loader; parts that fail or are still loading at the deadline are null.
+    String getJson(long waitMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, waitMs));
+        StringBuilder json = new StringBuilder("{");
+        StringBuilder pending = new StringBuilder("[");
+        for (Map.Entry<String, Future<String>> part : parts.entrySet()) {
+            String value = null;
+            try {
+                value = part.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (pending.length() > 1) pending.append(',');
+                pending.append('"').append(part.getKey()).append('"');
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {}
+            json.append('"').append(part.getKey()).append("\":").append(value != null ? value : "null").append(',');
+        }
+        return json.append("\"pending\":").append(pending.append(']'))
+                .append(",\"startedAt\":").append(startedAtMs)
+                .append('}').toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.maxdrive.app;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cold-start milestones, measured from process start and mirrored as async sections in system traces.
+class StartupTracer {
+    private static final String TAG = "StartupTracer";
+
+    private final long processStartMs = Process.getStartElapsedRealtime();
+    private final Map<String, Long> begun = new HashMap<>();
+    private final Map<String, Long> marks = new LinkedHashMap<>();
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+
+    synchronized void begin(String name) {
+        if (begun.containsKey(name) || marks.containsKey(name)) return;
+        begun.put(name, SystemClock.elapsedRealtime());
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) Trace.beginAsyncSection(name, name.hashCode());
+    }
+
+    // Records the milestone once; later calls for the same name are ignored.
+    synchronized boolean end(String name) {
+        if (name == null || name.isEmpty() || marks.containsKey(name)) return false;
+        long now = SystemClock.elapsedRealtime();
+        marks.put(name, now - processStartMs);
+        Long beganAt = begun.remove(name);
+        if (beganAt != null) {
+            durations.put(name, now - beganAt);
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) Trace.endAsyncSection(name, name.hashCode());
+        }
+        Log.i(TAG, name + " at +" + (now - processStartMs) + "ms"
+                + (beganAt != null ? " (" + (now - beganAt) + "ms since begin)" : ""));
+        return true;
+    }
+
+    synchronized String getJson() {
+        JSONObject trace = new JSONObject();
+        try {
+            trace.put("marks", new JSONObject(marks));
+            trace.put("durations", new JSONObject(durations));
+            trace.put("pending", new JSONArray(begun.keySet()));
+        } catch (JSONException ignored) {}
+        return trace.toString();
+    }
+}
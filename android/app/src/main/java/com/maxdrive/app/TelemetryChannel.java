@@ -0,0 +1,95 @@
+package com.maxdrive.app;
+
+import android.net.Uri;
+import android.util.Log;
+import android.webkit.WebMessage;
+import android.webkit.WebMessagePort;
+import android.webkit.WebView;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+class TelemetryChannel {
+    private static final String TAG = "TelemetryChannel";
+    static final String HANDSHAKE = "maxdrive-telemetry";
+
+    private final WebView webView;
+    private final Uri targetOrigin;
+    private final ConcurrentHashMap<String, Runnable> pendingAcks = new ConcurrentHashMap<>();
+    private volatile WebMessagePort port;
+
+    // The port carries location, media and OBD data, so it is only handed to the app's own origin.
+    TelemetryChannel(WebView webView, String appUrl) {
+        this.webView = webView;
+        Uri app = Uri.parse(appUrl);
+        this.targetOrigin = Uri.parse(app.getScheme() + "://" + app.getEncodedAuthority());
+    }
+
+    void open(Runnable onOpen) {
+        webView.post(() -> {
+            close();
+            try {
+                WebMessagePort[] ports = webView.createWebMessageChannel();
+                ports[0].setWebMessageCallback(new WebMessagePort.WebMessageCallback() {
+                    @Override
+                    public void onMessage(WebMessagePort source, WebMessage message) {
+                        onPageMessage(message.getData());
+                    }
+                });
+                webView.postWebMessage(new WebMessage(HANDSHAKE, new WebMessagePort[]{ports[1]}), targetOrigin);
+                port = ports[0];
+                if (onOpen != null) onOpen.run();
+            } catch (Exception e) {
+                Log.w(TAG, "Could not open telemetry channel", e);
+            }
+        });
+    }
+
+    boolean isOpen() {
+        return port != null;
+    }
+
+    boolean publish(String topic, String dataJson) {
+        return publish(topic, dataJson, null);
+    }
+
+    boolean publish(String topic, String dataJson, Runnable onAck) {
+        WebMessagePort p = port;
+        if (p == null) return false;
+        StringBuilder message = new StringBuilder(dataJson.length() + topic.length() + 32);
+        message.append("{\"topic\":").append(JSONObject.quote(topic)).append(",\"data\":").append(dataJson);
+        if (onAck != null) {
+            pendingAcks.put(topic, onAck);
+            message.append(",\"ack\":true");
+        }
+        message.append('}');
+        try {
+            p.postMessage(new WebMessage(message.toString()));
+            return true;
+        } catch (Exception e) {
+            if (onAck != null) pendingAcks.remove(topic);
+            return false;
+        }
+    }
+
+    private void onPageMessage(String data) {
+        if (data == null) return;
+        try {
+            String topic = new JSONObject(data).optString("ack", null);
+            Runnable ack = topic != null ? pendingAcks.remove(topic) : null;
+            if (ack != null) ack.run();
+        } catch (JSONException ignored) {}
+    }
+
+    private void close() {
+        WebMessagePort p = port;
+        port = null;
+        for (Runnable ack : pendingAcks.values()) ack.run();
+        pendingAcks.clear();
+        if (p != null) {
+            try { p.close(); } catch (Exception ignored) {}
+        }
+    }
+}
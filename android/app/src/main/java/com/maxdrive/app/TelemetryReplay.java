@@ -0,0 +1,174 @@
+package com.maxdrive.app;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+class TelemetryReplay {
+    static final long DEFAULT_PROMPT_INTERVAL_MS = 50;
+
+    private final ObdParser.Listener listener;
+    private final ObdParser parser;
+    private final double speed;
+    private final byte[] frame = new byte[16];
+    private volatile boolean running = true;
+
+    private long startNs;
+    private long feedNs;
+    private long bytes = 0;
+    private long samples = 0;
+    private long latencyTotalNs = 0;
+    private long latencyMaxNs = 0;
+    private long elapsedNs = 0;
+
+    TelemetryReplay(ObdParser.Listener listener, double speed) {
+        this.listener = listener;
+        this.speed = speed;
+        this.parser = new ObdParser(this::onSample);
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    void replayTranscript(Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        startNs = System.nanoTime();
+        long offsetMs = 0;
+        boolean timed = false;
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (line.startsWith("#")) continue;
+            if (line.startsWith("@")) {
+                try {
+                    offsetMs = Long.parseLong(line.substring(1).trim());
+                    timed = true;
+                    pace(offsetMs);
+                } catch (NumberFormatException ignored) {}
+                continue;
+            }
+            byte[] data = (line + "\r").getBytes(StandardCharsets.US_ASCII);
+            feed(data, data.length);
+            if (!timed && line.indexOf('>') >= 0) {
+                offsetMs += DEFAULT_PROMPT_INTERVAL_MS;
+                pace(offsetMs);
+            }
+        }
+        finish();
+    }
+
+    void replayTrip(TripRecorder recorder, long fromMs, long toMs) throws IOException {
+        startNs = System.nanoTime();
+        long[] firstMs = {-1};
+        recorder.scan(fromMs, toMs, (t, channel, value) -> {
+            if (!running) return false;
+            if (channel >= 0x100) return true;
+            if (firstMs[0] < 0) firstMs[0] = t;
+            pace(t - firstMs[0]);
+            int length = encode(channel, value, frame);
+            if (length > 0) feed(frame, length);
+            return true;
+        });
+        finish();
+    }
+
+    synchronized String getStatsJson() {
+        long elapsed = elapsedNs > 0 ? elapsedNs : System.nanoTime() - startNs;
+        JSONObject stats = new JSONObject();
+        try {
+            stats.put("running", running);
+            stats.put("speed", speed);
+            stats.put("bytes", bytes);
+            stats.put("samples", samples);
+            stats.put("elapsedMs", elapsed / 1_000_000);
+            stats.put("samplesPerSecond", elapsed > 0 ? samples * 1e9 / elapsed : 0);
+            stats.put("avgParseLatencyUs", samples > 0 ? latencyTotalNs / samples / 1000.0 : 0);
+            stats.put("maxParseLatencyUs", latencyMaxNs / 1000.0);
+        } catch (JSONException ignored) {}
+        return stats.toString();
+    }
+
+    synchronized long sampleCount() {
+        return samples;
+    }
+
+    private void feed(byte[] data, int length) {
+        feedNs = System.nanoTime();
+        parser.feed(data, 0, length, System.currentTimeMillis());
+        synchronized (this) {
+            bytes += length;
+        }
+    }
+
+    private void onSample(int pid, double value, long timestampMs) {
+        long latency = System.nanoTime() - feedNs;
+        synchronized (this) {
+            samples++;
+            latencyTotalNs += latency;
+            if (latency > latencyMaxNs) latencyMaxNs = latency;
+        }
+        listener.onSample(pid, value, timestampMs);
+    }
+
+    private void finish() {
+        synchronized (this) {
+            elapsedNs = System.nanoTime() - startNs;
+        }
+        running = false;
+    }
+
+    private void pace(long offsetMs) {
+        if (speed <= 0) return;
+        long dueNs = startNs + (long) (offsetMs * 1_000_000L / speed);
+        long waitNs = dueNs - System.nanoTime();
+        if (waitNs <= 0) return;
+        try {
+            Thread.sleep(waitNs / 1_000_000L, (int) (waitNs % 1_000_000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    static int encode(int pid, double value, byte[] out) {
+        int raw;
+        switch (pid) {
+            case ObdParser.PID_RPM: raw = (int) Math.round(value * 4); break;
+            case ObdParser.PID_SPEED: raw = (int) Math.round(value); break;
+            case ObdParser.PID_COOLANT_TEMP:
+            case ObdParser.PID_INTAKE_TEMP:
+                raw = (int) Math.round(value + 40);
+                break;
+            case ObdParser.PID_ENGINE_LOAD:
+            case ObdParser.PID_THROTTLE:
+            case ObdParser.PID_FUEL_LEVEL:
+                raw = (int) Math.round(value * 255 / 100);
+                break;
+            default:
+                return 0;
+        }
+        int dataBytes = ObdParser.dataLength(pid);
+        raw = Math.max(0, Math.min(raw, (1 << (8 * dataBytes)) - 1));
+        int n = 0;
+        n = putHex(out, n, 0x41);
+        n = putHex(out, n, pid);
+        for (int i = dataBytes - 1; i >= 0; i--) n = putHex(out, n, (raw >> (8 * i)) & 0xFF);
+        out[n++] = '\r';
+        out[n++] = '>';
+        return n;
+    }
+
+    private static int putHex(byte[] out, int n, int value) {
+        out[n++] = (byte) Character.toUpperCase(Character.forDigit((value >> 4) & 0xF, 16));
+        out[n++] = (byte) Character.toUpperCase(Character.forDigit(value & 0xF, 16));
+        return n;
+    }
+}
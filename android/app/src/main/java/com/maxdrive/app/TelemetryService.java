@@ -0,0 +1,417 @@
+package com.maxdrive.app;
+
+import android.Manifest;
+import android.app.Notification;
+import android.app.NotificationChannel;
+import android.app.NotificationManager;
+import android.app.PendingIntent;
+import android.app.Service;
+import android.content.Context;
+import android.content.Intent;
+import android.content.pm.PackageManager;
+import android.content.pm.ServiceInfo;
+import android.net.Uri;
+import android.os.Binder;
+import android.os.Build;
+import android.os.IBinder;
+import android.util.Log;
+
+import androidx.core.app.NotificationCompat;
+import androidx.core.app.ServiceCompat;
+import androidx.core.content.ContextCompat;
+import androidx.core.content.FileProvider;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class TelemetryService extends Service {
+    private static final String TAG = "TelemetryService";
+    private static final String CHANNEL_ID = "telemetry";
+    private static final int NOTIFICATION_ID = 1001;
+    static final int BACKLOG_CAPACITY = 4096;
+
+    interface Client {
+        void onObdSample(int pid, double value, long timestampMs);
+        void onObdState(String stateJson);
+        void onMedia(String mediaJson);
+        void onLocation(String fixesJson);
+        void onSpeed(String estimateJson);
+        void onUpdateState(String stateJson);
+        void onUpdateInfo(String infoJson);
+    }
+
+    class LocalBinder extends Binder {
+        TelemetryService getService() {
+            return TelemetryService.this;
+        }
+    }
+
+    private final IBinder binder = new LocalBinder();
+    private final SampleRing backlog = new SampleRing(BACKLOG_CAPACITY);
+    private final double[] latest = new double[256];
+    private final long[] latestAt = new long[256];
+    private volatile Client client;
+    private volatile String obdState = "{}";
+    private ObdSessionManager obdSession;
+    private TripRecorder tripRecorder;
+    private volatile TelemetryReplay replay;
+    private MediaSessionWatcher mediaWatcher;
+    private LocationEngine locationEngine;
+    private SpeedFusionEngine speedFusion;
+    private UpdateDownloader updateDownloader;
+    private UpdateChecker updateChecker;
+    private boolean foreground = false;
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        Arrays.fill(latest, Double.NaN);
+        try {
+            tripRecorder = new TripRecorder(new File(getFilesDir(), "trips"));
+        } catch (IOException e) {
+            Log.w(TAG, "Trip recording unavailable", e);
+        }
+        obdSession = new ObdSessionManager(this, this::onObdSample, this::onObdState);
+        speedFusion = new SpeedFusionEngine(this, estimateJson -> {
+            Client c = client;
+            if (c != null) c.onSpeed(estimateJson);
+        });
+        locationEngine = new LocationEngine(this, new LocationEngine.Listener() {
+            @Override
+            public void onFix(double latitude, double longitude, double speedKmh, double speedSigmaKmh, double accuracy, long timestampMs) {
+                recordLocation(latitude, longitude, speedKmh, accuracy, timestampMs);
+                speedFusion.onGpsSpeed(speedKmh, speedSigmaKmh, timestampMs);
+            }
+
+            @Override
+            public void onBatch(String fixesJson) {
+                Client c = client;
+                if (c != null) c.onLocation(fixesJson);
+            }
+        });
+        mediaWatcher = new MediaSessionWatcher(this, this::onMedia);
+        mediaWatcher.start();
+        updateDownloader = new UpdateDownloader(new File(getFilesDir(), "updates"),
+                new File(getApplicationInfo().sourceDir), new UpdateDownloader.Listener() {
+            @Override
+            public void onStateChanged(String stateJson) {
+                Client c = client;
+                if (c != null) c.onUpdateState(stateJson);
+            }
+
+            @Override
+            public void onReady(File apk) {
+                installUpdate(apk);
+            }
+        });
+        updateChecker = new UpdateChecker(new File(getFilesDir(), "update-check.json"), versionName(), infoJson -> {
+            Client c = client;
+            if (c != null) c.onUpdateInfo(infoJson);
+        });
+        updateChecker.start();
+    }
+
+    @Override
+    public int onStartCommand(Intent intent, int flags, int startId) {
+        return START_STICKY;
+    }
+
+    @Override
+    public IBinder onBind(Intent intent) {
+        return binder;
+    }
+
+    @Override
+    public void onDestroy() {
+        stopReplay();
+        obdSession.stop();
+        locationEngine.stop();
+        speedFusion.stop();
+        if (tripRecorder != null) tripRecorder.close();
+        mediaWatcher.stop();
+        updateDownloader.cancel();
+        updateChecker.stop();
+        super.onDestroy();
+    }
+
+    void attach(Client client) {
+        this.client = client;
+    }
+
+    void detach(Client client) {
+        if (this.client == client) this.client = null;
+    }
+
+    // Live OBD and replay both feed the single-producer backlog, so only one may run at a time.
+    synchronized boolean startObd(String target) {
+        stopReplay();
+        boolean started = obdSession.start(target);
+        if (started) enterForeground();
+        return started;
+    }
+
+    void stopObd() {
+        obdSession.stop();
+        if (tripRecorder != null) tripRecorder.flush();
+        if (!locationEngine.isRunning()) exitForeground();
+    }
+
+    boolean startLocation(long intervalMs, long batchMs) {
+        boolean started = locationEngine.start(intervalMs, batchMs);
+        if (started) enterForeground();
+        return started;
+    }
+
+    void stopLocation() {
+        locationEngine.stop();
+        if (tripRecorder != null) tripRecorder.flush();
+        if (!obdSession.isActive()) exitForeground();
+    }
+
+    boolean isLocationRunning() {
+        return locationEngine.isRunning();
+    }
+
+    String getLastLocation() {
+        return locationEngine.getLastFix();
+    }
+
+    String getSpeed() {
+        return speedFusion.getLatest();
+    }
+
+    String getLocationStats() {
+        return locationEngine.getStatsJson();
+    }
+
+    TripRecorder getTripRecorder() {
+        return tripRecorder;
+    }
+
+    void recordLocation(double latitude, double longitude, double speedKmh, double accuracy, long timestampMs) {
+        TripRecorder recorder = tripRecorder;
+        if (recorder == null) return;
+        recorder.append(TripRecorder.CHANNEL_LATITUDE, latitude, timestampMs);
+        recorder.append(TripRecorder.CHANNEL_LONGITUDE, longitude, timestampMs);
+        if (speedKmh >= 0) recorder.append(TripRecorder.CHANNEL_GPS_SPEED, speedKmh, timestampMs);
+        if (accuracy > 0) recorder.append(TripRecorder.CHANNEL_GPS_ACCURACY, accuracy, timestampMs);
+    }
+
+    synchronized boolean startReplay(String source, double speed) {
+        stopReplay();
+        stopObd();
+        TelemetryReplay r = new TelemetryReplay(this::deliverSample, speed);
+        replay = r;
+        new Thread(() -> {
+            if (replay == r) onObdState("{\"state\":\"streaming\",\"replay\":" + JSONObject.quote(source) + "}");
+            try {
+                if (source.startsWith("trip:")) {
+                    replayTrip(r, Long.parseLong(source.substring(5)));
+                } else {
+                    try (Reader reader = openTranscript(source)) {
+                        r.replayTranscript(reader);
+                    }
+                }
+            } catch (Exception e) {
+                Log.w(TAG, "Replay failed: " + source, e);
+            } finally {
+                r.stop();
+                if (replay == r) onObdState(obdSession.getStateJson());
+            }
+        }, "TelemetryReplay").start();
+        return true;
+    }
+
+    void stopReplay() {
+        TelemetryReplay r = replay;
+        replay = null;
+        if (r != null) r.stop();
+    }
+
+    String getReplayStats() {
+        TelemetryReplay r = replay;
+        return r != null ? r.getStatsJson() : "{}";
+    }
+
+    private void replayTrip(TelemetryReplay r, long tripId) throws IOException {
+        if (tripRecorder == null) return;
+        for (TripRecorder.Trip trip : tripRecorder.trips()) {
+            if (trip.id == tripId) {
+                r.replayTrip(tripRecorder, trip.startMs, trip.endMs);
+                return;
+            }
+        }
+    }
+
+    private Reader openTranscript(String source) throws IOException {
+        if (source.startsWith("asset:")) {
+            return new InputStreamReader(getAssets().open(source.substring(6)), StandardCharsets.US_ASCII);
+        }
+        return new FileReader(source);
+    }
+
+    boolean isObdActive() {
+        return obdSession.isActive();
+    }
+
+    Elm327Engine getObdEngine() {
+        return obdSession.getEngine();
+    }
+
+    String getObdState() {
+        return obdState;
+    }
+
+    String getMedia() {
+        return mediaWatcher.current();
+    }
+
+    void refreshMedia() {
+        mediaWatcher.refresh();
+    }
+
+    boolean startUpdate(String apkUrl, String patchUrl, String sha256) {
+        return updateDownloader.start(apkUrl, patchUrl, sha256);
+    }
+
+    void cancelUpdate() {
+        updateDownloader.cancel();
+    }
+
+    String getUpdateState() {
+        return updateDownloader.getStateJson();
+    }
+
+    boolean isUpdateReady() {
+        return updateDownloader.isReady();
+    }
+
+    void configureUpdateChecks(String feedUrl, long intervalMs) {
+        updateChecker.configure(feedUrl, intervalMs);
+    }
+
+    void checkForUpdatesNow() {
+        updateChecker.checkSoon();
+    }
+
+    String getUpdateInfo() {
+        return updateChecker.getInfoJson();
+    }
+
+    private String versionName() {
+        try {
+            String name = getPackageManager().getPackageInfo(getPackageName(), 0).versionName;
+            return name != null ? name : "";
+        } catch (PackageManager.NameNotFoundException e) {
+            return "";
+        }
+    }
+
+    private void installUpdate(File apk) {
+        try {
+            Uri contentUri = FileProvider.getUriForFile(this, getPackageName() + ".fileprovider", apk);
+            Intent intent = new Intent(Intent.ACTION_VIEW);
+            intent.setDataAndType(contentUri, "application/vnd.android.package-archive");
+            intent.addFlags(Intent.FLAG_ACTIVITY_NEW_TASK);
+            intent.addFlags(Intent.FLAG_GRANT_READ_URI_PERMISSION);
+            startActivity(intent);
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to install APK", e);
+        }
+    }
+
+    int drainBacklog(SampleRing.Visitor visitor) {
+        return backlog.drain(visitor);
+    }
+
+    void visitLatest(SampleRing.Visitor visitor) {
+        for (int pid = 0; pid < latest.length; pid++) {
+            double value = latest[pid];
+            if (!Double.isNaN(value)) visitor.visit(pid, value, latestAt[pid]);
+        }
+    }
+
+    private void onObdSample(int pid, double value, long timestampMs) {
+        TripRecorder recorder = tripRecorder;
+        if (recorder != null) recorder.append(pid, value, timestampMs);
+        deliverSample(pid, value, timestampMs);
+    }
+
+    private void deliverSample(int pid, double value, long timestampMs) {
+        if (pid == ObdParser.PID_SPEED) speedFusion.onObdSpeed(value, timestampMs);
+        latest[pid] = value;
+        latestAt[pid] = timestampMs;
+        Client c = client;
+        if (c != null) {
+            c.onObdSample(pid, value, timestampMs);
+        } else {
+            backlog.offer(pid, value, timestampMs);
+        }
+    }
+
+    private void onObdState(String stateJson) {
+        obdState = stateJson;
+        Client c = client;
+        if (c != null) c.onObdState(stateJson);
+    }
+
+    private void onMedia(String mediaJson) {
+        Client c = client;
+        if (c != null) c.onMedia(mediaJson);
+    }
+
+    private void enterForeground() {
+        if (foreground) return;
+        int type = 0;
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.S || granted(Manifest.permission.BLUETOOTH_CONNECT)) {
+            type |= ServiceInfo.FOREGROUND_SERVICE_TYPE_CONNECTED_DEVICE;
+        }
+        if (granted(Manifest.permission.ACCESS_FINE_LOCATION)) {
+            type |= ServiceInfo.FOREGROUND_SERVICE_TYPE_LOCATION;
+        }
+        if (type == 0) return;
+        try {
+            ContextCompat.startForegroundService(this, new Intent(this, TelemetryService.class));
+            ServiceCompat.startForeground(this, NOTIFICATION_ID, buildNotification(), type);
+            foreground = true;
+        } catch (Exception e) {
+            Log.w(TAG, "Could not enter foreground", e);
+        }
+    }
+
+    private void exitForeground() {
+        if (!foreground) return;
+        foreground = false;
+        ServiceCompat.stopForeground(this, ServiceCompat.STOP_FOREGROUND_REMOVE);
+        stopSelf();
+    }
+
+    private boolean granted(String permission) {
+        return ContextCompat.checkSelfPermission(this, permission) == PackageManager.PERMISSION_GRANTED;
+    }
+
+    private Notification buildNotification() {
+        NotificationManager manager = (NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && manager != null) {
+            manager.createNotificationChannel(new NotificationChannel(
+                    CHANNEL_ID, getString(R.string.telemetry_channel_name), NotificationManager.IMPORTANCE_LOW));
+        }
+        Intent launch = new Intent(this, MainActivity.class).addFlags(Intent.FLAG_ACTIVITY_SINGLE_TOP);
+        PendingIntent content = PendingIntent.getActivity(this, 0, launch, PendingIntent.FLAG_IMMUTABLE);
+        return new NotificationCompat.Builder(this, CHANNEL_ID)
+                .setSmallIcon(R.drawable.ic_launcher_foreground)
+                .setContentTitle(getString(R.string.app_name))
+                .setContentText(getString(R.string.telemetry_notification_text))
+                .setContentIntent(content)
+                .setOngoing(true)
+                .setPriority(NotificationCompat.PRIORITY_LOW)
+                .build();
+    }
+}
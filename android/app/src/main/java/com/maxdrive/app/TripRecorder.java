@@ -0,0 +1,334 @@
+package com.maxdrive.app;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class TripRecorder {
+    static final int CHANNEL_LATITUDE = 0x100;
+    static final int CHANNEL_LONGITUDE = 0x101;
+    static final int CHANNEL_GPS_SPEED = 0x102;
+    static final int CHANNEL_GPS_ACCURACY = 0x103;
+
+    static final int RECORD_SIZE = 24;
+    static final int HEADER_SIZE = 64;
+    static final long TRIP_GAP_MS = 5 * 60 * 1000;
+    static final int DEFAULT_SEGMENT_BYTES = 4 * 1024 * 1024;
+    static final int DEFAULT_MAX_SEGMENTS = 32;
+
+    private static final int MAGIC = 0x4D445452;
+    private static final int VERSION = 1;
+    private static final int INDEX_ENTRY_SIZE = 36;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_FILE = "index.bin";
+
+    static final class Segment {
+        final long id;
+        long tripId;
+        long firstMs;
+        long lastMs;
+        int count;
+
+        Segment(long id, long tripId) {
+            this.id = id;
+            this.tripId = tripId;
+        }
+    }
+
+    static final class Trip {
+        final long id;
+        long startMs = Long.MAX_VALUE;
+        long endMs = Long.MIN_VALUE;
+        long samples = 0;
+
+        Trip(long id) {
+            this.id = id;
+        }
+    }
+
+    static final class Series {
+        final long[] timestamps;
+        final double[] average;
+        final double[] min;
+        final double[] max;
+        final int length;
+
+        Series(long[] timestamps, double[] average, double[] min, double[] max, int length) {
+            this.timestamps = timestamps;
+            this.average = average;
+            this.min = min;
+            this.max = max;
+            this.length = length;
+        }
+    }
+
+    interface Visitor {
+        boolean visit(long timestampMs, int channel, double value);
+    }
+
+    private final File dir;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment active;
+    private RandomAccessFile activeFile;
+    private MappedByteBuffer activeBuffer;
+    private long lastMs = 0;
+
+    static int channelForName(String name) {
+        if (name == null) return -1;
+        switch (name) {
+            case "latitude": return CHANNEL_LATITUDE;
+            case "longitude": return CHANNEL_LONGITUDE;
+            case "gpsSpeed": return CHANNEL_GPS_SPEED;
+            case "gpsAccuracy": return CHANNEL_GPS_ACCURACY;
+        }
+        for (int pid = 0; pid < 0x100; pid++) {
+            if (name.equals(ObdParser.pidName(pid))) return pid;
+        }
+        return -1;
+    }
+
+    TripRecorder(File dir) throws IOException {
+        this(dir, DEFAULT_SEGMENT_BYTES, DEFAULT_MAX_SEGMENTS);
+    }
+
+    TripRecorder(File dir, int segmentBytes, int maxSegments) throws IOException {
+        this.dir = dir;
+        this.segmentBytes = Math.max(HEADER_SIZE + RECORD_SIZE, segmentBytes - (segmentBytes - HEADER_SIZE) % RECORD_SIZE);
+        this.maxSegments = Math.max(2, maxSegments);
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Cannot create " + dir);
+        loadIndex();
+    }
+
+    synchronized void append(int channel, double value, long timestampMs) {
+        try {
+            if (timestampMs < lastMs) timestampMs = lastMs;
+            boolean newTrip = segments.isEmpty() || timestampMs - lastMs > TRIP_GAP_MS;
+            if (active == null || newTrip || HEADER_SIZE + (active.count + 1) * RECORD_SIZE > segmentBytes) {
+                rotate(newTrip ? timestampMs : segments.get(segments.size() - 1).tripId, timestampMs);
+            }
+            int offset = HEADER_SIZE + active.count * RECORD_SIZE;
+            activeBuffer.putLong(offset, timestampMs);
+            activeBuffer.putInt(offset + 8, channel);
+            activeBuffer.putDouble(offset + 16, value);
+            if (active.count == 0) {
+                active.firstMs = timestampMs;
+                activeBuffer.putLong(16, timestampMs);
+            }
+            active.lastMs = timestampMs;
+            active.count++;
+            activeBuffer.putLong(24, timestampMs);
+            activeBuffer.putInt(32, active.count);
+            lastMs = timestampMs;
+        } catch (IOException ignored) {}
+    }
+
+    synchronized void flush() {
+        if (activeBuffer != null) activeBuffer.force();
+        try { writeIndex(); } catch (IOException ignored) {}
+    }
+
+    synchronized void close() {
+        flush();
+        closeActive();
+    }
+
+    synchronized List<Trip> trips() {
+        List<Trip> trips = new ArrayList<>();
+        Trip current = null;
+        for (Segment s : segments) {
+            if (s.count == 0) continue;
+            if (current == null || current.id != s.tripId) {
+                current = new Trip(s.tripId);
+                trips.add(current);
+            }
+            current.startMs = Math.min(current.startMs, s.firstMs);
+            current.endMs = Math.max(current.endMs, s.lastMs);
+            current.samples += s.count;
+        }
+        return trips;
+    }
+
+    void scan(long fromMs, long toMs, Visitor visitor) throws IOException {
+        List<Segment> overlapping = new ArrayList<>();
+        Segment current;
+        int currentCount;
+        ByteBuffer currentView;
+        synchronized (this) {
+            for (Segment s : segments) {
+                if (s.count > 0 && s.lastMs >= fromMs && s.firstMs <= toMs) overlapping.add(s);
+            }
+            current = active;
+            currentCount = active != null ? active.count : 0;
+            currentView = activeBuffer != null ? activeBuffer.duplicate() : null;
+        }
+        for (Segment s : overlapping) {
+            int count = s == current ? currentCount : s.count;
+            ByteBuffer buffer = s == current ? currentView : mapReadOnly(s);
+            if (buffer == null) continue;
+            for (int i = firstAtOrAfter(buffer, count, fromMs); i < count; i++) {
+                int offset = HEADER_SIZE + i * RECORD_SIZE;
+                long t = buffer.getLong(offset);
+                if (t > toMs) return;
+                if (!visitor.visit(t, buffer.getInt(offset + 8), buffer.getDouble(offset + 16))) return;
+            }
+        }
+    }
+
+    Series downsample(int channel, long fromMs, long toMs, int buckets) throws IOException {
+        int n = Math.max(1, buckets);
+        double width = Math.max(1, toMs - fromMs + 1) / (double) n;
+        long[] timestamps = new long[n];
+        double[] sum = new double[n];
+        double[] min = new double[n];
+        double[] max = new double[n];
+        int[] counts = new int[n];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        scan(fromMs, toMs, (t, c, v) -> {
+            if (c != channel) return true;
+            int b = Math.min(n - 1, (int) ((t - fromMs) / width));
+            sum[b] += v;
+            counts[b]++;
+            if (v < min[b]) min[b] = v;
+            if (v > max[b]) max[b] = v;
+            return true;
+        });
+        int length = 0;
+        for (int b = 0; b < n; b++) {
+            if (counts[b] == 0) continue;
+            timestamps[length] = fromMs + (long) (width * b + width / 2);
+            sum[length] = sum[b] / counts[b];
+            min[length] = min[b];
+            max[length] = max[b];
+            length++;
+        }
+        return new Series(timestamps, sum, min, max, length);
+    }
+
+    private static int firstAtOrAfter(ByteBuffer buffer, int count, long fromMs) {
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (buffer.getLong(HEADER_SIZE + mid * RECORD_SIZE) < fromMs) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private ByteBuffer mapReadOnly(Segment s) throws IOException {
+        File file = segmentFile(s.id);
+        if (!file.exists()) return null;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long size = Math.min(raf.length(), HEADER_SIZE + (long) s.count * RECORD_SIZE);
+            return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private void rotate(long tripId, long timestampMs) throws IOException {
+        closeActive();
+        long id = timestampMs;
+        for (Segment s : segments) {
+            if (s.id >= id) id = s.id + 1;
+        }
+        Segment segment = new Segment(id, tripId);
+        activeFile = new RandomAccessFile(segmentFile(id), "rw");
+        activeFile.setLength(segmentBytes);
+        activeBuffer = activeFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        activeBuffer.putInt(0, MAGIC);
+        activeBuffer.putInt(4, VERSION);
+        activeBuffer.putLong(8, tripId);
+        activeBuffer.putInt(32, 0);
+        active = segment;
+        segments.add(segment);
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.remove(0);
+            if (!segmentFile(oldest.id).delete()) segmentFile(oldest.id).deleteOnExit();
+        }
+        writeIndex();
+    }
+
+    private void closeActive() {
+        if (activeBuffer != null) activeBuffer.force();
+        if (activeFile != null) {
+            try { activeFile.setLength(HEADER_SIZE + (long) active.count * RECORD_SIZE); } catch (IOException ignored) {}
+            try { activeFile.close(); } catch (IOException ignored) {}
+        }
+        activeFile = null;
+        activeBuffer = null;
+        active = null;
+    }
+
+    private File segmentFile(long id) {
+        return new File(dir, id + SEGMENT_SUFFIX);
+    }
+
+    private void loadIndex() throws IOException {
+        File index = new File(dir, INDEX_FILE);
+        if (index.exists()) {
+            try (RandomAccessFile raf = new RandomAccessFile(index, "r")) {
+                int entries = (int) (raf.length() / INDEX_ENTRY_SIZE);
+                for (int i = 0; i < entries; i++) {
+                    Segment s = new Segment(raf.readLong(), raf.readLong());
+                    s.firstMs = raf.readLong();
+                    s.lastMs = raf.readLong();
+                    s.count = raf.readInt();
+                    if (segmentFile(s.id).exists()) segments.add(s);
+                }
+            }
+        }
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files != null) {
+            for (File f : files) {
+                long id;
+                try {
+                    id = Long.parseLong(f.getName().substring(0, f.getName().length() - SEGMENT_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                Segment known = null;
+                for (Segment s : segments) {
+                    if (s.id == id) known = s;
+                }
+                if (known == null) {
+                    known = new Segment(id, id);
+                    segments.add(known);
+                }
+                readHeader(f, known);
+            }
+        }
+        segments.sort((a, b) -> Long.compare(a.id, b.id));
+        for (Segment s : segments) lastMs = Math.max(lastMs, s.lastMs);
+    }
+
+    private static void readHeader(File file, Segment s) {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            if (raf.length() < HEADER_SIZE || raf.readInt() != MAGIC || raf.readInt() != VERSION) return;
+            s.tripId = raf.readLong();
+            s.firstMs = raf.readLong();
+            s.lastMs = raf.readLong();
+            s.count = (int) Math.min(raf.readInt(), (raf.length() - HEADER_SIZE) / RECORD_SIZE);
+        } catch (IOException ignored) {}
+    }
+
+    private void writeIndex() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(segments.size() * INDEX_ENTRY_SIZE);
+        for (Segment s : segments) {
+            buffer.putLong(s.id).putLong(s.tripId).putLong(s.firstMs).putLong(s.lastMs).putInt(s.count);
+        }
+        File tmp = new File(dir, INDEX_FILE + ".tmp");
+        try (RandomAccessFile raf = new RandomAccessFile(tmp, "rw")) {
+            raf.setLength(0);
+            raf.write(buffer.array());
+        }
+        if (!tmp.renameTo(new File(dir, INDEX_FILE))) throw new IOException("Cannot write trip index");
+    }
+}
@@ -0,0 +1,288 @@
+package com.maxdrive.app;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+class UpdateChecker {
+    static final long DEFAULT_INTERVAL_MS = TimeUnit.HOURS.toMillis(6);
+    static final long MIN_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+    static final long RETRY_DELAY_MS = TimeUnit.MINUTES.toMillis(15);
+    private static final int CONNECT_TIMEOUT_MS = 15_000;
+    private static final int READ_TIMEOUT_MS = 30_000;
+    private static final Pattern DIGEST = Pattern.compile("^sha256:([0-9a-fA-F]{64})$");
+
+    interface Listener {
+        void onUpdateInfo(String infoJson);
+    }
+
+    private final File cacheFile;
+    private final String currentVersion;
+    private final Listener listener;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "UpdateChecker");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private JSONObject cache;
+    private ScheduledFuture<?> pending;
+    private boolean started = false;
+    private long failedAt = 0;
+    private volatile long requestCount = 0;
+
+    UpdateChecker(File cacheFile, String currentVersion, Listener listener) {
+        this.cacheFile = cacheFile;
+        this.currentVersion = currentVersion != null ? currentVersion : "";
+        this.listener = listener;
+        this.cache = load(cacheFile);
+        if (!this.currentVersion.equals(cache.optString("current"))) {
+            cache.remove("etag");
+            cache.remove("release");
+            cache.remove("checkedAt");
+        }
+    }
+
+    synchronized void configure(String feedUrl, long intervalMs) {
+        String feed = feedUrl != null ? feedUrl : "";
+        long interval = intervalMs > 0 ? Math.max(MIN_INTERVAL_MS, intervalMs) : DEFAULT_INTERVAL_MS;
+        boolean feedChanged = !feed.equals(cache.optString("feed"));
+        if (!feedChanged && interval == cache.optLong("intervalMs", DEFAULT_INTERVAL_MS)) return;
+        try {
+            if (feedChanged) {
+                cache.remove("etag");
+                cache.remove("release");
+                cache.remove("checkedAt");
+            }
+            cache.put("feed", feed);
+            cache.put("intervalMs", interval);
+        } catch (JSONException ignored) {}
+        save();
+        if (started) schedule(delayUntilNextCheck(System.currentTimeMillis()));
+    }
+
+    synchronized void start() {
+        if (started) return;
+        started = true;
+        schedule(delayUntilNextCheck(System.currentTimeMillis()));
+    }
+
+    synchronized void stop() {
+        started = false;
+        if (pending != null) pending.cancel(false);
+        pending = null;
+        scheduler.shutdownNow();
+    }
+
+    synchronized void checkSoon() {
+        if (started) schedule(0);
+    }
+
+    synchronized boolean isStale(long nowMs) {
+        return delayUntilStale(nowMs) == 0;
+    }
+
+    long requestCount() {
+        return requestCount;
+    }
+
+    synchronized String getInfoJson() {
+        JSONObject info = new JSONObject();
+        try {
+            JSONObject release = cache.optJSONObject("release");
+            String latest = release != null ? release.optString("version") : "";
+            String apkUrl = release != null ? release.optString("apkUrl") : "";
+            info.put("available", !latest.isEmpty() && !apkUrl.isEmpty()
+                    && (currentVersion.isEmpty() || isNewer(latest, currentVersion)));
+            info.put("current", currentVersion);
+            info.put("checkedAt", cache.optLong("checkedAt", 0));
+            info.put("stale", delayUntilStale(System.currentTimeMillis()) == 0);
+            if (release != null) {
+                info.put("latest", latest);
+                info.put("apkUrl", apkUrl.isEmpty() ? JSONObject.NULL : apkUrl);
+                info.put("patchUrl", release.has("patchUrl") ? release.get("patchUrl") : JSONObject.NULL);
+                info.put("patchSize", release.has("patchSize") ? release.get("patchSize") : JSONObject.NULL);
+                info.put("sha256", release.has("sha256") ? release.get("sha256") : JSONObject.NULL);
+            }
+        } catch (JSONException ignored) {}
+        return info.toString();
+    }
+
+    boolean check() {
+        String feed;
+        String etag;
+        synchronized (this) {
+            feed = cache.optString("feed");
+            etag = cache.optString("etag");
+        }
+        if (feed.isEmpty()) return false;
+        try {
+            requestCount++;
+            HttpURLConnection connection = (HttpURLConnection) new URL(feed).openConnection();
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+            connection.setReadTimeout(READ_TIMEOUT_MS);
+            connection.setRequestProperty("Accept", "application/vnd.github+json");
+            if (!etag.isEmpty()) connection.setRequestProperty("If-None-Match", etag);
+            try {
+                int code = connection.getResponseCode();
+                JSONObject release = null;
+                if (code == HttpURLConnection.HTTP_OK) {
+                    try (InputStream in = connection.getInputStream()) {
+                        release = parseRelease(new JSONObject(readAll(in)), currentVersion);
+                    }
+                } else if (code != HttpURLConnection.HTTP_NOT_MODIFIED) {
+                    throw new IOException("HTTP " + code);
+                }
+                String info;
+                synchronized (this) {
+                    if (!feed.equals(cache.optString("feed"))) return false;
+                    String newEtag = connection.getHeaderField("ETag");
+                    if (release != null) {
+                        cache.put("release", release);
+                        if (newEtag != null) cache.put("etag", newEtag); else cache.remove("etag");
+                    }
+                    cache.put("checkedAt", System.currentTimeMillis());
+                    cache.put("current", currentVersion);
+                    failedAt = 0;
+                    save();
+                    info = getInfoJson();
+                }
+                listener.onUpdateInfo(info);
+                return true;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException | JSONException e) {
+            synchronized (this) {
+                failedAt = System.currentTimeMillis();
+            }
+            return false;
+        }
+    }
+
+    static JSONObject parseRelease(JSONObject data, String currentVersion) throws JSONException {
+        JSONObject release = new JSONObject();
+        String tag = data.optString("tag_name", data.optString("name", ""));
+        release.put("version", tag);
+        JSONArray assets = data.optJSONArray("assets");
+        String patchSuffix = ("-from-" + currentVersion.replaceFirst("^v", "") + ".patch").toLowerCase();
+        JSONObject apk = null;
+        JSONObject patch = null;
+        for (int i = 0; assets != null && i < assets.length(); i++) {
+            JSONObject asset = assets.getJSONObject(i);
+            String name = asset.optString("name").toLowerCase();
+            if (apk == null && name.endsWith(".apk")) apk = asset;
+            if (patch == null && !currentVersion.isEmpty() && name.endsWith(patchSuffix)) patch = asset;
+        }
+        if (apk != null) {
+            release.put("apkUrl", apk.optString("browser_download_url"));
+            Matcher digest = DIGEST.matcher(apk.optString("digest"));
+            if (digest.matches()) release.put("sha256", digest.group(1).toLowerCase());
+            if (patch != null) {
+                release.put("patchUrl", patch.optString("browser_download_url"));
+                release.put("patchSize", patch.optLong("size"));
+            }
+        }
+        return release;
+    }
+
+    static boolean isNewer(String latest, String current) {
+        int[] a = parseVersion(latest);
+        int[] b = parseVersion(current);
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            int ai = i < a.length ? a[i] : 0;
+            int bi = i < b.length ? b[i] : 0;
+            if (ai != bi) return ai > bi;
+        }
+        return false;
+    }
+
+    private static int[] parseVersion(String version) {
+        String cleaned = (version == null || version.isEmpty() ? "0.0.0" : version)
+                .replaceFirst("^v", "").replaceFirst("[a-zA-Z]+.*$", "");
+        String[] parts = cleaned.split("\\.");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                result[i] = Integer.parseInt(parts[i]);
+            } catch (NumberFormatException e) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+
+    private long delayUntilStale(long nowMs) {
+        long due = cache.optLong("checkedAt", 0) + cache.optLong("intervalMs", DEFAULT_INTERVAL_MS);
+        return Math.max(0, due - nowMs);
+    }
+
+    private long delayUntilNextCheck(long nowMs) {
+        long delay = delayUntilStale(nowMs);
+        return failedAt > 0 ? Math.max(delay, failedAt + RETRY_DELAY_MS - nowMs) : delay;
+    }
+
+    private void schedule(long delayMs) {
+        if (pending != null) pending.cancel(false);
+        pending = null;
+        if (cache.optString("feed").isEmpty()) return;
+        try {
+            pending = scheduler.schedule(this::runScheduled, delayMs, TimeUnit.MILLISECONDS);
+        } catch (Exception ignored) {
+            pending = null;
+        }
+    }
+
+    private void runScheduled() {
+        check();
+        synchronized (this) {
+            if (started) schedule(delayUntilNextCheck(System.currentTimeMillis()));
+        }
+    }
+
+    private void save() {
+        File tmp = new File(cacheFile.getPath() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            out.write(cache.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return;
+        }
+        if (!tmp.renameTo(cacheFile)) tmp.delete();
+    }
+
+    private static JSONObject load(File file) {
+        try {
+            try (InputStream in = new FileInputStream(file)) {
+                return new JSONObject(readAll(in));
+            }
+        } catch (Exception e) {
+            return new JSONObject();
+        }
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) != -1) out.write(buffer, 0, n);
+        return out.toString("UTF-8");
+    }
+}
@@ -0,0 +1,281 @@
+package com.maxdrive.app;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class UpdateDownloader {
+    static final String STATE_IDLE = "idle";
+    static final String STATE_DOWNLOADING = "downloading";
+    static final String STATE_VERIFYING = "verifying";
+    static final String STATE_READY = "ready";
+    static final String STATE_FAILED = "failed";
+
+    static final String APK_NAME = "maxdrive-latest.apk";
+    static final String PATCH_NAME = "maxdrive-update.patch";
+    private static final int CONNECT_TIMEOUT_MS = 15_000;
+    private static final int READ_TIMEOUT_MS = 30_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    interface Listener {
+        void onStateChanged(String stateJson);
+        void onReady(File apk);
+    }
+
+    private final File dir;
+    private final File baseApk;
+    private final Listener listener;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "UpdateDownloader"));
+
+    private volatile boolean cancelled = false;
+    private String state = STATE_IDLE;
+    private long bytes = 0;
+    private long total = -1;
+    private int progress = 0;
+    private boolean delta = false;
+    private String error = null;
+
+    UpdateDownloader(File dir, File baseApk, Listener listener) {
+        this.dir = dir;
+        this.baseApk = baseApk;
+        this.listener = listener;
+    }
+
+    synchronized boolean start(String apkUrl, String patchUrl, String sha256) {
+        if (apkUrl == null || apkUrl.isEmpty()) return false;
+        if (STATE_DOWNLOADING.equals(state) || STATE_VERIFYING.equals(state)) return true;
+        cancelled = false;
+        error = null;
+        transition(STATE_DOWNLOADING, 0, -1);
+        executor.execute(() -> run(apkUrl, patchUrl, sha256));
+        return true;
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    synchronized boolean isReady() {
+        return STATE_READY.equals(state);
+    }
+
+    File apkFile() {
+        return new File(dir, APK_NAME);
+    }
+
+    synchronized String getStateJson() {
+        StringBuilder sb = new StringBuilder("{\"state\":\"").append(state).append('"')
+                .append(",\"progress\":").append(progress)
+                .append(",\"bytes\":").append(bytes)
+                .append(",\"total\":").append(total)
+                .append(",\"delta\":").append(delta);
+        if (error != null) sb.append(",\"error\":\"").append(error.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        return sb.append('}').toString();
+    }
+
+    private void run(String apkUrl, String patchUrl, String sha256) {
+        dir.mkdirs();
+        File apk = apkFile();
+        boolean verify = sha256 != null && !sha256.isEmpty();
+        try {
+            if (verify && apk.exists() && sha256.equalsIgnoreCase(ApkPatcher.sha256Hex(apk))) {
+                finish(apk);
+                return;
+            }
+        } catch (IOException ignored) {}
+        apk.delete();
+
+        if (patchUrl != null && !patchUrl.isEmpty() && baseApk != null) {
+            File patch = new File(dir, PATCH_NAME);
+            try {
+                synchronized (this) {
+                    delta = true;
+                }
+                transfer(patchUrl, patch, null);
+                String hash;
+                try (InputStream in = new FileInputStream(patch)) {
+                    hash = ApkPatcher.apply(baseApk, in, apk);
+                }
+                if (verify && !sha256.equalsIgnoreCase(hash)) {
+                    apk.delete();
+                    throw new IOException("Patched APK does not match release checksum");
+                }
+                finish(apk);
+                return;
+            } catch (IOException e) {
+                if (cancelled) {
+                    fail("Cancelled");
+                    return;
+                }
+                synchronized (this) {
+                    delta = false;
+                    error = "Delta update failed: " + e.getMessage();
+                }
+            } finally {
+                patch.delete();
+            }
+        }
+
+        try {
+            transfer(apkUrl, apk, verify ? sha256 : null);
+            finish(apk);
+        } catch (IOException e) {
+            fail(cancelled ? "Cancelled" : e.getMessage());
+        }
+    }
+
+    private String transfer(String url, File target, String sha256) throws IOException {
+        File part = new File(target.getPath() + ".part");
+        File meta = new File(target.getPath() + ".part.meta");
+        MessageDigest digest = ApkPatcher.newDigest();
+        String validator = resumeValidator(meta, url);
+        long offset = validator != null && part.exists() ? part.length() : 0;
+        if (offset > 0) {
+            try (InputStream in = new FileInputStream(part)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = in.read(buffer)) != -1) digest.update(buffer, 0, n);
+            }
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MS);
+        connection.setReadTimeout(READ_TIMEOUT_MS);
+        connection.setRequestProperty("Accept-Encoding", "identity");
+        if (offset > 0) {
+            connection.setRequestProperty("Range", "bytes=" + offset + "-");
+            connection.setRequestProperty("If-Range", validator);
+        }
+        try {
+            int code = connection.getResponseCode();
+            boolean append;
+            if (offset > 0 && code == 416) {
+                append = true;
+            } else if (offset > 0 && code == HttpURLConnection.HTTP_PARTIAL && rangeStart(connection) == offset) {
+                append = true;
+            } else if (code == HttpURLConnection.HTTP_OK) {
+                append = false;
+                offset = 0;
+                digest.reset();
+            } else {
+                throw new IOException("HTTP " + code);
+            }
+
+            if (code != 416) {
+                String etag = connection.getHeaderField("ETag");
+                String lastModified = connection.getHeaderField("Last-Modified");
+                writeMeta(meta, url, etag != null && !etag.startsWith("W/") ? etag : lastModified);
+                long length = connection.getContentLengthLong();
+                transition(STATE_DOWNLOADING, offset, length >= 0 ? offset + length : -1);
+                try (InputStream in = connection.getInputStream();
+                     OutputStream out = new FileOutputStream(part, append)) {
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    long received = offset;
+                    int n;
+                    while ((n = in.read(buffer)) != -1) {
+                        if (cancelled) throw new IOException("Cancelled");
+                        out.write(buffer, 0, n);
+                        digest.update(buffer, 0, n);
+                        received += n;
+                        advance(received);
+                    }
+                    if (length >= 0 && received != offset + length) throw new IOException("Connection closed early");
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+
+        transition(STATE_VERIFYING, part.length(), part.length());
+        String hash = ApkPatcher.hex(digest.digest());
+        meta.delete();
+        if (sha256 != null && !sha256.equalsIgnoreCase(hash)) {
+            part.delete();
+            throw new IOException("Checksum mismatch");
+        }
+        target.delete();
+        if (!part.renameTo(target)) throw new IOException("Could not move download into place");
+        return hash;
+    }
+
+    private void finish(File apk) {
+        transition(STATE_READY, apk.length(), apk.length());
+        listener.onReady(apk);
+    }
+
+    private void fail(String message) {
+        synchronized (this) {
+            error = message;
+        }
+        transition(STATE_FAILED, bytes, total);
+    }
+
+    private void transition(String newState, long newBytes, long newTotal) {
+        String json;
+        synchronized (this) {
+            state = newState;
+            bytes = newBytes;
+            total = newTotal;
+            progress = STATE_READY.equals(newState) ? 100 : percent(newBytes, newTotal);
+            json = getStateJson();
+        }
+        listener.onStateChanged(json);
+    }
+
+    private void advance(long received) {
+        String json = null;
+        synchronized (this) {
+            bytes = received;
+            int next = percent(received, total);
+            if (next != progress) {
+                progress = next;
+                json = getStateJson();
+            }
+        }
+        if (json != null) listener.onStateChanged(json);
+    }
+
+    private static int percent(long received, long length) {
+        return length > 0 ? (int) Math.min(99, received * 100 / length) : 0;
+    }
+
+    private static long rangeStart(HttpURLConnection connection) {
+        String range = connection.getHeaderField("Content-Range");
+        if (range == null || !range.startsWith("bytes ")) return -1;
+        int dash = range.indexOf('-');
+        try {
+            return dash > 6 ? Long.parseLong(range.substring(6, dash).trim()) : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String resumeValidator(File meta, String url) {
+        if (!meta.exists()) return null;
+        try (BufferedReader reader = new BufferedReader(new FileReader(meta))) {
+            String savedUrl = reader.readLine();
+            String validator = reader.readLine();
+            return url.equals(savedUrl) && validator != null && !validator.isEmpty() ? validator : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeMeta(File meta, String url, String validator) throws IOException {
+        try (Writer writer = new FileWriter(meta)) {
+            writer.write(url + "\n" + (validator != null ? validator : "") + "\n");
+        }
+    }
+}
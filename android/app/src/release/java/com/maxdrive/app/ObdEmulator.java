@@ -0,0 +1,10 @@
+package com.maxdrive.app;
+
+// The ELM327 emulator only ships in debug builds.
+final class ObdEmulator {
+    private ObdEmulator() {}
+
+    static ObdSessionManager.Link open() {
+        return null;
+    }
+}
@@ -0,0 +1,112 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.Test;
+
+// Patches are built by hand here; the round trip through ApkDiff is covered in the tools module.
+public class ApkPatcherTest {
+
+    @Test
+    public void appliesPatchAndVerifiesResult() throws IOException {
+        Random random = new Random(21);
+        byte[] oldApk = new byte[50_000];
+        random.nextBytes(oldApk);
+        byte[] newApk = Arrays.copyOf(oldApk, 60_000);
+        newApk[1234] ^= 0x5a;
+        for (int i = oldApk.length; i < newApk.length; i++) newApk[i] = (byte) i;
+
+        File dir = Files.createTempDirectory("apkpatch").toFile();
+        File oldFile = write(new File(dir, "old.apk"), oldApk);
+        File outFile = new File(dir, "new.apk");
+        String hash = ApkPatcher.apply(oldFile, new ByteArrayInputStream(patch(oldApk, newApk)), outFile);
+        assertArrayEquals(newApk, Files.readAllBytes(outFile.toPath()));
+        assertEquals(ApkPatcher.hex(ApkPatcher.newDigest().digest(newApk)), hash);
+        assertEquals(hash, ApkPatcher.sha256Hex(outFile));
+    }
+
+    @Test
+    public void rejectsPatchForDifferentInstalledApk() throws IOException {
+        File dir = Files.createTempDirectory("apkpatch").toFile();
+        File installed = write(new File(dir, "installed.apk"), "version 1.0.1".getBytes());
+        File outFile = new File(dir, "new.apk");
+        byte[] patch = patch("version 1.0.0".getBytes(), "version 1.1.0".getBytes());
+        try {
+            ApkPatcher.apply(installed, new ByteArrayInputStream(patch), outFile);
+            fail("expected mismatch");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("installed"));
+        }
+        assertFalse(outFile.exists());
+    }
+
+    @Test
+    public void deletesOutputWhenPatchIsCorrupt() throws IOException {
+        Random random = new Random(3);
+        byte[] oldApk = new byte[50_000];
+        random.nextBytes(oldApk);
+        byte[] newApk = oldApk.clone();
+        newApk[1234] ^= 0x5a;
+        File dir = Files.createTempDirectory("apkpatch").toFile();
+        File oldFile = write(new File(dir, "old.apk"), oldApk);
+        File outFile = new File(dir, "new.apk");
+
+        byte[] patch = patch(oldApk, newApk);
+        byte[] truncated = Arrays.copyOf(patch, patch.length - 10);
+        try {
+            ApkPatcher.apply(oldFile, new ByteArrayInputStream(truncated), outFile);
+            fail("expected truncated patch to fail");
+        } catch (IOException expected) {}
+        assertFalse(outFile.exists());
+
+        patch[ApkPatcher.MAGIC.length + 8 + ApkPatcher.HASH_SIZE] ^= 1;
+        try {
+            ApkPatcher.apply(oldFile, new ByteArrayInputStream(patch), outFile);
+            fail("expected verification to fail");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("verification"));
+        }
+        assertFalse(outFile.exists());
+    }
+
+    @Test
+    public void encodesSignedOffsets() throws IOException {
+        long[] values = {0, 1, -1, 255, -256, 1L << 40, -(1L << 40), Long.MAX_VALUE};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : values) ApkPatcher.writeOffset(out, value);
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        for (long value : values) assertEquals(value, ApkPatcher.readOffset(in));
+    }
+
+    // Single control block: diff the common prefix in place, append the rest of the new APK as extra bytes.
+    static byte[] patch(byte[] oldApk, byte[] newApk) throws IOException {
+        ByteArrayOutputStream patch = new ByteArrayOutputStream();
+        patch.write(ApkPatcher.MAGIC);
+        ApkPatcher.writeOffset(patch, newApk.length);
+        patch.write(ApkPatcher.newDigest().digest(oldApk));
+        patch.write(ApkPatcher.newDigest().digest(newApk));
+        int common = Math.min(oldApk.length, newApk.length);
+        try (DeflaterOutputStream body = new DeflaterOutputStream(patch)) {
+            ApkPatcher.writeOffset(body, common);
+            ApkPatcher.writeOffset(body, newApk.length - common);
+            ApkPatcher.writeOffset(body, 0);
+            for (int i = 0; i < common; i++) body.write(newApk[i] - oldApk[i]);
+            body.write(newApk, common, newApk.length - common);
+        }
+        return patch.toByteArray();
+    }
+
+    private static File write(File file, byte[] bytes) throws IOException {
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+}
@@ -0,0 +1,80 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class LocationFilterTest {
+
+    private static final double METERS_PER_DEGREE = 111_195;
+
+    @Test
+    public void smoothsNoisyDopplerSpeed() {
+        LocationFilter filter = new LocationFilter();
+        Random random = new Random(7);
+        double latitude = 52.0;
+        double rawError = 0;
+        double filteredError = 0;
+        for (int i = 0; i < 200; i++) {
+            latitude += 20.0 / METERS_PER_DEGREE * 0.2;
+            double noisy = 20 + random.nextGaussian() * 1.5;
+            assertTrue(filter.update(latitude, 13.0, 5, noisy, 1.5, 0, 5, i * 200L));
+            if (i >= 50) {
+                rawError += Math.abs(noisy - 20);
+                filteredError += Math.abs(filter.speed() - 20);
+            }
+        }
+        assertEquals(20, filter.speed(), 1.0);
+        assertTrue(filteredError < rawError / 2);
+    }
+
+    @Test
+    public void derivesSpeedFromPositionsWhenDopplerIsMissing() {
+        LocationFilter filter = new LocationFilter();
+        double latitude = 48.0;
+        for (int i = 0; i < 30; i++) {
+            latitude += 15.0 / METERS_PER_DEGREE;
+            filter.update(latitude, 11.0, 3, Double.NaN, Double.NaN, Double.NaN, Double.NaN, i * 1000L);
+        }
+        assertEquals(15, filter.speed(), 1.0);
+        assertEquals(0, filter.heading(), 1.0);
+    }
+
+    @Test
+    public void rejectsPositionJumpAndInaccurateFixes() {
+        LocationFilter filter = new LocationFilter();
+        double latitude = 48.0;
+        for (int i = 0; i < 10; i++) {
+            latitude += 10.0 / METERS_PER_DEGREE;
+            filter.update(latitude, 11.0, 5, 10, 0.5, 0, 5, i * 1000L);
+        }
+        assertFalse(filter.update(latitude + 2000 / METERS_PER_DEGREE, 11.0, 5, 10, 0.5, 0, 5, 10_000L));
+        assertFalse(filter.update(latitude + 20 / METERS_PER_DEGREE, 11.0, 200, 10, 0.5, 0, 5, 11_000L));
+        assertFalse(filter.update(latitude, 11.0, 5, 90, 0.5, 0, 5, 11_500L));
+        assertTrue(filter.update(latitude + 20 / METERS_PER_DEGREE, 11.0, 5, 10, 0.5, 0, 5, 12_000L));
+        assertEquals(10, filter.speed(), 0.5);
+        assertEquals(3, filter.rejected);
+    }
+
+    @Test
+    public void recoversAfterPersistentDisagreement() {
+        LocationFilter filter = new LocationFilter();
+        for (int i = 0; i < 5; i++) filter.update(48.0, 11.0, 5, 0, 0.5, Double.NaN, Double.NaN, i * 1000L);
+        for (int i = 5; i < 10; i++) filter.update(48.0 + (i - 4) * 30 / METERS_PER_DEGREE, 11.0, 5, 30, 0.5, 0, 5, i * 100L + 4500L);
+        assertEquals(30, filter.speed(), 2.0);
+    }
+
+    @Test
+    public void wrapsHeadingAcrossNorth() {
+        LocationFilter filter = new LocationFilter();
+        double latitude = 48.0;
+        for (int i = 0; i < 20; i++) {
+            latitude += 10.0 / METERS_PER_DEGREE;
+            filter.update(latitude, 11.0, 5, 10, 0.5, i % 2 == 0 ? 358 : 2, 3, i * 1000L);
+        }
+        double heading = filter.heading();
+        assertTrue("heading " + heading, heading > 355 || heading < 5);
+    }
+}
@@ -0,0 +1,84 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class ObdFrameBatcherTest {
+    private final List<Runnable> frames = new ArrayList<>();
+    private final List<String> published = new ArrayList<>();
+    private boolean accept = true;
+
+    private final ObdFrameBatcher batcher = new ObdFrameBatcher(frames::add, (framesJson, onDelivered) -> {
+        if (!accept) return false;
+        published.add(framesJson);
+        onDelivered.run();
+        return true;
+    });
+
+    @Test
+    public void publishesOneArrayOfNumericTuplesPerFrame() throws Exception {
+        batcher.offer(ObdParser.PID_SPEED, 42.5, 1000);
+        batcher.offer(ObdParser.PID_RPM, 1800, 1001);
+        batcher.offer(0x42, 12.1, 1002);
+        runFrame();
+
+        assertEquals(1, published.size());
+        JSONArray batch = new JSONArray(published.get(0));
+        assertEquals(2, batch.length());
+        assertEquals("speed", batch.getJSONArray(0).getString(0));
+        assertEquals(42.5, batch.getJSONArray(0).getDouble(1), 0);
+        assertEquals(1000, batch.getJSONArray(0).getLong(2));
+        assertEquals("rpm", batch.getJSONArray(1).getString(0));
+        assertEquals(2, stats().getLong("delivered"));
+    }
+
+    @Test
+    public void holdsRejectedBatchUntilResumed() throws Exception {
+        accept = false;
+        batcher.offer(ObdParser.PID_SPEED, 10, 1000);
+        runFrame();
+        batcher.offer(ObdParser.PID_SPEED, 20, 2000);
+        assertTrue(frames.isEmpty());
+        JSONObject stats = stats();
+        assertEquals(0, stats.getLong("delivered"));
+        assertEquals(0, stats.getLong("dropped"));
+        assertEquals(2, stats.getLong("queued"));
+
+        accept = true;
+        batcher.resume();
+        runFrame();
+        JSONArray batch = new JSONArray(published.get(0));
+        assertEquals(1000, batch.getJSONArray(0).getLong(2));
+        assertEquals(2000, batch.getJSONArray(1).getLong(2));
+        assertEquals(2, stats().getLong("delivered"));
+    }
+
+    @Test
+    public void countsRequeueOverflowAsDropped() throws Exception {
+        batcher.setCapacity(3);
+        accept = false;
+        for (int i = 0; i < 3; i++) batcher.offer(ObdParser.PID_RPM, i, i);
+        runFrame();
+        for (int i = 3; i < 5; i++) batcher.offer(ObdParser.PID_RPM, i, i);
+        JSONObject stats = stats();
+        assertEquals(3, stats.getLong("queued"));
+        assertEquals(2, stats.getLong("dropped"));
+        assertEquals(0, stats.getLong("delivered"));
+    }
+
+    private void runFrame() {
+        List<Runnable> pending = new ArrayList<>(frames);
+        frames.clear();
+        for (Runnable flush : pending) flush.run();
+    }
+
+    private JSONObject stats() throws Exception {
+        return new JSONObject(batcher.getStatsJson());
+    }
+}
@@ -0,0 +1,126 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ObdParserTest {
+
+    private final List<double[]> samples = new ArrayList<>();
+    private ObdParser parser;
+
+    @Before
+    public void setUp() {
+        samples.clear();
+        parser = new ObdParser((pid, value, timestampMs) -> samples.add(new double[]{pid, value}));
+    }
+
+    private void feed(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        parser.feed(bytes, 0, bytes.length, 0);
+    }
+
+    @Test
+    public void decodesSingleFrameWithoutSpaces() {
+        feed("410D3C\r\r>");
+        assertEquals(1, samples.size());
+        assertEquals(ObdParser.PID_SPEED, (int) samples.get(0)[0]);
+        assertEquals(60.0, parser.speed, 0.0);
+        assertEquals(1, parser.prompts);
+    }
+
+    @Test
+    public void decodesSingleFrameWithSpaces() {
+        feed("41 0C 1A F8 \r\r>");
+        assertEquals(1, samples.size());
+        assertEquals(1726.0, parser.rpm, 0.0);
+    }
+
+    @Test
+    public void decodesResponseSplitAcrossReads() {
+        feed("41 0");
+        feed("5 7B");
+        assertEquals(0, samples.size());
+        feed("\r");
+        feed(">");
+        assertEquals(1, samples.size());
+        assertEquals(83.0, parser.coolantTemp, 0.0);
+    }
+
+    @Test
+    public void decodesIsoTpMultiPidResponse() {
+        feed("00A\r0:410D3C0C1AF8\r1:11807B\r\r>");
+        assertEquals(3, samples.size());
+        assertEquals(60.0, parser.speed, 0.0);
+        assertEquals(1726.0, parser.rpm, 0.0);
+        assertEquals(128 * 100.0 / 255.0, parser.throttle, 1e-9);
+    }
+
+    @Test
+    public void ignoresTextLines() {
+        feed("SEARCHING...\rNO DATA\r\r>");
+        feed("OK\r\r>");
+        assertEquals(0, samples.size());
+        assertEquals(3, parser.textLines);
+        assertEquals(2, parser.prompts);
+    }
+
+    @Test
+    public void readsSupportedPidMask() {
+        assertTrue(parser.isSupported(ObdParser.PID_FUEL_LEVEL));
+        feed("4100BE1FA813\r\r>");
+        assertEquals(0, samples.size());
+        assertTrue(parser.isSupported(ObdParser.PID_SPEED));
+        assertTrue(parser.isSupported(ObdParser.PID_RPM));
+        assertTrue(parser.isSupported(ObdParser.PID_COOLANT_TEMP));
+        assertFalse(parser.isSupported(0x02));
+    }
+
+    @Test
+    public void recoversFromOverlongLine() {
+        StringBuilder junk = new StringBuilder();
+        for (int i = 0; i < 3000; i++) junk.append('A');
+        feed(junk.toString());
+        feed("\r>410D3C\r>");
+        assertTrue(parser.overflows > 0);
+        assertEquals(60.0, parser.speed, 0.0);
+    }
+
+    @Test
+    public void throughputAndAllocation() {
+        byte[] stream = "00A\r0:410D3C0C1AF8\r1:11807B\r\r>410D3D\r\r>".getBytes(StandardCharsets.US_ASCII);
+        ObdParser counting = new ObdParser(null);
+        for (int i = 0; i < 20000; i++) counting.feed(stream, 0, stream.length, i);
+
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = allocatedBytes(threads, threadId);
+        long samplesBefore = counting.samples;
+        int iterations = 200000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) counting.feed(stream, 0, stream.length, i);
+        long elapsedNs = System.nanoTime() - start;
+        long allocated = allocatedBytes(threads, threadId) - allocatedBefore;
+
+        long decoded = counting.samples - samplesBefore;
+        assertEquals(iterations * 4L, decoded);
+        System.out.printf("ObdParser: %.0f samples/sec, %.1f MB/s, %d bytes allocated%n",
+                decoded * 1e9 / elapsedNs,
+                (double) iterations * stream.length * 1e3 / elapsedNs,
+                allocated);
+        if (allocated >= 0) assertTrue(allocated < 64 * 1024);
+    }
+
+    private static long allocatedBytes(java.lang.management.ThreadMXBean threads, long threadId) {
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threadId);
+        }
+        return -1;
+    }
+}
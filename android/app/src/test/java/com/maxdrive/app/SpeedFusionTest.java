@@ -0,0 +1,82 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class SpeedFusionTest {
+
+    @Test
+    public void learnsObdWheelSpeedOffsetFromGps() {
+        SpeedFusion fusion = new SpeedFusion();
+        for (long t = 0; t < 180_000; t += 100) {
+            fusion.onObdSpeed(Math.round(60 * 1.05), t);
+            if (t % 1000 == 0) fusion.onGpsSpeed(60, 1, t);
+        }
+        assertEquals(1 / 1.05, fusion.scale(), 0.01);
+
+        for (long t = 180_000; t < 210_000; t += 100) fusion.onObdSpeed(Math.round(80 * 1.05), t);
+        SpeedFusion.Estimate estimate = fusion.estimate(210_000);
+        assertEquals(80, estimate.speedKmh, 1.0);
+        assertEquals(SpeedFusion.SOURCE_OBD, estimate.source);
+    }
+
+    @Test
+    public void carriesGpsSpeedThroughOutageWithFallingConfidence() {
+        SpeedFusion fusion = new SpeedFusion();
+        for (long t = 0; t <= 10_000; t += 1000) fusion.onGpsSpeed(50, 1, t);
+        SpeedFusion.Estimate fresh = fusion.estimate(10_000);
+        assertEquals(SpeedFusion.SOURCE_GPS, fresh.source);
+        assertEquals(50, fresh.speedKmh, 0.5);
+
+        SpeedFusion.Estimate tunnel = fusion.estimate(20_000);
+        assertEquals(SpeedFusion.SOURCE_NONE, tunnel.source);
+        assertEquals(50, tunnel.speedKmh, 0.5);
+        assertTrue(tunnel.confidence < fresh.confidence / 2);
+        assertTrue(fusion.isActive(19_000));
+        assertFalse(fusion.isActive(30_000));
+    }
+
+    @Test
+    public void weighsSourcesByUncertainty() {
+        SpeedFusion fusion = new SpeedFusion();
+        for (long t = 0; t < 5_000; t += 100) {
+            fusion.onObdSpeed(100, t);
+            if (t % 1000 == 0) fusion.onGpsSpeed(70, 15, t);
+        }
+        SpeedFusion.Estimate estimate = fusion.estimate(5_000);
+        assertEquals(SpeedFusion.SOURCE_FUSED, estimate.source);
+        assertEquals(100, estimate.speedKmh, 2.0);
+        assertTrue(estimate.confidence > 0.7);
+    }
+
+    @Test
+    public void learnsAccelerometerAxisForDeadReckoning() {
+        SpeedFusion fusion = new SpeedFusion();
+        double speedKmh = 30;
+        long t = 0;
+        for (int cycle = 0; cycle < 40; cycle++) {
+            double accel = cycle % 2 == 0 ? 2.0 : -2.0;
+            for (int i = 0; i < 20; i++, t += 50) {
+                speedKmh += accel * 3.6 * 0.05;
+                fusion.onAccelerometer(0.1, -accel, 0.05, t);
+                if (i % 2 == 0) fusion.onObdSpeed(speedKmh, t);
+            }
+        }
+        assertTrue(fusion.hasInertialAxis());
+
+        double start = fusion.estimate(t).speedKmh;
+        for (int i = 0; i < 5; i++, t += 50) fusion.onAccelerometer(0.1, -2.0, 0.05, t);
+        SpeedFusion.Estimate estimate = fusion.estimate(t + 10);
+        assertEquals(SpeedFusion.SOURCE_OBD, estimate.source);
+        assertTrue("expected acceleration from " + start + " to " + estimate.speedKmh, estimate.speedKmh > start + 1);
+    }
+
+    @Test
+    public void reportsNothingBeforeFirstMeasurement() {
+        SpeedFusion.Estimate estimate = new SpeedFusion().estimate(1_000);
+        assertEquals(SpeedFusion.SOURCE_NONE, estimate.source);
+        assertEquals(0, estimate.confidence, 0.0);
+        assertEquals("{\"speed\":0.0,\"sigma\":0.0,\"confidence\":0.0,\"source\":\"none\",\"t\":1000}", estimate.toJson());
+    }
+}
@@ -0,0 +1,62 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class StartupBootstrapTest {
+
+    @Test
+    public void loadsPartsInParallel() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Map<String, Callable<String>> loaders = new LinkedHashMap<>();
+        for (String key : new String[] {"catalog", "media", "location"}) {
+            loaders.put(key, () -> {
+                allStarted.countDown();
+                assertTrue(allStarted.await(2, TimeUnit.SECONDS));
+                return "{\"part\":\"" + key + "\"}";
+            });
+        }
+        JSONObject json = new JSONObject(new StartupBootstrap(loaders).getJson(5000));
+
+        assertEquals("catalog", json.getJSONObject("catalog").getString("part"));
+        assertEquals("media", json.getJSONObject("media").getString("part"));
+        assertEquals("location", json.getJSONObject("location").getString("part"));
+        assertEquals(0, json.getJSONArray("pending").length());
+    }
+
+    @Test
+    public void reportsSlowPartsAsPendingAndFailedPartsAsNull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Callable<String>> loaders = new LinkedHashMap<>();
+        loaders.put("catalog", () -> {
+            release.await();
+            return "[]";
+        });
+        loaders.put("media", () -> {
+            throw new IllegalStateException("no session access");
+        });
+        loaders.put("location", () -> "{\"granted\":false,\"fix\":null}");
+        StartupBootstrap bootstrap = new StartupBootstrap(loaders);
+
+        long start = System.nanoTime();
+        JSONObject json = new JSONObject(bootstrap.getJson(100));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertTrue(json.isNull("catalog"));
+        assertTrue(json.isNull("media"));
+        assertFalse(json.getJSONObject("location").getBoolean("granted"));
+        assertEquals("catalog", json.getJSONArray("pending").getString(0));
+
+        release.countDown();
+        json = new JSONObject(bootstrap.getJson(2000));
+        assertEquals(0, json.getJSONArray("catalog").length());
+        assertEquals(0, json.getJSONArray("pending").length());
+    }
+}
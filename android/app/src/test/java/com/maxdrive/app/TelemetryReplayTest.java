@@ -0,0 +1,96 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TelemetryReplayTest {
+
+    private final List<double[]> samples = new ArrayList<>();
+    private File dir;
+
+    @Before
+    public void setUp() throws Exception {
+        samples.clear();
+        dir = Files.createTempDirectory("replay").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) for (File f : files) f.delete();
+        dir.delete();
+    }
+
+    private TelemetryReplay replay(double speed) {
+        return new TelemetryReplay((pid, value, timestampMs) -> samples.add(new double[]{pid, value}), speed);
+    }
+
+    @Test
+    public void replaysTranscriptThroughParser() throws Exception {
+        TelemetryReplay replay = replay(0);
+        replay.replayTranscript(new StringReader(">010D\n410D3C\n\n>010D0C1104\n00A\n0:410D3D0C1AF8\n1:11800433\n\n>"));
+        assertEquals(5, samples.size());
+        assertEquals(60.0, samples.get(0)[1], 0.0);
+        assertEquals(1726.0, samples.get(2)[1], 0.0);
+        assertFalse(replay.isRunning());
+    }
+
+    @Test
+    public void pacesTimedTranscript() throws Exception {
+        TelemetryReplay replay = replay(2);
+        long start = System.nanoTime();
+        replay.replayTranscript(new StringReader("@0\n410D01\n@100\n410D02\n@200\n410D03\n"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(3, samples.size());
+        assertTrue("elapsed " + elapsedMs, elapsedMs >= 90 && elapsedMs < 1000);
+    }
+
+    @Test
+    public void replaysRecordedTrip() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir);
+        for (int i = 0; i < 100; i++) {
+            recorder.append(ObdParser.PID_SPEED, i, 1_000L + i * 10);
+            recorder.append(ObdParser.PID_RPM, 800 + i * 12.25, 1_000L + i * 10);
+            recorder.append(ObdParser.PID_THROTTLE, i * 0.5, 1_000L + i * 10);
+            recorder.append(TripRecorder.CHANNEL_LATITUDE, 47.5, 1_000L + i * 10);
+        }
+        TelemetryReplay replay = replay(0);
+        replay.replayTrip(recorder, 0, Long.MAX_VALUE);
+        recorder.close();
+
+        assertEquals(300, samples.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, samples.get(i * 3)[1], 0.0);
+            assertEquals(800 + i * 12.25, samples.get(i * 3 + 1)[1], 0.25);
+            assertEquals(i * 0.5, samples.get(i * 3 + 2)[1], 100.0 / 255);
+        }
+    }
+
+    @Test
+    public void demoTranscriptThroughput() throws Exception {
+        File demo = new File("src/debug/assets/replays/demo-drive.elm");
+        if (!demo.exists()) return;
+        long decoded = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            samples.clear();
+            try (FileReader reader = new FileReader(demo)) {
+                replay(0).replayTranscript(reader);
+            }
+            decoded += samples.size();
+        }
+        long elapsedNs = System.nanoTime() - start;
+        assertTrue(samples.size() > 2000);
+        System.out.printf("TelemetryReplay: %.0f samples/sec from demo-drive.elm%n", decoded * 1e9 / elapsedNs);
+    }
+}
@@ -0,0 +1,116 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TripRecorderTest {
+
+    private static final int SMALL_SEGMENT = TripRecorder.HEADER_SIZE + 100 * TripRecorder.RECORD_SIZE;
+
+    private File dir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("trips").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) for (File f : files) f.delete();
+        dir.delete();
+    }
+
+    @Test
+    public void scansTimeRangeAcrossSegments() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir, SMALL_SEGMENT, 32);
+        for (int i = 0; i < 1000; i++) recorder.append(ObdParser.PID_SPEED, i, 1_000_000L + i * 100L);
+
+        List<Long> seen = new ArrayList<>();
+        recorder.scan(1_000_000L + 250 * 100L, 1_000_000L + 749 * 100L, (t, channel, value) -> {
+            assertEquals(ObdParser.PID_SPEED, channel);
+            assertEquals((t - 1_000_000L) / 100.0, value, 0.0);
+            seen.add(t);
+            return true;
+        });
+        assertEquals(500, seen.size());
+        assertEquals(1_000_000L + 250 * 100L, (long) seen.get(0));
+        assertTrue(dir.listFiles((d, name) -> name.endsWith(".seg")).length >= 10);
+        recorder.close();
+    }
+
+    @Test
+    public void downsamplesIntoBuckets() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir);
+        for (int i = 0; i < 1000; i++) {
+            recorder.append(ObdParser.PID_RPM, 1000 + i, i * 10L + 1);
+            recorder.append(ObdParser.PID_SPEED, i, i * 10L + 1);
+        }
+
+        TripRecorder.Series series = recorder.downsample(ObdParser.PID_RPM, 1, 10_000, 10);
+        assertEquals(10, series.length);
+        assertEquals(1000.0, series.min[0], 0.0);
+        assertEquals(1099.0, series.max[0], 0.0);
+        assertEquals(1049.5, series.average[0], 1e-9);
+        assertEquals(1999.0, series.max[9], 0.0);
+        recorder.close();
+    }
+
+    @Test
+    public void startsNewTripAfterGap() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir);
+        recorder.append(ObdParser.PID_SPEED, 10, 1_000L);
+        recorder.append(ObdParser.PID_SPEED, 20, 2_000L);
+        recorder.append(ObdParser.PID_SPEED, 30, 2_000L + TripRecorder.TRIP_GAP_MS + 1);
+
+        List<TripRecorder.Trip> trips = recorder.trips();
+        assertEquals(2, trips.size());
+        assertEquals(2, trips.get(0).samples);
+        assertEquals(2_000L, trips.get(0).endMs);
+        assertEquals(1, trips.get(1).samples);
+        recorder.close();
+    }
+
+    @Test
+    public void recoversSegmentsAfterReopen() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir, SMALL_SEGMENT, 32);
+        for (int i = 0; i < 250; i++) recorder.append(ObdParser.PID_SPEED, i, 10_000L + i);
+        recorder.close();
+
+        TripRecorder reopened = new TripRecorder(dir, SMALL_SEGMENT, 32);
+        assertEquals(1, reopened.trips().size());
+        assertEquals(250, reopened.trips().get(0).samples);
+        reopened.append(ObdParser.PID_SPEED, 250, 10_250L);
+        assertEquals(1, reopened.trips().size());
+        assertEquals(251, reopened.trips().get(0).samples);
+        reopened.close();
+    }
+
+    @Test
+    public void dropsOldestSegments() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir, SMALL_SEGMENT, 3);
+        for (int i = 0; i < 1000; i++) recorder.append(ObdParser.PID_SPEED, i, 1_000L + i);
+        assertEquals(3, dir.listFiles((d, name) -> name.endsWith(".seg")).length);
+        assertEquals(300, recorder.trips().get(0).samples);
+        recorder.close();
+    }
+
+    @Test
+    public void appendThroughput() throws Exception {
+        TripRecorder recorder = new TripRecorder(dir);
+        int samples = 500_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < samples; i++) recorder.append(i & 0xFF, i, 1_000L + i);
+        long elapsedNs = System.nanoTime() - start;
+        System.out.printf("TripRecorder: %.0f appends/sec%n", samples * 1e9 / elapsedNs);
+        recorder.close();
+    }
+}
@@ -0,0 +1,159 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UpdateCheckerTest {
+
+    private static final String DIGEST = "ab12cd34ef56ab12cd34ef56ab12cd34ef56ab12cd34ef56ab12cd34ef56ab12";
+
+    private HttpServer server;
+    private final List<String> conditions = new CopyOnWriteArrayList<>();
+    private volatile String release;
+    private volatile String etag = "\"r1\"";
+    private File cacheFile;
+
+    @Before
+    public void setUp() throws IOException {
+        release = release("v1.3.0");
+        cacheFile = new File(Files.createTempDirectory("update-check").toFile(), "update-check.json");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/releases/latest", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            conditions.add(ifNoneMatch != null ? ifNoneMatch : "none");
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = release.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void revalidatesWithEtagAndPersistsResult() throws Exception {
+        UpdateChecker checker = new UpdateChecker(cacheFile, "v1.2.0", info -> {});
+        checker.configure(feed(), TimeUnit.HOURS.toMillis(1));
+        assertTrue(checker.isStale(System.currentTimeMillis()));
+        assertTrue(checker.check());
+        assertTrue(checker.check());
+        assertEquals(List.of("none", "\"r1\""), conditions);
+
+        JSONObject info = new JSONObject(checker.getInfoJson());
+        assertTrue(info.getBoolean("available"));
+        assertFalse(info.getBoolean("stale"));
+        assertEquals("v1.3.0", info.getString("latest"));
+        assertEquals("https://example.com/maxdrive-1.3.0.apk", info.getString("apkUrl"));
+        assertEquals("https://example.com/maxdrive-1.3.0-from-1.2.0.patch", info.getString("patchUrl"));
+        assertEquals(DIGEST, info.getString("sha256"));
+        checker.stop();
+
+        UpdateChecker restarted = new UpdateChecker(cacheFile, "v1.2.0", info2 -> {});
+        assertFalse(restarted.isStale(System.currentTimeMillis()));
+        assertEquals("v1.3.0", new JSONObject(restarted.getInfoJson()).getString("latest"));
+        assertTrue(restarted.check());
+        assertEquals("\"r1\"", conditions.get(2));
+        restarted.stop();
+    }
+
+    @Test
+    public void dropsCacheWhenInstalledVersionChanges() throws Exception {
+        UpdateChecker checker = new UpdateChecker(cacheFile, "v1.2.0", info -> {});
+        checker.configure(feed(), TimeUnit.HOURS.toMillis(1));
+        assertTrue(checker.check());
+        checker.stop();
+
+        UpdateChecker upgraded = new UpdateChecker(cacheFile, "v1.3.0", info -> {});
+        JSONObject info = new JSONObject(upgraded.getInfoJson());
+        assertFalse(info.getBoolean("available"));
+        assertTrue(info.getBoolean("stale"));
+        assertTrue(upgraded.check());
+        assertEquals("none", conditions.get(1));
+        assertFalse(new JSONObject(upgraded.getInfoJson()).getBoolean("available"));
+        assertTrue(new JSONObject(upgraded.getInfoJson()).isNull("patchUrl"));
+        upgraded.stop();
+    }
+
+    @Test
+    public void schedulesImmediateCheckWhenStaleAndNotifiesChanges() throws Exception {
+        CountDownLatch checked = new CountDownLatch(1);
+        List<String> updates = new CopyOnWriteArrayList<>();
+        UpdateChecker checker = new UpdateChecker(cacheFile, "v1.2.0", info -> {
+            updates.add(info);
+            checked.countDown();
+        });
+        checker.configure(feed(), TimeUnit.HOURS.toMillis(1));
+        Thread.sleep(100);
+        assertEquals(0, checker.requestCount());
+        checker.start();
+        assertTrue(checked.await(5, TimeUnit.SECONDS));
+        assertEquals(1, checker.requestCount());
+
+        checker.configure(feed(), TimeUnit.HOURS.toMillis(1));
+        checker.start();
+        Thread.sleep(200);
+        assertEquals(1, checker.requestCount());
+        assertTrue(new JSONObject(updates.get(0)).getBoolean("available"));
+        checker.stop();
+    }
+
+    @Test
+    public void keepsCachedAnswerWhenCheckFails() throws Exception {
+        UpdateChecker checker = new UpdateChecker(cacheFile, "v1.2.0", info -> {});
+        checker.configure(feed(), TimeUnit.HOURS.toMillis(1));
+        assertTrue(checker.check());
+        server.stop(0);
+        assertFalse(checker.check());
+        assertEquals("v1.3.0", new JSONObject(checker.getInfoJson()).getString("latest"));
+        checker.stop();
+    }
+
+    @Test
+    public void comparesVersionsLikeTheWebUpdater() {
+        assertTrue(UpdateChecker.isNewer("v1.10.0", "v1.9.3"));
+        assertTrue(UpdateChecker.isNewer("1.0.1", "v1.0"));
+        assertFalse(UpdateChecker.isNewer("v0.8a", "v0.8"));
+        assertFalse(UpdateChecker.isNewer("v1.2.0", "v1.2.0"));
+    }
+
+    private String feed() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/releases/latest";
+    }
+
+    private static String release(String tag) {
+        return "{\"tag_name\":\"" + tag + "\",\"assets\":["
+                + "{\"name\":\"maxdrive-1.3.0-from-1.1.0.patch\",\"size\":10,\"browser_download_url\":\"https://example.com/old.patch\"},"
+                + "{\"name\":\"maxdrive-1.3.0.apk\",\"size\":9000000,\"digest\":\"sha256:" + DIGEST + "\","
+                + "\"browser_download_url\":\"https://example.com/maxdrive-1.3.0.apk\"},"
+                + "{\"name\":\"maxdrive-1.3.0-from-1.2.0.patch\",\"size\":120000,"
+                + "\"browser_download_url\":\"https://example.com/maxdrive-1.3.0-from-1.2.0.patch\"}]}";
+    }
+}
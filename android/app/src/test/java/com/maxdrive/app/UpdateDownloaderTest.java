@@ -0,0 +1,190 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UpdateDownloaderTest {
+
+    private HttpServer server;
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+    private final AtomicInteger truncateNext = new AtomicInteger(-1);
+    private byte[] apk;
+    private byte[] patch;
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        apk = new byte[400_000];
+        new Random(22).nextBytes(apk);
+        dir = Files.createTempDirectory("updates").toFile();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/app.apk", exchange -> {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+            ranges.add(range != null ? range + " " + ifRange : "full");
+            int start = 0;
+            if (range != null && "\"v2\"".equals(ifRange)) start = Integer.parseInt(range.substring(6, range.indexOf('-')));
+            exchange.getResponseHeaders().set("ETag", "\"v2\"");
+            if (start > 0) {
+                exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + (apk.length - 1) + "/" + apk.length);
+                exchange.sendResponseHeaders(206, apk.length - start);
+            } else {
+                exchange.sendResponseHeaders(200, apk.length);
+            }
+            int limit = truncateNext.getAndSet(-1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(apk, start, limit >= 0 ? limit : apk.length - start);
+            }
+            if (limit >= 0) exchange.close();
+        });
+        server.createContext("/app.patch", exchange -> {
+            if (patch == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, patch.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(patch);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void downloadsAndVerifiesFullApk() throws Exception {
+        Recorder recorder = new Recorder();
+        UpdateDownloader downloader = new UpdateDownloader(dir, null, recorder);
+        assertTrue(downloader.start(url("/app.apk"), "", sha256(apk)));
+        recorder.await();
+
+        assertTrue(downloader.isReady());
+        assertArrayEquals(apk, Files.readAllBytes(recorder.ready.toPath()));
+        assertTrue(recorder.states.contains(UpdateDownloader.STATE_VERIFYING));
+        assertEquals(UpdateDownloader.STATE_READY, recorder.last());
+        assertTrue(recorder.events.size() <= 104);
+        assertTrue(downloader.getStateJson().contains("\"progress\":100"));
+    }
+
+    @Test
+    public void resumesInterruptedDownloadWithRange() throws Exception {
+        truncateNext.set(150_000);
+        Recorder first = new Recorder();
+        new UpdateDownloader(dir, null, first).start(url("/app.apk"), "", sha256(apk));
+        first.await();
+        assertEquals(UpdateDownloader.STATE_FAILED, first.last());
+        assertEquals(150_000, new File(dir, UpdateDownloader.APK_NAME + ".part").length());
+
+        Recorder second = new Recorder();
+        UpdateDownloader downloader = new UpdateDownloader(dir, null, second);
+        downloader.start(url("/app.apk"), "", sha256(apk));
+        second.await();
+
+        assertEquals(UpdateDownloader.STATE_READY, second.last());
+        assertEquals("bytes=150000- \"v2\"", ranges.get(1));
+        assertArrayEquals(apk, Files.readAllBytes(downloader.apkFile().toPath()));
+        assertFalse(new File(dir, UpdateDownloader.APK_NAME + ".part").exists());
+    }
+
+    @Test
+    public void rejectsChecksumMismatch() throws Exception {
+        Recorder recorder = new Recorder();
+        UpdateDownloader downloader = new UpdateDownloader(dir, null, recorder);
+        downloader.start(url("/app.apk"), "", sha256(new byte[] {1, 2, 3}));
+        recorder.await();
+
+        assertEquals(UpdateDownloader.STATE_FAILED, recorder.last());
+        assertNull(recorder.ready);
+        assertTrue(downloader.getStateJson().contains("Checksum mismatch"));
+        assertFalse(downloader.apkFile().exists());
+        assertFalse(new File(dir, UpdateDownloader.APK_NAME + ".part").exists());
+    }
+
+    @Test
+    public void appliesDeltaPatchAndFallsBackWhenItIsMissing() throws Exception {
+        byte[] installed = apk.clone();
+        installed[1000] ^= 1;
+        installed[300_000] ^= 1;
+        File base = new File(dir, "installed.apk");
+        Files.write(base.toPath(), installed);
+        patch = ApkPatcherTest.patch(installed, apk);
+
+        Recorder delta = new Recorder();
+        UpdateDownloader downloader = new UpdateDownloader(new File(dir, "delta"), base, delta);
+        downloader.start(url("/app.apk"), url("/app.patch"), sha256(apk));
+        delta.await();
+        assertEquals(UpdateDownloader.STATE_READY, delta.last());
+        assertTrue(ranges.isEmpty());
+        assertTrue(downloader.getStateJson().contains("\"delta\":true"));
+        assertArrayEquals(apk, Files.readAllBytes(delta.ready.toPath()));
+
+        patch = null;
+        Recorder fallback = new Recorder();
+        downloader = new UpdateDownloader(new File(dir, "fallback"), base, fallback);
+        downloader.start(url("/app.apk"), url("/app.patch"), sha256(apk));
+        fallback.await();
+        assertEquals(UpdateDownloader.STATE_READY, fallback.last());
+        assertEquals(List.of("full"), ranges);
+        assertTrue(downloader.getStateJson().contains("\"delta\":false"));
+        assertArrayEquals(apk, Files.readAllBytes(fallback.ready.toPath()));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static String sha256(byte[] bytes) {
+        return ApkPatcher.hex(ApkPatcher.newDigest().digest(bytes));
+    }
+
+    private static class Recorder implements UpdateDownloader.Listener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<String> states = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile File ready;
+
+        @Override
+        public void onStateChanged(String stateJson) {
+            events.add(stateJson);
+            String state = stateJson.substring(10, stateJson.indexOf('"', 10));
+            states.add(state);
+            if (state.equals(UpdateDownloader.STATE_FAILED)) done.countDown();
+        }
+
+        @Override
+        public void onReady(File apk) {
+            ready = apk;
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+
+        String last() {
+            return states.get(states.size() - 1);
+        }
+    }
+}
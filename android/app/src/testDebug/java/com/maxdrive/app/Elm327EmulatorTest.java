@@ -0,0 +1,125 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Elm327EmulatorTest {
+
+    private static final class Run {
+        final AtomicLong samples = new AtomicLong();
+        final AtomicLong invalid = new AtomicLong();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Elm327Engine engine;
+        double samplesPerSecond;
+    }
+
+    private static Run drive(Elm327Emulator emulator, long durationMs) throws Exception {
+        Run run = new Run();
+        run.engine = new Elm327Engine(emulator.input, emulator.output, (pid, value, t) -> {
+            run.samples.incrementAndGet();
+            if (Double.isNaN(value) || value < -40 || value > 16384) run.invalid.incrementAndGet();
+        });
+        run.engine.initialize();
+        Thread thread = new Thread(() -> {
+            try {
+                run.engine.run();
+            } catch (Throwable e) {
+                run.failure.set(e);
+            }
+        });
+        thread.start();
+        Thread.sleep(durationMs);
+        run.samplesPerSecond = run.engine.samplesPerSecond();
+        run.engine.stop();
+        thread.join(2000);
+        emulator.close();
+        return run;
+    }
+
+    @Test
+    public void answersAtCommandsWithPrompt() throws Exception {
+        Elm327Emulator emulator = new Elm327Emulator();
+        Elm327Engine engine = new Elm327Engine(emulator.input, emulator.output, (pid, value, t) -> {});
+        assertTrue(engine.command("ATZ", 1000).contains("ELM327"));
+        assertTrue(engine.command("ATE0", 1000).contains("OK"));
+        assertEquals("?\r\r", engine.command("XYZ", 1000));
+    }
+
+    @Test
+    public void decodesMultiFrameResponses() throws Exception {
+        Elm327Emulator emulator = new Elm327Emulator();
+        ObdParser parser = new ObdParser((pid, value, t) -> {});
+        Elm327Engine engine = new Elm327Engine(emulator.input, emulator.output, (pid, value, t) -> {});
+        engine.command("ATE0", 1000);
+        String response = engine.command("010D0C04052F0F", 1000);
+        assertTrue(response.contains("0: "));
+        byte[] data = (response + ">").getBytes("US-ASCII");
+        parser.feed(data, 0, data.length, 0);
+        assertEquals(6, parser.samples);
+        assertEquals(emulator.valueAt(ObdParser.PID_FUEL_LEVEL, 0), parser.fuelLevel, 0.5);
+        assertEquals(25, parser.intakeTemp, 0.0);
+    }
+
+    @Test
+    public void labelsEachEcuWithItsCanHeader() throws Exception {
+        Elm327Emulator emulator = new Elm327Emulator(0, 0, 0, 3, true, 1);
+        Elm327Engine engine = new Elm327Engine(emulator.input, emulator.output, (pid, value, t) -> {});
+        engine.command("ATE0", 1000);
+        engine.command("ATS0", 1000);
+        engine.command("ATH1", 1000);
+        String response = engine.command("010D", 1000);
+        assertTrue(response, response.contains("7E8410D"));
+        assertTrue(response, response.contains("7E9410D"));
+        assertTrue(response, response.contains("7EA410D"));
+    }
+
+    @Test
+    public void detectsMultiPidSupport() throws Exception {
+        Run multi = drive(new Elm327Emulator(), 100);
+        assertTrue(multi.engine.isMultiPid());
+        Run single = drive(new Elm327Emulator(0, 0, 0, 1, false, 1), 100);
+        assertFalse(single.engine.isMultiPid());
+        assertNull(single.failure.get());
+        assertTrue(single.samples.get() > 0);
+    }
+
+    @Test
+    public void maximumPidRate() throws Exception {
+        Run run = drive(new Elm327Emulator(), 1000);
+        assertNull(run.failure.get());
+        assertEquals(0, run.invalid.get());
+        assertTrue(run.samples.get() > 1000);
+        System.out.printf("Elm327Engine (loopback): %.0f samples/sec, %d requests%n", run.samplesPerSecond, run.engine.requestCount());
+    }
+
+    @Test
+    public void staysStableUnderLatencyNoiseAndMultipleEcus() throws Exception {
+        Elm327Emulator emulator = new Elm327Emulator(15, 25, 0.05, 3, true, 42);
+        Run run = drive(emulator, 2000);
+        if (run.failure.get() != null) throw new AssertionError(run.failure.get());
+        assertEquals(0, run.invalid.get());
+        assertTrue(run.engine.isMultiPid());
+        assertTrue(run.samples.get() > 100);
+        assertTrue(emulator.pidRequestCount() > 20);
+        System.out.printf("Elm327Engine (15ms+25ms jitter, 5%% noise, 3 ECUs): %.0f samples/sec, %d requests%n",
+                run.samplesPerSecond, run.engine.requestCount());
+    }
+
+    @Test
+    public void stallsWhenAdapterIsClosed() throws Exception {
+        Elm327Emulator emulator = new Elm327Emulator();
+        Elm327Engine engine = new Elm327Engine(emulator.input, emulator.output, (pid, value, t) -> {});
+        engine.initialize();
+        emulator.close();
+        try {
+            engine.run();
+            fail("expected IOException");
+        } catch (IOException expected) {
+        }
+    }
+}
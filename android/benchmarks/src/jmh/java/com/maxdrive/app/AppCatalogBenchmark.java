@@ -0,0 +1,57 @@
+package com.maxdrive.app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AppCatalogBenchmark {
+
+    private static final long BASE_VERSION = 1_700_000_000_000L;
+
+    @Param({"40", "150"})
+    public int apps;
+
+    private final List<CatalogEntry> entries = new ArrayList<>();
+    private long version;
+
+    @Setup
+    public void setUp() {
+        entries.clear();
+        version = BASE_VERSION;
+        for (int i = 0; i < apps; i++) {
+            String packageName = "com.example.app" + i;
+            String iconKey = packageName + "@" + (100 + i) + "@" + (BASE_VERSION - i);
+            String icon = "/_maxdrive/icon/" + packageName + "?v=" + iconKey.substring(packageName.length() + 1);
+            boolean removed = i % 25 == 24;
+            entries.add(new CatalogEntry(packageName, "Example App " + i, i % 5 == 0 ? "System" : "App",
+                    removed ? null : iconKey, removed ? null : icon, ++version, removed));
+        }
+    }
+
+    @Benchmark
+    public String fullCatalog() {
+        return CatalogEntry.appsJson(entries);
+    }
+
+    @Benchmark
+    public String fullDelta() {
+        return CatalogEntry.deltaJson(entries, 0, BASE_VERSION, version);
+    }
+
+    @Benchmark
+    public String incrementalDelta() {
+        return CatalogEntry.deltaJson(entries, version - 3, BASE_VERSION, version);
+    }
+}
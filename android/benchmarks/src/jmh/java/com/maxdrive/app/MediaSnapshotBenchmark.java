@@ -0,0 +1,41 @@
+package com.maxdrive.app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MediaSnapshotBenchmark {
+
+    private final MediaSnapshot playing = new MediaSnapshot(
+            "Midnight City", "M83", "Hurry Up, We're Dreaming", null,
+            243_000, 61_250, 1_700_000_000_000L, MediaSnapshot.STATE_PLAYING, 1.0f, "com.spotify.music",
+            "/_maxdrive/art/5f1c2a9e3b7d4c60?v=5f1c2a9e3b7d4c60");
+
+    private final MediaSnapshot minimal = new MediaSnapshot(
+            "Radio 1", null, null, null, 0, -1, 0, MediaSnapshot.STATE_UNKNOWN, 0, "com.android.radio", null);
+
+    @Benchmark
+    public String playingSnapshotToJson() {
+        return playing.toJson();
+    }
+
+    @Benchmark
+    public String minimalSnapshotToJson() {
+        return minimal.toJson();
+    }
+
+    @Benchmark
+    public String buildAndSerialize() {
+        return new MediaSnapshot(
+                MediaSnapshot.text("Midnight City", null), MediaSnapshot.text(null, "M83"), "Hurry Up, We're Dreaming", null,
+                243_000, 61_250, 1_700_000_000_000L, MediaSnapshot.STATE_PLAYING, 1.0f, "com.spotify.music", null).toJson();
+    }
+}
@@ -0,0 +1,71 @@
+package com.maxdrive.app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ObdFramingBenchmark {
+
+    private final byte[] singleFrame = "410D3C\r\r>".getBytes(StandardCharsets.US_ASCII);
+    private final byte[] spacedFrame = "41 0C 1A F8 \r\r>".getBytes(StandardCharsets.US_ASCII);
+    private final byte[] multiFrame = "00A\r0:410D3C0C1AF8\r1:11807B\r\r>".getBytes(StandardCharsets.US_ASCII);
+
+    private ObdParser parser;
+    private ObdParser framingParser;
+    private Runnable pendingFlush;
+    private final StringBuilder sample = new StringBuilder();
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        parser = new ObdParser((pid, value, timestampMs) -> blackhole.consume(value));
+        ObdFrameBatcher batcher = new ObdFrameBatcher(flush -> pendingFlush = flush, (framesJson, onDelivered) -> {
+            blackhole.consume(framesJson);
+            onDelivered.run();
+            return true;
+        });
+        framingParser = new ObdParser(batcher::offer);
+    }
+
+    @Benchmark
+    public void parseSingleFrame() {
+        parser.feed(singleFrame, 0, singleFrame.length, 1_700_000_000_000L);
+    }
+
+    @Benchmark
+    public void parseSpacedFrame() {
+        parser.feed(spacedFrame, 0, spacedFrame.length, 1_700_000_000_000L);
+    }
+
+    @Benchmark
+    public void parseMultiFrame() {
+        parser.feed(multiFrame, 0, multiFrame.length, 1_700_000_000_000L);
+    }
+
+    @Benchmark
+    public void parseAndFrameForBridge() {
+        framingParser.feed(multiFrame, 0, multiFrame.length, 1_700_000_000_000L);
+        Runnable flush = pendingFlush;
+        pendingFlush = null;
+        if (flush != null) flush.run();
+    }
+
+    @Benchmark
+    public StringBuilder appendSample() {
+        sample.setLength(0);
+        ObdFrameBatcher.appendSample(sample, "rpm", 1726.25, 1_700_000_000_000L);
+        return sample;
+    }
+}
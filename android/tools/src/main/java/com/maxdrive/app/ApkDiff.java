@@ -0,0 +1,275 @@
+package com.maxdrive.app;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+class ApkDiff {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: ApkDiff <old.apk> <new.apk> <out.patch>");
+            System.exit(2);
+        }
+        byte[] oldBytes = readFile(new File(args[0]));
+        byte[] newBytes = readFile(new File(args[1]));
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[2]))) {
+            diff(oldBytes, newBytes, out);
+        }
+        System.out.println(args[2] + ": " + new File(args[2]).length() + " bytes for " + newBytes.length + " byte APK");
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        byte[] bytes = new byte[(int) file.length()];
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            in.readFully(bytes);
+        }
+        return bytes;
+    }
+
+    static void diff(byte[] old, byte[] neu, OutputStream patch) throws IOException {
+        patch.write(ApkPatcher.MAGIC);
+        ApkPatcher.writeOffset(patch, neu.length);
+        patch.write(ApkPatcher.newDigest().digest(old));
+        patch.write(ApkPatcher.newDigest().digest(neu));
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        DeflaterOutputStream body = new DeflaterOutputStream(patch, deflater, 64 * 1024);
+        int[] index = suffixArray(old);
+        int oldSize = old.length;
+        int newSize = neu.length;
+        int scan = 0;
+        int length = 0;
+        int lastScan = 0;
+        int lastPos = 0;
+        int lastOffset = 0;
+        int[] pos = new int[1];
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+
+        while (scan < newSize) {
+            int oldScore = 0;
+            int scsc = scan += length;
+            for (; scan < newSize; scan++) {
+                length = search(index, old, neu, scan, 0, oldSize, pos);
+                for (; scsc < scan + length; scsc++) {
+                    if (scsc + lastOffset < oldSize && old[scsc + lastOffset] == neu[scsc]) oldScore++;
+                }
+                if ((length == oldScore && length != 0) || length > oldScore + 8) break;
+                if (scan + lastOffset < oldSize && old[scan + lastOffset] == neu[scan]) oldScore--;
+            }
+            if (length == oldScore && scan != newSize) continue;
+
+            int s = 0;
+            int bestForward = 0;
+            int forward = 0;
+            for (int i = 0; lastScan + i < scan && lastPos + i < oldSize; ) {
+                if (old[lastPos + i] == neu[lastScan + i]) s++;
+                i++;
+                if (s * 2 - i > bestForward * 2 - forward) {
+                    bestForward = s;
+                    forward = i;
+                }
+            }
+
+            int backward = 0;
+            if (scan < newSize) {
+                s = 0;
+                int bestBackward = 0;
+                for (int i = 1; scan >= lastScan + i && pos[0] >= i; i++) {
+                    if (old[pos[0] - i] == neu[scan - i]) s++;
+                    if (s * 2 - i > bestBackward * 2 - backward) {
+                        bestBackward = s;
+                        backward = i;
+                    }
+                }
+            }
+
+            if (lastScan + forward > scan - backward) {
+                int overlap = (lastScan + forward) - (scan - backward);
+                s = 0;
+                int bestSplit = 0;
+                int split = 0;
+                for (int i = 0; i < overlap; i++) {
+                    if (neu[lastScan + forward - overlap + i] == old[lastPos + forward - overlap + i]) s++;
+                    if (neu[scan - backward + i] == old[pos[0] - backward + i]) s--;
+                    if (s > bestSplit) {
+                        bestSplit = s;
+                        split = i + 1;
+                    }
+                }
+                forward += split - overlap;
+                backward -= split;
+            }
+
+            int extra = (scan - backward) - (lastScan + forward);
+            ApkPatcher.writeOffset(body, forward);
+            ApkPatcher.writeOffset(body, extra);
+            ApkPatcher.writeOffset(body, (pos[0] - backward) - (lastPos + forward));
+            block.reset();
+            for (int i = 0; i < forward; i++) block.write(neu[lastScan + i] - old[lastPos + i]);
+            block.writeTo(body);
+            body.write(neu, lastScan + forward, extra);
+
+            lastScan = scan - backward;
+            lastPos = pos[0] - backward;
+            lastOffset = pos[0] - scan;
+        }
+        body.finish();
+        deflater.end();
+        patch.flush();
+    }
+
+    private static int search(int[] index, byte[] old, byte[] neu, int newStart, int start, int end, int[] pos) {
+        while (end - start >= 2) {
+            int mid = start + (end - start) / 2;
+            if (compare(old, index[mid], neu, newStart) < 0) {
+                start = mid;
+            } else {
+                end = mid;
+            }
+        }
+        int x = matchLength(old, index[start], neu, newStart);
+        int y = matchLength(old, index[end], neu, newStart);
+        if (x > y) {
+            pos[0] = index[start];
+            return x;
+        }
+        pos[0] = index[end];
+        return y;
+    }
+
+    private static int matchLength(byte[] old, int oldStart, byte[] neu, int newStart) {
+        int i = 0;
+        while (oldStart + i < old.length && newStart + i < neu.length && old[oldStart + i] == neu[newStart + i]) i++;
+        return i;
+    }
+
+    private static int compare(byte[] old, int oldStart, byte[] neu, int newStart) {
+        int n = Math.min(old.length - oldStart, neu.length - newStart);
+        for (int i = 0; i < n; i++) {
+            int a = old[oldStart + i] & 0xff;
+            int b = neu[newStart + i] & 0xff;
+            if (a != b) return a - b;
+        }
+        return 0;
+    }
+
+    // Larsson-Sadakane qsufsort, as used by bsdiff; index has old.length + 1 entries.
+    static int[] suffixArray(byte[] old) {
+        int size = old.length;
+        int[] index = new int[size + 1];
+        int[] rank = new int[size + 1];
+        int[] buckets = new int[256];
+        for (byte b : old) buckets[b & 0xff]++;
+        for (int i = 1; i < 256; i++) buckets[i] += buckets[i - 1];
+        for (int i = 255; i > 0; i--) buckets[i] = buckets[i - 1];
+        buckets[0] = 0;
+        for (int i = 0; i < size; i++) index[++buckets[old[i] & 0xff]] = i;
+        index[0] = size;
+        for (int i = 0; i < size; i++) rank[i] = buckets[old[i] & 0xff];
+        rank[size] = 0;
+        for (int i = 1; i < 256; i++) {
+            if (buckets[i] == buckets[i - 1] + 1) index[buckets[i]] = -1;
+        }
+        index[0] = -1;
+
+        for (int h = 1; index[0] != -(size + 1); h += h) {
+            int length = 0;
+            int i = 0;
+            while (i < size + 1) {
+                if (index[i] < 0) {
+                    length -= index[i];
+                    i -= index[i];
+                } else {
+                    if (length != 0) index[i - length] = -length;
+                    length = rank[index[i]] + 1 - i;
+                    split(index, rank, i, length, h);
+                    i += length;
+                    length = 0;
+                }
+            }
+            if (length != 0) index[i - length] = -length;
+        }
+        for (int i = 0; i < size + 1; i++) index[rank[i]] = i;
+        return index;
+    }
+
+    private static void split(int[] index, int[] rank, int start, int length, int h) {
+        while (true) {
+            if (length < 16) {
+                for (int k = start, j; k < start + length; k += j) {
+                    j = 1;
+                    int x = rank[index[k] + h];
+                    for (int i = 1; k + i < start + length; i++) {
+                        int v = rank[index[k + i] + h];
+                        if (v < x) {
+                            x = v;
+                            j = 0;
+                        }
+                        if (v == x) {
+                            swap(index, k + j, k + i);
+                            j++;
+                        }
+                    }
+                    for (int i = 0; i < j; i++) rank[index[k + i]] = k + j - 1;
+                    if (j == 1) index[k] = -1;
+                }
+                return;
+            }
+
+            int x = rank[index[start + length / 2] + h];
+            int lower = 0;
+            int equal = 0;
+            for (int i = start; i < start + length; i++) {
+                int v = rank[index[i] + h];
+                if (v < x) lower++;
+                if (v == x) equal++;
+            }
+            int jj = start + lower;
+            int kk = jj + equal;
+            int i = start;
+            int j = 0;
+            int k = 0;
+            while (i < jj) {
+                int v = rank[index[i] + h];
+                if (v < x) {
+                    i++;
+                } else if (v == x) {
+                    swap(index, i, jj + j);
+                    j++;
+                } else {
+                    swap(index, i, kk + k);
+                    k++;
+                }
+            }
+            while (jj + j < kk) {
+                if (rank[index[jj + j] + h] == x) {
+                    j++;
+                } else {
+                    swap(index, jj + j, kk + k);
+                    k++;
+                }
+            }
+
+            if (jj > start) split(index, rank, start, jj - start, h);
+            for (i = 0; i < kk - jj; i++) rank[index[jj + i]] = kk - 1;
+            if (jj == kk - 1) index[jj] = -1;
+            if (start + length <= kk) return;
+            length = start + length - kk;
+            start = kk;
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+}
@@ -0,0 +1,485 @@
+package com.maxdrive.app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+// Build-time conversion of a textured 3MF mesh into quantized, directly uploadable LOD buffers.
+// Each lodN.bin is "MXM1", vertex/index counts, float32 position and uv ranges, a flags word,
+// then uint16 normalized positions (xyz, padded to 4 bytes), uint16 normalized uvs and uint16/uint32 indices.
+class ModelCompiler {
+    static final byte[] MAGIC = {'M', 'X', 'M', '1'};
+    static final int HEADER_SIZE = 56;
+    static final int FLAG_INDEX_32 = 1;
+    // Car3D fits the model's longest side to this many scene units.
+    static final float TARGET_SIZE = 3.0f;
+    private static final Pattern MODEL_REL = Pattern.compile("Target=\"/?([^\"]+)\"[^>]*Type=\"[^\"]*/3dmodel\"");
+
+    static final class Mesh {
+        final float[] positions;
+        final float[] uvs;
+        final int[] indices;
+
+        Mesh(float[] positions, float[] uvs, int[] indices) {
+            this.positions = positions;
+            this.uvs = uvs;
+            this.indices = indices;
+        }
+
+        int vertexCount() {
+            return positions.length / 3;
+        }
+
+        int triangleCount() {
+            return indices.length / 3;
+        }
+    }
+
+    static final class Model {
+        Mesh mesh;
+        String texturePath;
+        String textureType;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: ModelCompiler <model.3mf> <outDir> [cellsPerAxis...]");
+            System.exit(2);
+        }
+        int[] cells = new int[args.length - 2];
+        for (int i = 2; i < args.length; i++) cells[i - 2] = Integer.parseInt(args[i]);
+        compile(new File(args[0]), new File(args[1]), cells.length > 0 ? cells : new int[] {64, 28});
+    }
+
+    static void compile(File source, File outDir, int[] lodCells) throws IOException {
+        outDir.mkdirs();
+        MessageDigest version = ApkPatcher.newDigest();
+        StringBuilder lods = new StringBuilder();
+        String textureJson = "null";
+        try (ZipFile zip = new ZipFile(source)) {
+            Model model = read(zip);
+            Mesh base = model.mesh;
+            for (int level = 0; level <= lodCells.length; level++) {
+                Mesh mesh = level == 0 ? base : simplify(base, lodCells[level - 1]);
+                byte[] bytes = encode(mesh, base);
+                version.update(bytes);
+                write(new File(outDir, "lod" + level + ".bin"), bytes);
+                if (level > 0) lods.append(',');
+                lods.append("{\"id\":\"lod").append(level).append("\",\"vertices\":").append(mesh.vertexCount())
+                        .append(",\"triangles\":").append(mesh.triangleCount()).append(",\"bytes\":").append(bytes.length).append('}');
+                System.out.println("lod" + level + ": " + mesh.triangleCount() + " triangles, " + bytes.length + " bytes");
+            }
+            if (model.texturePath != null) {
+                byte[] texture = readEntry(zip, model.texturePath);
+                version.update(texture);
+                write(new File(outDir, "texture.bin"), texture);
+                textureJson = "{\"id\":\"texture\",\"type\":\"" + model.textureType + "\",\"bytes\":" + texture.length + "}";
+            }
+        }
+        String manifest = "{\"format\":\"MXM1\",\"version\":\"" + ApkPatcher.hex(version.digest()).substring(0, 16)
+                + "\",\"lods\":[" + lods + "],\"texture\":" + textureJson + "}";
+        write(new File(outDir, "manifest.json"), manifest.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Model read(ZipFile zip) throws IOException {
+        String rels = new String(readEntry(zip, "_rels/.rels"), StandardCharsets.UTF_8);
+        Matcher rel = MODEL_REL.matcher(rels);
+        String modelPath = rel.find() ? rel.group(1) : "3D/3dmodel.model";
+        try (InputStream in = zip.getInputStream(entry(zip, modelPath))) {
+            return parse(in);
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed 3MF model " + modelPath, e);
+        }
+    }
+
+    // Reads the subset of 3MF the car uses: mesh objects placed by build items, textured through a single texture2dgroup.
+    static Model parse(InputStream in) throws XMLStreamException, IOException {
+        XMLStreamReader xml = XMLInputFactory.newFactory().createXMLStreamReader(in);
+        Map<String, String[]> textures = new HashMap<>();
+        Map<String, String> groupTexture = new HashMap<>();
+        Map<String, List<float[]>> groupUvs = new LinkedHashMap<>();
+        Map<String, float[]> objectVertices = new HashMap<>();
+        Map<String, int[]> objectTriangles = new HashMap<>();
+        List<String[]> items = new ArrayList<>();
+
+        String objectId = null;
+        String groupId = null;
+        String objectPid = null;
+        String objectPindex = null;
+        FloatList vertices = null;
+        IntList triangles = null;
+        while (xml.hasNext()) {
+            if (xml.next() != XMLStreamConstants.START_ELEMENT) {
+                if (xml.getEventType() == XMLStreamConstants.END_ELEMENT && xml.getLocalName().equals("object") && objectId != null) {
+                    if (vertices != null) {
+                        objectVertices.put(objectId, vertices.toArray());
+                        objectTriangles.put(objectId, triangles.toArray());
+                    }
+                    objectId = null;
+                    vertices = null;
+                    triangles = null;
+                }
+                continue;
+            }
+            switch (xml.getLocalName()) {
+                case "texture2d":
+                    textures.put(attr(xml, "id"), new String[] {attr(xml, "path"), attr(xml, "contenttype")});
+                    break;
+                case "texture2dgroup":
+                    groupId = attr(xml, "id");
+                    groupTexture.put(groupId, attr(xml, "texid"));
+                    groupUvs.put(groupId, new ArrayList<>());
+                    break;
+                case "tex2coord":
+                    groupUvs.get(groupId).add(new float[] {number(xml, "u"), number(xml, "v")});
+                    break;
+                case "object":
+                    objectId = attr(xml, "id");
+                    objectPid = attr(xml, "pid");
+                    objectPindex = attr(xml, "pindex");
+                    break;
+                case "components":
+                    throw new IOException("3MF components are not supported; flatten the model before exporting");
+                case "vertices":
+                    vertices = new FloatList();
+                    triangles = new IntList();
+                    break;
+                case "vertex":
+                    vertices.add(number(xml, "x"));
+                    vertices.add(number(xml, "y"));
+                    vertices.add(number(xml, "z"));
+                    break;
+                case "triangle": {
+                    String pid = attr(xml, "pid") != null ? attr(xml, "pid") : objectPid;
+                    List<float[]> uvs = pid != null ? groupUvs.get(pid) : null;
+                    if (uvs == null) throw new IOException("Object " + objectId + " has untextured triangles");
+                    triangles.add(groupIndex(pid, groupUvs.keySet()));
+                    String p1 = attr(xml, "p1") != null ? attr(xml, "p1") : objectPindex;
+                    String p2 = attr(xml, "p2") != null ? attr(xml, "p2") : p1;
+                    String p3 = attr(xml, "p3") != null ? attr(xml, "p3") : p1;
+                    if (p1 == null) throw new IOException("Object " + objectId + " has triangles without texture coordinates");
+                    triangles.add((int) number(xml, "v1"));
+                    triangles.add(Integer.parseInt(p1));
+                    triangles.add((int) number(xml, "v2"));
+                    triangles.add(Integer.parseInt(p2));
+                    triangles.add((int) number(xml, "v3"));
+                    triangles.add(Integer.parseInt(p3));
+                    break;
+                }
+                case "item":
+                    items.add(new String[] {attr(xml, "objectid"), attr(xml, "transform")});
+                    break;
+                default:
+                    break;
+            }
+        }
+        xml.close();
+
+        Set<String> usedTextures = new HashSet<>(groupTexture.values());
+        if (usedTextures.size() > 1) throw new IOException("Only a single texture is supported, found " + usedTextures.size());
+        List<String> groups = new ArrayList<>(groupUvs.keySet());
+
+        FloatList positions = new FloatList();
+        FloatList uvs = new FloatList();
+        IntList indices = new IntList();
+        for (String[] item : items) {
+            float[] source = objectVertices.get(item[0]);
+            int[] tris = objectTriangles.get(item[0]);
+            if (source == null) continue;
+            float[] transform = parseTransform(item[1]);
+            Map<Long, Integer> corners = new HashMap<>();
+            for (int t = 0; t < tris.length; t += 7) {
+                List<float[]> groupCoords = groupUvs.get(groups.get(tris[t]));
+                for (int c = 0; c < 3; c++) {
+                    int v = tris[t + 1 + c * 2];
+                    int p = tris[t + 2 + c * 2];
+                    long key = ((long) tris[t] << 58) | ((long) v << 29) | p;
+                    Integer index = corners.get(key);
+                    if (index == null) {
+                        index = positions.size() / 3;
+                        corners.put(key, index);
+                        float x = source[v * 3];
+                        float y = source[v * 3 + 1];
+                        float z = source[v * 3 + 2];
+                        positions.add(transform[0] * x + transform[3] * y + transform[6] * z + transform[9]);
+                        positions.add(transform[1] * x + transform[4] * y + transform[7] * z + transform[10]);
+                        positions.add(transform[2] * x + transform[5] * y + transform[8] * z + transform[11]);
+                        float[] uv = groupCoords.get(p);
+                        uvs.add(uv[0]);
+                        uvs.add(uv[1]);
+                    }
+                    indices.add(index);
+                }
+            }
+        }
+        if (indices.size() == 0) throw new IOException("3MF model has no triangles");
+
+        Model model = new Model();
+        model.mesh = fit(new Mesh(positions.toArray(), uvs.toArray(), indices.toArray()));
+        if (!usedTextures.isEmpty()) {
+            String[] texture = textures.get(usedTextures.iterator().next());
+            if (texture == null || texture[0] == null) throw new IOException("Missing texture2d resource");
+            model.texturePath = texture[0].replaceFirst("^/", "");
+            model.textureType = texture[1] != null ? texture[1].replace("image/jpg", "image/jpeg") : "image/jpeg";
+        }
+        return model;
+    }
+
+    // Centers the mesh and fits its longest side to TARGET_SIZE, as Car3D did at runtime.
+    static Mesh fit(Mesh mesh) {
+        float[] min = new float[3];
+        float[] max = new float[3];
+        bounds(mesh.positions, min, max);
+        float longest = Math.max(max[0] - min[0], Math.max(max[1] - min[1], max[2] - min[2]));
+        float scale = longest > 0 ? TARGET_SIZE / longest : 1;
+        float[] positions = new float[mesh.positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            int axis = i % 3;
+            positions[i] = (mesh.positions[i] - (min[axis] + max[axis]) / 2) * scale;
+        }
+        return new Mesh(positions, mesh.uvs, mesh.indices);
+    }
+
+    // Vertex clustering: vertices sharing a grid cell and a coarse uv cell collapse to their average,
+    // which keeps texture seams intact; triangles that collapse or duplicate another are dropped.
+    static Mesh simplify(Mesh mesh, int cellsPerAxis) {
+        float[] min = new float[3];
+        float[] max = new float[3];
+        bounds(mesh.positions, min, max);
+        float cell = Math.max(max[0] - min[0], Math.max(max[1] - min[1], max[2] - min[2])) / cellsPerAxis;
+        if (cell <= 0) return mesh;
+        int uvCells = Math.max(4, cellsPerAxis / 2);
+
+        Map<Long, Integer> clusters = new HashMap<>();
+        int[] remap = new int[mesh.vertexCount()];
+        FloatList sums = new FloatList();
+        IntList counts = new IntList();
+        for (int v = 0; v < remap.length; v++) {
+            long cx = (long) ((mesh.positions[v * 3] - min[0]) / cell);
+            long cy = (long) ((mesh.positions[v * 3 + 1] - min[1]) / cell);
+            long cz = (long) ((mesh.positions[v * 3 + 2] - min[2]) / cell);
+            long cu = (long) Math.floor(mesh.uvs[v * 2] * uvCells) & 0x3ff;
+            long cv = (long) Math.floor(mesh.uvs[v * 2 + 1] * uvCells) & 0x3ff;
+            long key = cx | cy << 11 | cz << 22 | cu << 33 | cv << 43;
+            Integer cluster = clusters.get(key);
+            if (cluster == null) {
+                cluster = counts.size();
+                clusters.put(key, cluster);
+                counts.add(0);
+                for (int i = 0; i < 5; i++) sums.add(0);
+            }
+            remap[v] = cluster;
+            counts.set(cluster, counts.get(cluster) + 1);
+            for (int i = 0; i < 3; i++) sums.set(cluster * 5 + i, sums.get(cluster * 5 + i) + mesh.positions[v * 3 + i]);
+            for (int i = 0; i < 2; i++) sums.set(cluster * 5 + 3 + i, sums.get(cluster * 5 + 3 + i) + mesh.uvs[v * 2 + i]);
+        }
+
+        int[] compact = new int[counts.size()];
+        Arrays.fill(compact, -1);
+        FloatList positions = new FloatList();
+        FloatList uvs = new FloatList();
+        IntList indices = new IntList();
+        Set<Long> seen = new HashSet<>();
+        for (int t = 0; t < mesh.indices.length; t += 3) {
+            int a = remap[mesh.indices[t]];
+            int b = remap[mesh.indices[t + 1]];
+            int c = remap[mesh.indices[t + 2]];
+            if (a == b || b == c || a == c) continue;
+            int lo = Math.min(a, Math.min(b, c));
+            int hi = Math.max(a, Math.max(b, c));
+            if (!seen.add(((long) lo << 42) | ((long) (a + b + c - lo - hi) << 21) | hi)) continue;
+            for (int cluster : new int[] {a, b, c}) {
+                if (compact[cluster] < 0) {
+                    compact[cluster] = positions.size() / 3;
+                    float n = counts.get(cluster);
+                    for (int i = 0; i < 3; i++) positions.add(sums.get(cluster * 5 + i) / n);
+                    for (int i = 0; i < 2; i++) uvs.add(sums.get(cluster * 5 + 3 + i) / n);
+                }
+                indices.add(compact[cluster]);
+            }
+        }
+        return new Mesh(positions.toArray(), uvs.toArray(), indices.toArray());
+    }
+
+    // Uvs are quantized over the base mesh's range so every LOD can share one texture transform.
+    static byte[] encode(Mesh mesh, Mesh base) {
+        int vertexCount = mesh.vertexCount();
+        boolean wide = vertexCount > 0xffff;
+        int positionBytes = align4(vertexCount * 6);
+        int size = HEADER_SIZE + positionBytes + vertexCount * 4 + mesh.indices.length * (wide ? 4 : 2);
+        ByteBuffer out = ByteBuffer.allocate(align4(size)).order(ByteOrder.LITTLE_ENDIAN);
+
+        float[] min = new float[3];
+        float[] max = new float[3];
+        bounds(mesh.positions, min, max);
+        float[] uvMin = {Float.MAX_VALUE, Float.MAX_VALUE};
+        float[] uvMax = {-Float.MAX_VALUE, -Float.MAX_VALUE};
+        for (int i = 0; i < base.uvs.length; i++) {
+            uvMin[i % 2] = Math.min(uvMin[i % 2], base.uvs[i]);
+            uvMax[i % 2] = Math.max(uvMax[i % 2], base.uvs[i]);
+        }
+
+        out.put(MAGIC).putInt(vertexCount).putInt(mesh.indices.length);
+        for (int i = 0; i < 3; i++) out.putFloat(min[i]);
+        for (int i = 0; i < 3; i++) out.putFloat(max[i] - min[i]);
+        for (int i = 0; i < 2; i++) out.putFloat(uvMin[i]);
+        for (int i = 0; i < 2; i++) out.putFloat(uvMax[i] - uvMin[i]);
+        out.putInt(wide ? FLAG_INDEX_32 : 0);
+        for (int i = 0; i < mesh.positions.length; i++) {
+            out.putShort(quantize(mesh.positions[i], min[i % 3], max[i % 3] - min[i % 3]));
+        }
+        out.position(HEADER_SIZE + positionBytes);
+        for (int i = 0; i < mesh.uvs.length; i++) {
+            out.putShort(quantize(mesh.uvs[i], uvMin[i % 2], uvMax[i % 2] - uvMin[i % 2]));
+        }
+        for (int index : mesh.indices) {
+            if (wide) out.putInt(index); else out.putShort((short) index);
+        }
+        return out.array();
+    }
+
+    private static short quantize(float value, float min, float extent) {
+        return (short) (extent > 0 ? Math.max(0, Math.min(0xffff, Math.round((value - min) / extent * 0xffff))) : 0);
+    }
+
+    private static int align4(int n) {
+        return (n + 3) & ~3;
+    }
+
+    private static void bounds(float[] positions, float[] min, float[] max) {
+        for (int i = 0; i < 3; i++) {
+            min[i] = Float.MAX_VALUE;
+            max[i] = -Float.MAX_VALUE;
+        }
+        for (int i = 0; i < positions.length; i++) {
+            min[i % 3] = Math.min(min[i % 3], positions[i]);
+            max[i % 3] = Math.max(max[i % 3], positions[i]);
+        }
+    }
+
+    private static float[] parseTransform(String transform) throws IOException {
+        if (transform == null || transform.trim().isEmpty()) return new float[] {1, 0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0};
+        String[] parts = transform.trim().split("\\s+");
+        if (parts.length != 12) throw new IOException("Invalid build item transform: " + transform);
+        float[] values = new float[12];
+        for (int i = 0; i < 12; i++) values[i] = Float.parseFloat(parts[i]);
+        return values;
+    }
+
+    private static int groupIndex(String group, Set<String> groups) {
+        int i = 0;
+        for (String id : groups) {
+            if (id.equals(group)) return i;
+            i++;
+        }
+        return -1;
+    }
+
+    private static String attr(XMLStreamReader xml, String name) {
+        return xml.getAttributeValue(null, name);
+    }
+
+    private static float number(XMLStreamReader xml, String name) throws IOException {
+        String value = attr(xml, name);
+        if (value == null) throw new IOException("Missing " + name + " on <" + xml.getLocalName() + ">");
+        return Float.parseFloat(value);
+    }
+
+    private static ZipEntry entry(ZipFile zip, String path) throws IOException {
+        ZipEntry entry = zip.getEntry(path);
+        if (entry == null) throw new IOException("Missing " + path + " in " + zip.getName());
+        return entry;
+    }
+
+    private static byte[] readEntry(ZipFile zip, String path) throws IOException {
+        try (InputStream in = zip.getInputStream(entry(zip, path))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buffer)) != -1) out.write(buffer, 0, n);
+            return out.toByteArray();
+        }
+    }
+
+    private static void write(File file, byte[] bytes) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class FloatList {
+        private float[] values = new float[1024];
+        private int size = 0;
+
+        void add(float value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        float get(int i) {
+            return values[i];
+        }
+
+        void set(int i, float value) {
+            values[i] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        float[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[1024];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        void set(int i, int value) {
+            values[i] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
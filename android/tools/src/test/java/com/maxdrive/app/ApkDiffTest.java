@@ -0,0 +1,79 @@
+package com.maxdrive.app;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ApkDiffTest {
+
+    @Test
+    public void patchesOldApkIntoNewApk() throws IOException {
+        Random random = new Random(21);
+        byte[] oldApk = new byte[300_000];
+        random.nextBytes(oldApk);
+        ByteArrayOutputStream modified = new ByteArrayOutputStream();
+        modified.write(oldApk, 0, 100_000);
+        byte[] inserted = new byte[5_000];
+        random.nextBytes(inserted);
+        modified.write(inserted, 0, inserted.length);
+        modified.write(oldApk, 120_000, 150_000);
+        for (int i = 0; i < 2_000; i++) modified.write(oldApk[280_000 + i] + (i % 97 == 0 ? 1 : 0));
+        byte[] newApk = modified.toByteArray();
+
+        File dir = Files.createTempDirectory("apkpatch").toFile();
+        File oldFile = write(new File(dir, "old.apk"), oldApk);
+        File outFile = new File(dir, "new.apk");
+        byte[] patch = diff(oldApk, newApk);
+
+        assertTrue("patch is " + patch.length + " bytes", patch.length < newApk.length / 20);
+        String hash = ApkPatcher.apply(oldFile, new ByteArrayInputStream(patch), outFile);
+        assertArrayEquals(newApk, Files.readAllBytes(outFile.toPath()));
+        assertEquals(ApkPatcher.hex(ApkPatcher.newDigest().digest(newApk)), hash);
+        assertEquals(hash, ApkPatcher.sha256Hex(outFile));
+    }
+
+    @Test
+    public void handlesEmptyAndUnrelatedInputs() throws IOException {
+        File dir = Files.createTempDirectory("apkpatch").toFile();
+        byte[] unrelated = "a completely different payload".getBytes();
+        File empty = write(new File(dir, "empty.apk"), new byte[0]);
+        File outFile = new File(dir, "new.apk");
+        ApkPatcher.apply(empty, new ByteArrayInputStream(diff(new byte[0], unrelated)), outFile);
+        assertArrayEquals(unrelated, Files.readAllBytes(outFile.toPath()));
+
+        File base = write(new File(dir, "base.apk"), unrelated);
+        ApkPatcher.apply(base, new ByteArrayInputStream(diff(unrelated, new byte[0])), outFile);
+        assertEquals(0, outFile.length());
+    }
+
+    @Test
+    public void buildsSortedSuffixArray() {
+        byte[] data = "banana\u00ffbandana".getBytes(StandardCharsets.ISO_8859_1);
+        int[] index = ApkDiff.suffixArray(data);
+        assertEquals(data.length, index[0]);
+        for (int i = 2; i < index.length; i++) {
+            String previous = new String(data, index[i - 1], data.length - index[i - 1], StandardCharsets.ISO_8859_1);
+            String current = new String(data, index[i], data.length - index[i], StandardCharsets.ISO_8859_1);
+            assertTrue(previous + " < " + current, previous.compareTo(current) < 0);
+        }
+    }
+
+    private static byte[] diff(byte[] oldApk, byte[] newApk) throws IOException {
+        ByteArrayOutputStream patch = new ByteArrayOutputStream();
+        ApkDiff.diff(oldApk, newApk, patch);
+        return patch.toByteArray();
+    }
+
+    private static File write(File file, byte[] bytes) throws IOException {
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+}
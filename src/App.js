@@ -1,9 +1,10 @@
-import { useState } from 'react';
+import { useState, useEffect } from 'react';
 import HomeScreen from './screens/HomeScreen';
 import SettingsScreen from './screens/SettingsScreen';
 import AppAssignmentsScreen from './screens/AppAssignmentsScreen';
 import UpdateScreen from './screens/UpdateScreen';
 import UpdateActivity from './components/UpdateActivity';
+import androidBridge from './utils/androidBridge';
 import './App.css';
 
 function App() {
@@ -12,8 +13,17 @@ function App() {
   const [updateMinimized, setUpdateMinimized] = useState(false);
   const [updateProgress, setUpdateProgress] = useState({ progress: 0, status: 'preparing' });
 
-  const handleStartUpdate = (version, apkUrl) => {
-    setUpdateData({ version, apkUrl });
+  useEffect(() => {
+    androidBridge.markStartup('app-mounted');
+  }, []);
+
+  const handleStartUpdate = (update) => {
+    setUpdateData({
+      version: update.latest,
+      apkUrl: update.apkUrl,
+      patchUrl: update.patchUrl,
+      sha256: update.sha256
+    });
     setActiveScreen('update');
     setUpdateMinimized(false);
   };
@@ -59,6 +69,8 @@ function App() {
         <UpdateScreen
           version={updateData.version}
           apkUrl={updateData.apkUrl}
+          patchUrl={updateData.patchUrl}
+          sha256={updateData.sha256}
           onCancel={handleUpdateCancel}
           onComplete={handleUpdateComplete}
           onMinimize={handleMinimize}
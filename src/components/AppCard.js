@@ -6,13 +6,14 @@ const AppCard = ({ app, onClick, compact = false }) => {
     onClick(app);
   }, [app, onClick]);
 
-  const isBase64Icon = app?.icon && app.icon.startsWith('data:image');
+  const isImageIcon = app?.icon && (app.icon.startsWith('data:image') || app.icon.startsWith('/_maxdrive/'));
+  const iconSrcSet = isImageIcon && app.icon.startsWith('/_maxdrive/') ? `${app.icon} 1x, ${app.icon}&s=2 2x` : undefined;
   
   return (
     <div className={`app-card ${compact ? 'compact' : ''}`} onClick={handleClick} role="button" tabIndex={0}>
       <div className="app-card-icon-wrap">
-        {isBase64Icon ? (
-          <img src={app.icon} alt={app.name} className="app-card-icon-img" loading="lazy" />
+        {isImageIcon ? (
+          <img src={app.icon} srcSet={iconSrcSet} alt={app.name} className="app-card-icon-img" loading="lazy" />
         ) : (
           <div className="app-card-icon">{app.icon || '📱'}</div>
         )}
@@ -1,57 +1,27 @@
 import { useRef, useEffect, useState } from 'react';
 import { Canvas, useFrame, useThree } from '@react-three/fiber';
-import { ThreeMFLoader, OrbitControls } from 'three-stdlib';
+import { OrbitControls } from 'three-stdlib';
 import * as THREE from 'three';
+import { getLoadedCarModel, loadCarModel } from '../utils/carModel';
 
 function CarModel() {
   const groupRef =  useRef();
-  const [model, setModel] = useState(null);
-  const [loading, setLoading] = useState(true);
+  const [model, setModel] = useState(getLoadedCarModel);
+  const [loading, setLoading] = useState(() => !getLoadedCarModel());
 
   useEffect(() => {
-    setLoading(true);
-    const loader = new ThreeMFLoader();
-    
-    loader.load(
-      '/car-model.3mf',
-      (group) => {
-        const bbox = new THREE.Box3().setFromObject(group);
-        const size = new THREE.Vector3();
-        bbox.getSize(size);
-        const center = new THREE.Vector3();
-        bbox.getCenter(center);
-        group.position.sub(center);
-
-        const longest = Math.max(size.x, size.y, size.z) || 1;
-        const target = 3.0;
-        const s = target / longest;
-        group.scale.setScalar(s);
-
-        group.traverse((child) => {
-          if (child.isMesh && child.material) {
-            if (child.material.map) {
-              child.material.map.colorSpace = THREE.SRGBColorSpace;
-            }
-            if (child.material.emissiveMap) {
-              child.material.emissiveMap.colorSpace = THREE.SRGBColorSpace;
-            }
-            if ('envMapIntensity' in child.material) {
-              child.material.envMapIntensity = 0.6;
-            }
-            child.castShadow = true;
-            child.receiveShadow = true;
-            child.material.needsUpdate = true;
-          }
-        });
-        setModel(group);
+    if (model) return;
+    let mounted = true;
+    loadCarModel().then(
+      (loaded) => {
+        if (!mounted) return;
+        setModel(loaded);
         setLoading(false);
       },
-      undefined,
-      (error) => {
-        setLoading(false);
-      }
+      () => mounted && setLoading(false)
     );
-  }, []);
+    return () => { mounted = false; };
+  }, [model]);
 
   return (
     <group ref={groupRef}>
@@ -60,7 +30,7 @@ function CarModel() {
       <directionalLight position={[-5, 3, -5]} intensity={0.3} />
       <spotLight position={[0, 10, 0]} angle={0.5} penumbra={1} intensity={0.4} color="#B1121A" />
       
-      {model && <primitive object={model} />}
+      {model && <primitive object={model} dispose={null} />}
       {loading && (
         <mesh position={[0, 0, 0]}>
           <boxGeometry args={[1.5, 0.8, 3]} />
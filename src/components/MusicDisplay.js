@@ -1,10 +1,13 @@
 import React from 'react';
 import '../styles/MusicDisplay.css';
+import { mediaPosition } from '../utils/mediaConnector';
 
 function MusicDisplay({ currentMedia, carplayApp }) {
   const hasMedia = currentMedia && (currentMedia.title || currentMedia.artist);
   const title = hasMedia ? (currentMedia.title || 'Unknown Track') : 'CarPlay';
   const artist = hasMedia ? (currentMedia.artist || '') : '';
+  const duration = hasMedia && currentMedia.duration > 0 ? currentMedia.duration : 0;
+  const rate = hasMedia && currentMedia.speed > 0 ? currentMedia.speed : 1;
 
   const handleClick = () => {
     if (!hasMedia && carplayApp) {
@@ -14,9 +17,25 @@ function MusicDisplay({ currentMedia, carplayApp }) {
 
   return (
     <div className={`music-display ${!hasMedia ? 'clickable' : ''}`} onClick={handleClick}>
+      {hasMedia && currentMedia.artUrl && (
+        <img className="music-art" src={currentMedia.artUrl} alt="" decoding="async" draggable={false} />
+      )}
       <div className="music-info">
         <div className="music-title">{title}</div>
         {artist && <div className="music-artist">{artist}</div>}
+        {duration > 0 && (
+          <div className="music-progress">
+            <div
+              key={`${currentMedia.positionAt}-${currentMedia.position}-${currentMedia.isPlaying}`}
+              className="music-progress-fill"
+              style={{
+                animationDuration: `${duration / rate}ms`,
+                animationDelay: `${-mediaPosition(currentMedia) / rate}ms`,
+                animationPlayState: currentMedia.isPlaying ? 'running' : 'paused'
+              }}
+            />
+          </div>
+        )}
       </div>
     </div>
   );
@@ -1,7 +1,14 @@
 import React, { useEffect, useRef, useState } from 'react';
 import '../styles/SpeedDisplay.css';
 
-function SpeedDisplay({ gpsConnected, speed }) {
+const SOURCE_LABELS = {
+  fused: 'OBD + GPS',
+  obd: 'OBD',
+  gps: 'GPS',
+  inertial: 'Estimated'
+};
+
+function SpeedDisplay({ gpsConnected, source, speed }) {
   const speedThreshold = 120;
   const [displaySpeed, setDisplaySpeed] = useState(0);
   const [pulse, setPulse] = useState(false);
@@ -44,8 +51,10 @@ function SpeedDisplay({ gpsConnected, speed }) {
       
       <div className="speed-status">
         <div className="status-indicator">
-          <span className={`status-dot ${gpsConnected ? 'connected' : 'disconnected'}`}></span>
-          <span className="status-text">{gpsConnected ? 'GPS Connected' : 'GPS Disconnected'}</span>
+          <span className={`status-dot ${source || gpsConnected ? 'connected' : 'disconnected'}`}></span>
+          <span className="status-text">
+            {source ? SOURCE_LABELS[source] || 'Connected' : gpsConnected ? 'GPS Connected' : 'GPS Disconnected'}
+          </span>
         </div>
         {isDevMode && (
           <div className="dev-indicator">
@@ -8,6 +8,8 @@ function UpdateActivity({ version, progress, status, onExpand }) {
         return 'Preparing update...';
       case 'downloading':
         return `Downloading ${progress}%`;
+      case 'verifying':
+        return 'Verifying...';
       case 'installing':
         return 'Installing...';
       case 'completed':
@@ -22,6 +22,7 @@ function AppAssignmentsScreen({ onNavigate }) {
 
   useEffect(() => {
     loadApps();
+    return androidBridge.onCatalogChanged(loadApps);
   }, [loadApps]);
 
   const handleAssignmentChange = (button, appPackageName) => {
@@ -26,6 +26,7 @@ function AppsScreen({ onNavigate }) {
 
   useEffect(() => {
     loadApps();
+    return androidBridge.onCatalogChanged(loadApps);
   }, [loadApps]);
 
   const filteredApps = allApps;
@@ -4,24 +4,33 @@ import SpeedDisplay from '../components/SpeedDisplay';
 import MusicDisplay from '../components/MusicDisplay';
 import gpsConnector from '../utils/gpsConnector';
 import mediaConnector from '../utils/mediaConnector';
-import { checkForUpdate } from '../utils/updater';
+import { checkForUpdate, subscribeToUpdates } from '../utils/updater';
 import UpdateBanner from '../components/UpdateBanner';
 import AppsOverlay from '../components/AppsOverlay';
 import androidBridge from '../utils/androidBridge';
+import telemetry from '../utils/telemetry';
 import '../styles/HomeScreen.css';
 import { FaMapMarkedAlt, FaBroadcastTower, FaCar, FaThLarge } from 'react-icons/fa';
 
+const FUSED_SPEED_TIMEOUT_MS = 1000;
+const DEFAULT_ASSIGNMENTS = { navigation: null, radio: null, carplay: null };
+
+function loadAppAssignments() {
+  try {
+    return JSON.parse(localStorage.getItem('appAssignments')) || DEFAULT_ASSIGNMENTS;
+  } catch (err) {
+    return DEFAULT_ASSIGNMENTS;
+  }
+}
+
 function HomeScreen({ onNavigate, onStartUpdate }) {
   const [speed, setSpeed] = useState(0);
   const [gpsConnected, setGpsConnected] = useState(false);
+  const [speedSource, setSpeedSource] = useState(null);
   const [currentMedia, setCurrentMedia] = useState(null);
   const [updateInfo, setUpdateInfo] = useState(null);
   const [showAppsOverlay, setShowAppsOverlay] = useState(false);
-  const [appAssignments, setAppAssignments] = useState({
-    navigation: null,
-    radio: null,
-    carplay: null
-  });
+  const [appAssignments, setAppAssignments] = useState(loadAppAssignments);
 
   useEffect(() => {
     gpsConnector.connect();
@@ -35,19 +44,38 @@ function HomeScreen({ onNavigate, onStartUpdate }) {
       } catch (e) {}
     }
 
+    let fusedAt = 0;
+
     const handleGPSUpdate = (data) => {
-      setSpeed(data.speed);
+      if (Date.now() - fusedAt > FUSED_SPEED_TIMEOUT_MS) {
+        setSpeed(data.speed);
+        setSpeedSource(null);
+      }
       setGpsConnected(data.connected);
     };
 
+    const handleFusedSpeed = (data) => {
+      if (!data || data.source === 'none') {
+        fusedAt = 0;
+        setSpeedSource(null);
+        return;
+      }
+      fusedAt = Date.now();
+      setSpeed(Math.round(data.speed));
+      setSpeedSource(data.source);
+      androidBridge.markStartup('first-speed');
+    };
+
     const handleMediaUpdate = (media) => {
       setCurrentMedia(media);
     };
 
     gpsConnector.subscribe(handleGPSUpdate);
     mediaConnector.subscribe(handleMediaUpdate);
+    const unsubscribeSpeed = telemetry.subscribe('speed', handleFusedSpeed);
 
     return () => {
+      unsubscribeSpeed();
       gpsConnector.unsubscribe(handleGPSUpdate);
       mediaConnector.unsubscribe(handleMediaUpdate);
       gpsConnector.disconnect();
@@ -57,21 +85,15 @@ function HomeScreen({ onNavigate, onStartUpdate }) {
 
   useEffect(() => {
     let mounted = true;
-    (async () => {
-      const info = await checkForUpdate();
-      if (mounted && info && info.available) setUpdateInfo(info);
-    })();
-    return () => { mounted = false; };
-  }, []);
-
-  useEffect(() => {
-    const savedAssignments = localStorage.getItem('appAssignments');
-    if (savedAssignments) {
-      try {
-        setAppAssignments(JSON.parse(savedAssignments));
-      } catch (err) {
-      }
-    }
+    const applyUpdateInfo = (info) => {
+      if (mounted) setUpdateInfo(info && info.available ? info : null);
+    };
+    checkForUpdate().then(applyUpdateInfo);
+    const unsubscribe = subscribeToUpdates(applyUpdateInfo);
+    return () => {
+      mounted = false;
+      unsubscribe();
+    };
   }, []);
 
   useEffect(() => {
@@ -122,14 +144,14 @@ function HomeScreen({ onNavigate, onStartUpdate }) {
         </div>
 
         <div className="gauge-right">
-          <SpeedDisplay obdConnected={gpsConnected} speed={speed} />
+          <SpeedDisplay gpsConnected={gpsConnected} source={speedSource} speed={speed} />
         </div>
       </div>
 
       {updateInfo && updateInfo.available && (
         <UpdateBanner
           version={updateInfo.latest}
-          onUpdate={() => onStartUpdate(updateInfo.latest, updateInfo.apkUrl)}
+          onUpdate={() => onStartUpdate(updateInfo)}
         />
       )}
 
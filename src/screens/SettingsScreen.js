@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { checkForUpdate, performUpdate } from '../utils/updater';
+import { checkForUpdate, performUpdate, subscribeToUpdates } from '../utils/updater';
 import UpdateBanner from '../components/UpdateBanner';
 import '../styles/SettingsScreen.css';
 import obdConnector from '../utils/obdConnector';
@@ -16,17 +16,21 @@ function SettingsScreen({ onNavigate }) {
   const [updating, setUpdating] = useState(false);
   useEffect(() => {
     let mounted = true;
-    (async () => {
-      const info = await checkForUpdate();
-      if (mounted && info && info.available) setUpdateInfo(info);
-    })();
-    return () => { mounted = false; };
+    const applyUpdateInfo = (info) => {
+      if (mounted) setUpdateInfo(info && info.available ? info : null);
+    };
+    checkForUpdate().then(applyUpdateInfo);
+    const unsubscribe = subscribeToUpdates(applyUpdateInfo);
+    return () => {
+      mounted = false;
+      unsubscribe();
+    };
   }, []);
   const handleUpdate = async () => {
     if (!updateInfo?.apkUrl) return;
     setUpdating(true);
     try {
-      await performUpdate(updateInfo.apkUrl);
+      await performUpdate(updateInfo);
     } finally {
       setUpdating(false);
     }
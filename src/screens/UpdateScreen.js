@@ -1,28 +1,29 @@
 import React from 'react';
+import telemetry from '../utils/telemetry';
 import '../styles/UpdateScreen.css';
-function UpdateScreen({ version, apkUrl, onCancel, onComplete, onMinimize, onProgressUpdate }) {
+function UpdateScreen({ version, apkUrl, patchUrl, sha256, onCancel, onComplete, onMinimize, onProgressUpdate }) {
   const [status, setStatus] = React.useState('preparing');
   const [progress, setProgress] = React.useState(0);
   const [error, setError] = React.useState(null);
   const updateStarted = React.useRef(false);
+  const unsubscribeProgress = React.useRef(null);
   React.useEffect(() => {
     return () => {
-      if (window.onDownloadProgress) {
-        delete window.onDownloadProgress;
+      if (unsubscribeProgress.current) {
+        unsubscribeProgress.current();
+        unsubscribeProgress.current = null;
       }
     };
   }, []);
 
+  React.useEffect(() => {
+    if (onProgressUpdate) onProgressUpdate(progress, status);
+  }, [onProgressUpdate, progress, status]);
+
   React.useEffect(() => {
     if (updateStarted.current) return;
     updateStarted.current = true;
     
-    window.onDownloadProgress = (downloadProgress) => {
-      if (typeof downloadProgress === 'number') {
-        setProgress(Math.min(downloadProgress, 99));
-      }
-    };
-    
     const executeUpdate = async () => {
       try {
         if (!apkUrl) {
@@ -60,33 +61,29 @@ function UpdateScreen({ version, apkUrl, onCancel, onComplete, onMinimize, onPro
           setStatus('downloading');
           setProgress(0);
           
-          window.onDownloadProgress = (downloadProgress) => {
-            if (typeof downloadProgress === 'number') {
-              setProgress(Math.min(downloadProgress, 99));
-              if (downloadProgress >= 100) {
-                setProgress(100);
-                setStatus('installing');
-              }
+          if (unsubscribeProgress.current) unsubscribeProgress.current();
+          unsubscribeProgress.current = telemetry.subscribe('download', (download) => {
+            if (!download || typeof download !== 'object') return;
+            if (download.state === 'downloading') {
+              setProgress(Math.min(download.progress || 0, 99));
+            } else if (download.state === 'verifying') {
+              setProgress(99);
+              setStatus('verifying');
+            } else if (download.state === 'ready') {
+              setProgress(100);
+              setStatus('installing');
+            } else if (download.state === 'failed') {
+              setError(download.error || 'Failed to download the update. Please check your connection and try again.');
+              setStatus('error');
             }
-          };
+          });
           
-          const installSuccess = await window.Android?.downloadAndInstallApk?.(apkUrl);
-          if (!installSuccess) {
+          const started = window.Android?.downloadAndInstallUpdate
+            ? window.Android.downloadAndInstallUpdate(patchUrl || '', apkUrl, sha256 || '')
+            : await window.Android?.downloadAndInstallApk?.(apkUrl);
+          if (!started) {
             setError('Failed to download and install APK. Please check your connection and try again.');
             setStatus('error');
-            return;
-          }
-          
-          await new Promise(resolve => setTimeout(resolve, 2000));
-          setStatus('completed');
-          if (onComplete) {
-            setTimeout(() => {
-              if (typeof window.Android?.restartApp === 'function') {
-                window.Android.restartApp();
-              } else {
-                window.location.reload();
-              }
-            }, 2000);
           }
         }
       } catch (err) {
@@ -95,7 +92,7 @@ function UpdateScreen({ version, apkUrl, onCancel, onComplete, onMinimize, onPro
       }
     };
     executeUpdate();
-  }, [onComplete, apkUrl, version]);
+  }, [onComplete, apkUrl, patchUrl, sha256, version]);
 
   return (
     <div className="redesign-fullscreen">
@@ -109,6 +106,7 @@ function UpdateScreen({ version, apkUrl, onCancel, onComplete, onMinimize, onPro
               <div className="status-label">
                 {status === 'preparing' && 'Preparing update...'}
                 {status === 'downloading' && 'Downloading...'}
+                {status === 'verifying' && 'Verifying update...'}
                 {status === 'installing' && 'Installing update...'}
               </div>
               <div className="update-info-text">Do not close the application or turn off your device</div>
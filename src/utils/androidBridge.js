@@ -1,12 +1,108 @@
+import telemetry from './telemetry';
+
 class AndroidAppBridge {
   constructor() {
     this.isAndroid = typeof window !== 'undefined' && typeof window.Android !== 'undefined';
     this.apps = [];
+    this.appsByPackage = new Map();
+    this.catalogVersion = 0;
     this.cacheTimestamp = 0;
     this.cacheDuration = 60000;
+    this.nextRequestId = 1;
+    this.pending = new Map();
+    this.startupMarks = new Set();
+    this.bootstrap = null;
+    if (this.isAndroid) {
+      window.__maxdriveBridge = {
+        resolve: (id, ok, value) => this.resolveRequest(id, ok, value)
+      };
+      this.getBootstrap();
+    }
+  }
+
+  // Launch-critical state prefetched natively during MainActivity.onCreate: { catalog, media, location }.
+  getBootstrap() {
+    if (!this.bootstrap) {
+      this.bootstrap = window.Android?.getBootstrap
+        ? this.invoke('getBootstrap').then(json => JSON.parse(json)).catch(() => null)
+        : Promise.resolve(null);
+    }
+    return this.bootstrap;
+  }
+
+  markStartup(name) {
+    if (!this.isAndroid || !window.Android?.markStartup || this.startupMarks.has(name)) return;
+    this.startupMarks.add(name);
+    try {
+      window.Android.markStartup(name);
+    } catch (e) {}
+  }
+
+  getStartupTrace() {
+    if (this.isAndroid && window.Android?.getStartupTrace) {
+      try {
+        return JSON.parse(window.Android.getStartupTrace());
+      } catch (e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  invoke(method, ...args) {
+    if (!this.isAndroid || typeof window.Android?.[method] !== 'function') {
+      return Promise.reject(new Error(`Android.${method} is not available`));
+    }
+    if (!window.Android.invokeAsync) {
+      return new Promise((resolve, reject) => {
+        setTimeout(() => {
+          try {
+            resolve(window.Android[method](...args));
+          } catch (err) {
+            reject(err);
+          }
+        }, 0);
+      });
+    }
+    return new Promise((resolve, reject) => {
+      const id = this.nextRequestId++;
+      this.pending.set(id, { resolve, reject });
+      let accepted = false;
+      try {
+        accepted = window.Android.invokeAsync(id, method, JSON.stringify(args));
+      } catch (err) {
+        accepted = false;
+      }
+      if (!accepted) {
+        this.pending.delete(id);
+        reject(new Error(`Android.${method} could not be invoked`));
+      }
+    });
+  }
+
+  resolveRequest(id, ok, value) {
+    const request = this.pending.get(id);
+    if (!request) return;
+    this.pending.delete(id);
+    if (ok) {
+      request.resolve(value);
+    } else {
+      request.reject(new Error(value || 'Native call failed'));
+    }
   }
 
   async getInstalledApps() {
+    if (this.isAndroid && window.Android?.getInstalledAppsDelta) {
+      const bootstrap = await this.getBootstrap();
+      if (bootstrap?.catalog && this.catalogVersion === 0) this.applyCatalogDelta(bootstrap.catalog);
+      try {
+        const deltaJson = await this.invoke('getInstalledAppsDelta', this.catalogVersion);
+        return this.applyCatalogDelta(JSON.parse(deltaJson));
+      } catch (error) {
+        return this.apps.length > 0 ? this.apps : this.getFallbackApps();
+      }
+    }
+
     const now = Date.now();
     if (this.apps.length > 0 && (now - this.cacheTimestamp) < this.cacheDuration) {
       return this.apps;
@@ -27,6 +123,34 @@ class AndroidAppBridge {
     return this.getFallbackApps();
   }
 
+  applyCatalogDelta(delta) {
+    if (!delta || typeof delta.version !== 'number') return this.apps;
+    let changed = false;
+    if (delta.full) {
+      this.appsByPackage.clear();
+      changed = true;
+    }
+    (delta.removed || []).forEach(packageName => {
+      if (this.appsByPackage.delete(packageName)) changed = true;
+    });
+    (delta.apps || []).forEach(app => {
+      if (app?.name && app?.packageName) {
+        this.appsByPackage.set(app.packageName, app);
+        changed = true;
+      }
+    });
+    this.catalogVersion = delta.version;
+    if (changed) {
+      this.apps = Array.from(this.appsByPackage.values());
+    }
+    return this.apps;
+  }
+
+  onCatalogChanged(callback) {
+    window.addEventListener('appCatalogChanged', callback);
+    return () => window.removeEventListener('appCatalogChanged', callback);
+  }
+
   launchApp(packageName) {
     if (!packageName) return;
     if (this.isAndroid && window.Android?.launchApp) {
@@ -67,25 +191,49 @@ class AndroidAppBridge {
     return '';
   }
 
+  get hasNativeUpdateChecks() {
+    return this.isAndroid && !!window.Android?.getUpdateInfo;
+  }
+
+  getUpdateInfo(feedUrl, intervalMs = 0) {
+    if (!this.hasNativeUpdateChecks) return null;
+    try {
+      if (feedUrl) window.Android.configureUpdateChecks(feedUrl, intervalMs);
+      const infoJson = window.Android.getUpdateInfo();
+      return infoJson ? JSON.parse(infoJson) : null;
+    } catch (e) {
+      return null;
+    }
+  }
+
+  onUpdateInfo(callback) {
+    return telemetry.subscribe('update', callback);
+  }
+
   async downloadAndInstallApk(url) {
+    return this.downloadAndInstallUpdate({ apkUrl: url });
+  }
+
+  async downloadAndInstallUpdate({ apkUrl: url, patchUrl, sha256 } = {}) {
     if (!url) return false;
     
     return new Promise((resolve) => {
       if (this.isAndroid && window.Android?.downloadAndInstallApk) {
         try {
-          window.Android.downloadAndInstallApk(url);
-          
-          const checkInstallation = setInterval(() => {
-            if (window.Android?.isApkInstalled && window.Android.isApkInstalled()) {
-              clearInterval(checkInstallation);
-              resolve(true);
+          if (!window.Android.downloadAndInstallUpdate) {
+            resolve(!!window.Android.downloadAndInstallApk(url));
+            return;
+          }
+          const unsubscribe = telemetry.subscribe('download', (download) => {
+            if (download?.state === 'ready' || download?.state === 'failed') {
+              unsubscribe();
+              resolve(download.state === 'ready');
             }
-          }, 1000);
-          
-          setTimeout(() => {
-            clearInterval(checkInstallation);
-            resolve(true);
-          }, 120000);
+          });
+          if (!window.Android.downloadAndInstallUpdate(patchUrl || '', url, sha256 || '')) {
+            unsubscribe();
+            resolve(false);
+          }
         } catch (err) {
           resolve(false);
         }
@@ -101,9 +249,7 @@ class AndroidAppBridge {
   }
 
   registerDownloadProgressCallback(callback) {
-    if (this.isAndroid && window.Android) {
-      window.Android.onDownloadProgress = callback;
-    }
+    return telemetry.subscribe('download', callback);
   }
 
   getCurrentMedia() {
@@ -117,6 +263,110 @@ class AndroidAppBridge {
     }
     return null;
   }
+
+  async getCurrentMediaAsync() {
+    if (this.isAndroid && window.Android?.getCurrentMedia) {
+      try {
+        return JSON.parse(await this.invoke('getCurrentMedia'));
+      } catch (error) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  async startObd(target = '') {
+    try {
+      return !!(await this.invoke('startObd', target));
+    } catch (error) {
+      return false;
+    }
+  }
+
+  async stopObd() {
+    try {
+      await this.invoke('stopObd');
+    } catch (error) {
+    }
+  }
+
+  async startReplay(source, speed = 1) {
+    try {
+      return !!(await this.invoke('startReplay', source, speed));
+    } catch (error) {
+      return false;
+    }
+  }
+
+  async stopReplay() {
+    try {
+      await this.invoke('stopReplay');
+    } catch (error) {
+    }
+  }
+
+  async getReplayStats() {
+    try {
+      return JSON.parse(await this.invoke('getReplayStats'));
+    } catch (error) {
+      return null;
+    }
+  }
+
+  async startLocation(intervalMs = 200, batchMs = 250) {
+    try {
+      return !!(await this.invoke('startLocation', intervalMs, batchMs));
+    } catch (error) {
+      return false;
+    }
+  }
+
+  async stopLocation() {
+    try {
+      await this.invoke('stopLocation');
+    } catch (error) {
+    }
+  }
+
+  async getLocationStats() {
+    try {
+      return JSON.parse(await this.invoke('getLocationStats'));
+    } catch (error) {
+      return null;
+    }
+  }
+
+  recordLocation(latitude, longitude, speedKmh, accuracy, timestamp) {
+    if (!this.isAndroid || !window.Android?.recordLocation) return;
+    try {
+      window.Android.recordLocation(latitude, longitude, speedKmh, accuracy, timestamp);
+    } catch (error) {
+    }
+  }
+
+  async getTrips() {
+    try {
+      return JSON.parse(await this.invoke('getTrips'));
+    } catch (error) {
+      return [];
+    }
+  }
+
+  async queryTelemetry(channel, from, to, limit = 10000) {
+    try {
+      return JSON.parse(await this.invoke('queryTelemetry', channel, from, to, limit));
+    } catch (error) {
+      return [];
+    }
+  }
+
+  async queryTelemetrySeries(channel, from, to, buckets = 200) {
+    try {
+      return JSON.parse(await this.invoke('queryTelemetrySeries', channel, from, to, buckets));
+    } catch (error) {
+      return null;
+    }
+  }
 }
 
 const androidBridge = new AndroidAppBridge();
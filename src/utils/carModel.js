@@ -0,0 +1,142 @@
+import * as THREE from 'three';
+import { ThreeMFLoader } from 'three-stdlib';
+import androidBridge from './androidBridge';
+
+const MODEL_ROUTE = '/_maxdrive/model';
+const FALLBACK_URL = '/car-model.3mf';
+const HEADER_SIZE = 56;
+const FLAG_INDEX_32 = 1;
+// Camera distance at which each LOD (finest first) takes over; OrbitControls allows 2-10.
+const LOD_DISTANCES = [0, 6, 8.5];
+const TARGET_SIZE = 3.0;
+
+// Parsed once per page and reused across Car3D remounts.
+let modelPromise = null;
+let loadedModel = null;
+
+export function getLoadedCarModel() {
+  return loadedModel;
+}
+
+export function loadCarModel() {
+  if (!modelPromise) {
+    // The Android build strips the 3MF from its assets, so it only has the compiled LODs.
+    const load = androidBridge.isAndroid ? loadCompiledModel() : load3mfModel();
+    modelPromise = load.then((model) => {
+      loadedModel = model;
+      return model;
+    });
+    modelPromise.catch(() => {
+      modelPromise = null;
+    });
+  }
+  return modelPromise;
+}
+
+// Layout written by the Android build's ModelCompiler: quantized positions and uvs that upload as-is.
+export function decodeMesh(buffer) {
+  const view = new DataView(buffer);
+  if (view.getUint32(0, true) !== 0x314d584d) throw new Error('Not an MXM1 mesh');
+  const vertexCount = view.getUint32(4, true);
+  const indexCount = view.getUint32(8, true);
+  const header = new Float32Array(buffer, 12, 10);
+  const flags = view.getUint32(52, true);
+  const positionBytes = (vertexCount * 6 + 3) & ~3;
+  const uvStart = HEADER_SIZE + positionBytes;
+  const indexStart = uvStart + vertexCount * 4;
+  const IndexArray = flags & FLAG_INDEX_32 ? Uint32Array : Uint16Array;
+
+  const geometry = new THREE.BufferGeometry();
+  geometry.setAttribute('position', new THREE.BufferAttribute(new Uint16Array(buffer, HEADER_SIZE, vertexCount * 3), 3, true));
+  geometry.setAttribute('uv', new THREE.BufferAttribute(new Uint16Array(buffer, uvStart, vertexCount * 2), 2, true));
+  geometry.setIndex(new THREE.BufferAttribute(new IndexArray(buffer, indexStart, indexCount), 1));
+  return {
+    geometry,
+    offset: [header[0], header[1], header[2]],
+    extent: [header[3], header[4], header[5]],
+    uvOffset: [header[6], header[7]],
+    uvRepeat: [header[8], header[9]]
+  };
+}
+
+async function fetchBuffer(url) {
+  const response = await fetch(url);
+  if (!response.ok) throw new Error(`${url}: HTTP ${response.status}`);
+  return response.arrayBuffer();
+}
+
+// Resolves with the coarsest LOD so the car shows quickly; finer levels are added to the LOD as they arrive.
+async function loadCompiledModel() {
+  const response = await fetch(`${MODEL_ROUTE}/manifest`);
+  if (!response.ok) throw new Error(`Model manifest: HTTP ${response.status}`);
+  const manifest = await response.json();
+  const levels = manifest.lods || [];
+  if (levels.length === 0) throw new Error('Model manifest has no LODs');
+  const version = encodeURIComponent(manifest.version);
+
+  const material = new THREE.MeshPhongMaterial({ flatShading: true });
+  if (manifest.texture) {
+    const texture = new THREE.TextureLoader().load(`${MODEL_ROUTE}/${manifest.texture.id}?v=${version}`);
+    texture.colorSpace = THREE.SRGBColorSpace;
+    texture.wrapS = THREE.RepeatWrapping;
+    texture.wrapT = THREE.RepeatWrapping;
+    material.map = texture;
+  }
+
+  const lod = new THREE.LOD();
+  const addLevel = (buffer, index) => {
+    const decoded = decodeMesh(buffer);
+    if (material.map) {
+      material.map.offset.fromArray(decoded.uvOffset);
+      material.map.repeat.fromArray(decoded.uvRepeat);
+    }
+    const mesh = new THREE.Mesh(decoded.geometry, material);
+    mesh.position.fromArray(decoded.offset);
+    mesh.scale.fromArray(decoded.extent);
+    mesh.castShadow = true;
+    mesh.receiveShadow = true;
+    lod.addLevel(mesh, LOD_DISTANCES[Math.min(index, LOD_DISTANCES.length - 1)]);
+  };
+
+  const urls = levels.map(level => `${MODEL_ROUTE}/${level.id}?v=${version}`);
+  const coarsest = levels.length - 1;
+  addLevel(await fetchBuffer(urls[coarsest]), coarsest);
+  urls.slice(0, coarsest).forEach((url, index) => {
+    fetchBuffer(url).then(buffer => addLevel(buffer, index)).catch(() => {});
+  });
+  return lod;
+}
+
+function load3mfModel() {
+  return new Promise((resolve, reject) => {
+    new ThreeMFLoader().load(FALLBACK_URL, (group) => {
+      const bbox = new THREE.Box3().setFromObject(group);
+      const size = new THREE.Vector3();
+      bbox.getSize(size);
+      const center = new THREE.Vector3();
+      bbox.getCenter(center);
+      group.position.sub(center);
+
+      const longest = Math.max(size.x, size.y, size.z) || 1;
+      group.scale.setScalar(TARGET_SIZE / longest);
+
+      group.traverse((child) => {
+        if (child.isMesh && child.material) {
+          if (child.material.map) {
+            child.material.map.colorSpace = THREE.SRGBColorSpace;
+          }
+          if (child.material.emissiveMap) {
+            child.material.emissiveMap.colorSpace = THREE.SRGBColorSpace;
+          }
+          if ('envMapIntensity' in child.material) {
+            child.material.envMapIntensity = 0.6;
+          }
+          child.castShadow = true;
+          child.receiveShadow = true;
+          child.material.needsUpdate = true;
+        }
+      });
+      resolve(group);
+    }, undefined, reject);
+  });
+}
@@ -1,4 +1,9 @@
 import { Geolocation } from '@capacitor/geolocation';
+import androidBridge from './androidBridge';
+import telemetry from './telemetry';
+
+// A last-known fix younger than this (e.g. after an activity restart) is shown before the first live fix.
+const RECENT_FIX_MS = 10000;
 
 class GPSConnector {
   constructor() {
@@ -13,10 +18,19 @@ class GPSConnector {
     this.retryTimeout = null;
     this.maxRetries = 3;
     this.retryCount = 0;
+    this.nativeActive = false;
+    this.unsubscribeTelemetry = null;
   }
 
   async connect() {
     try {
+      const bootstrap = await androidBridge.getBootstrap();
+      if (bootstrap?.location?.granted && await this.connectNative()) {
+        const fix = bootstrap.location.fix;
+        if (fix && Date.now() - fix.t < RECENT_FIX_MS) this.handleNativeFixes([fix]);
+        return;
+      }
+
       const permission = await Geolocation.checkPermissions();
       if (permission.location !== 'granted') {
         const requestResult = await Geolocation.requestPermissions();
@@ -26,6 +40,8 @@ class GPSConnector {
         }
       }
 
+      if (await this.connectNative()) return;
+
       try {
         const initialPosition = await Geolocation.getCurrentPosition({
           enableHighAccuracy: false,
@@ -56,6 +72,34 @@ class GPSConnector {
     }
   }
 
+  async connectNative() {
+    this.unsubscribeTelemetry = telemetry.subscribe('gps', (fixes) => this.handleNativeFixes(fixes));
+    if (await androidBridge.startLocation()) {
+      this.nativeActive = true;
+      this.connected = true;
+      this.retryCount = 0;
+      this.notifyCallbacks();
+      return true;
+    }
+    this.unsubscribeTelemetry();
+    this.unsubscribeTelemetry = null;
+    return false;
+  }
+
+  handleNativeFixes(fixes) {
+    if (!Array.isArray(fixes) || fixes.length === 0) return;
+    const fix = fixes[fixes.length - 1];
+    this.speed = Math.round(fix.speed);
+    androidBridge.markStartup('first-speed');
+    if (this.testMode) {
+      this.latitude = fix.lat;
+      this.longitude = fix.lon;
+      this.accuracy = fix.accuracy;
+    }
+    this.connected = true;
+    this.notifyCallbacks();
+  }
+
   handlePosition(position) {
     this.retryCount = 0;
 
@@ -70,7 +114,15 @@ class GPSConnector {
     } else {
       this.calculateSpeed(position);
     }
+    androidBridge.markStartup('first-speed');
 
+    androidBridge.recordLocation(
+      position.coords.latitude,
+      position.coords.longitude,
+      this.speed,
+      position.coords.accuracy || 0,
+      position.timestamp || Date.now()
+    );
     this.notifyCallbacks();
   }
 
@@ -145,6 +197,14 @@ class GPSConnector {
   }
 
   disconnect() {
+    if (this.nativeActive) {
+      androidBridge.stopLocation();
+      this.nativeActive = false;
+    }
+    if (this.unsubscribeTelemetry) {
+      this.unsubscribeTelemetry();
+      this.unsubscribeTelemetry = null;
+    }
     if (this.watchId) {
       Geolocation.clearWatch({ id: this.watchId });
       this.watchId = null;
@@ -1,26 +1,52 @@
 import androidBridge from './androidBridge';
+import telemetry from './telemetry';
+
+const MEDIA_FIELDS = ['title', 'artist', 'album', 'duration', 'position', 'positionAt', 'speed', 'isPlaying', 'isPaused', 'isStopped', 'packageName', 'artUrl'];
+
+export function sameMedia(a, b) {
+  if (a === b) return true;
+  if (!a || !b) return false;
+  return MEDIA_FIELDS.every(field => a[field] === b[field]);
+}
+
+export function mediaPosition(media, now = Date.now()) {
+  if (!media || typeof media.position !== 'number') return 0;
+  let position = media.position;
+  if (media.isPlaying && media.positionAt) {
+    position += (now - media.positionAt) * (media.speed || 1);
+  }
+  if (media.duration > 0) position = Math.min(position, media.duration);
+  return Math.max(0, position);
+}
 
 class MediaConnector {
   constructor() {
     this.currentMedia = null;
     this.callbacks = [];
-    this.interval = null;
+    this.unsubscribeTelemetry = null;
+    this.usedBootstrap = false;
+  }
+
+  async connect() {
+    if (this.unsubscribeTelemetry) return;
+    this.unsubscribeTelemetry = telemetry.subscribe('media', (media) => this.handleMedia(media));
+    const bootstrap = this.usedBootstrap ? null : await androidBridge.getBootstrap();
+    this.usedBootstrap = true;
+    const media = bootstrap?.media || await androidBridge.getCurrentMediaAsync();
+    if (this.unsubscribeTelemetry && !this.currentMedia) this.handleMedia(media);
   }
 
-  connect() {
-    this.interval = setInterval(() => {
-      const media = androidBridge.getCurrentMedia();
-      if (media && (JSON.stringify(media) !== JSON.stringify(this.currentMedia))) {
-        this.currentMedia = media;
-        this.notifyCallbacks();
-      }
-    }, 1000);
+  handleMedia(media) {
+    if (media && !sameMedia(media, this.currentMedia)) {
+      this.currentMedia = media;
+      this.notifyCallbacks();
+    }
   }
 
   disconnect() {
-    if (this.interval) {
-      clearInterval(this.interval);
-      this.interval = null;
+    if (this.unsubscribeTelemetry) {
+      this.unsubscribeTelemetry();
+      this.unsubscribeTelemetry = null;
     }
     this.currentMedia = null;
   }
@@ -39,4 +65,4 @@ class MediaConnector {
 }
 
 const mediaConnector = new MediaConnector();
-export default mediaConnector;
\ No newline at end of file
+export default mediaConnector;
@@ -1,14 +1,25 @@
+import androidBridge from './androidBridge';
+import telemetry from './telemetry';
+
+const OBD_READINGS = ['speed', 'rpm', 'engineLoad', 'coolantTemp', 'intakeTemp', 'throttle', 'fuelLevel'];
+
 class OBDConnector {
   constructor() {
     this.connected = false;
     this.socket = null;
     this.speed = 0;
     this.rpm = 0;
+    this.readings = {};
     this.callbacks = [];
     this.devMode = process.env.REACT_APP_DEV_MODE === 'true';
+    this.replaySource = process.env.REACT_APP_REPLAY_SOURCE || '';
+    this.latency = { last: 0, avg: 0, max: 0, count: 0 };
     this.devInterval = null;
     this.androidBridgeAvailable = typeof window !== 'undefined' && typeof window.Android !== 'undefined';
-    this._onOBDData = null;
+    this._unsubscribeOBD = null;
+    this._unsubscribeState = null;
+    this._unsubscribeBacklog = null;
+    this.session = null;
   }
 
   startDevMode() {
@@ -41,22 +52,53 @@ class OBDConnector {
 
   connect(host = 'localhost', port = 35000) {
     if (this.devMode) {
+      if (this.replaySource && this.androidBridgeAvailable && window.Android?.startReplay) {
+        this.startReplay(this.replaySource);
+        return;
+      }
       this.startDevMode();
       return;
     }
 
     if (this.androidBridgeAvailable && window.Android && window.Android.startObd) {
-      try {
-        const started = window.Android.startObd('');
-        if (started) {
-          this.connected = true;
-          this.setupAndroidCallback();
-          this.notifyCallbacks();
-          return;
+      this.setupAndroidCallback();
+      androidBridge.startObd('').then((started) => {
+        if (!started) {
+          this.clearAndroidCallback();
+          this.connectWebSocket(host, port);
         }
-      } catch (e) {}
+      });
+      return;
     }
 
+    this.connectWebSocket(host, port);
+  }
+
+  startReplay(source, speed = 1) {
+    this.setupAndroidCallback();
+    this.latency = { last: 0, avg: 0, max: 0, count: 0 };
+    return androidBridge.startReplay(source, speed);
+  }
+
+  stopReplay() {
+    return androidBridge.stopReplay();
+  }
+
+  getLatencyStats() {
+    return { ...this.latency };
+  }
+
+  recordLatency(timestamp) {
+    const latency = Date.now() - timestamp;
+    if (!(latency >= 0)) return;
+    const stats = this.latency;
+    stats.count += 1;
+    stats.last = latency;
+    stats.avg += (latency - stats.avg) / stats.count;
+    if (latency > stats.max) stats.max = latency;
+  }
+
+  connectWebSocket(host, port) {
     try {
       const wsUrl = `ws://${host}:${port}`;
       this.socket = new WebSocket(wsUrl);
@@ -85,36 +127,43 @@ class OBDConnector {
   }
 
   setupAndroidCallback() {
-    if (this._onOBDData) return;
-    this._onOBDData = (payload) => {
-      try {
-        this.parseOBDData(payload);
-      } catch (e) {}
-    };
-    window.onOBDData = this._onOBDData;
+    if (this._unsubscribeOBD) return;
+    this._unsubscribeState = telemetry.subscribe('obd-state', (session) => {
+      if (!session) return;
+      this.session = session;
+      this.connected = session.state === 'streaming';
+      this.notifyCallbacks();
+    });
+    this._unsubscribeBacklog = telemetry.subscribe('obd-backlog', (samples) => {
+      if (!Array.isArray(samples) || samples.length === 0) return;
+      samples.forEach(([name, value]) => this.applyReading(name, value));
+      this.notifyCallbacks();
+    });
+    // Frames arrive as [name, value, timestampMs] tuples, already parsed with the message.
+    this._unsubscribeOBD = telemetry.subscribe('obd', (frames) => {
+      if (!Array.isArray(frames) || frames.length === 0) return;
+      frames.forEach(([name, value, t]) => {
+        this.applyReading(name, value);
+        this.recordLatency(t);
+      });
+      this.notifyCallbacks();
+    });
   }
 
   parseOBDData(data) {
     try {
       const parsed = JSON.parse(data);
-      if (parsed.speed !== undefined) {
-        this.speed = parseFloat(parsed.speed);
-      }
-      if (parsed.rpm !== undefined) {
-        this.rpm = parseFloat(parsed.rpm);
-      }
-      this.notifyCallbacks();
-    } catch (e) {
-      const speedMatch = data.match(/speed[:\s]+(\d+\.?\d*)/i);
-      if (speedMatch) {
-        this.speed = parseFloat(speedMatch[1]);
-      }
-      const rpmMatch = data.match(/rpm[:\s]+(\d+\.?\d*)/i);
-      if (rpmMatch) {
-        this.rpm = parseFloat(rpmMatch[1]);
-      }
-      this.notifyCallbacks();
-    }
+      OBD_READINGS.forEach(key => {
+        if (parsed[key] !== undefined) this.applyReading(key, parseFloat(parsed[key]));
+      });
+    } catch (e) {}
+    this.notifyCallbacks();
+  }
+
+  applyReading(name, value) {
+    if (name === 'speed') this.speed = value;
+    else if (name === 'rpm') this.rpm = value;
+    else this.readings[name] = value;
   }
 
   requestSpeed() {
@@ -123,14 +172,29 @@ class OBDConnector {
     }
   }
 
+  clearAndroidCallback() {
+    if (this._unsubscribeOBD) {
+      this._unsubscribeOBD();
+      this._unsubscribeOBD = null;
+    }
+    if (this._unsubscribeState) {
+      this._unsubscribeState();
+      this._unsubscribeState = null;
+    }
+    if (this._unsubscribeBacklog) {
+      this._unsubscribeBacklog();
+      this._unsubscribeBacklog = null;
+    }
+  }
+
   stopAndroid() {
     if (this.androidBridgeAvailable && window.Android && window.Android.stopObd) {
-      try { window.Android.stopObd(); } catch (e) {}
+      androidBridge.stopObd();
     }
-    if (this._onOBDData) {
-      try { delete window.onOBDData; } catch (e) {}
-      this._onOBDData = null;
+    if (this.replaySource && window.Android?.stopReplay) {
+      androidBridge.stopReplay();
     }
+    this.clearAndroidCallback();
     this.connected = false;
     this.notifyCallbacks();
   }
@@ -145,7 +209,9 @@ class OBDConnector {
 
   notifyCallbacks() {
     this.callbacks.forEach(cb => cb({
+      ...this.readings,
       connected: this.connected,
+      session: this.session,
       speed: this.speed,
       rpm: this.rpm
     }));
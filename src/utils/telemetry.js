@@ -0,0 +1,71 @@
+const HANDSHAKE = 'maxdrive-telemetry';
+
+class TelemetryClient {
+  constructor() {
+    this.isAndroid = typeof window !== 'undefined' && typeof window.Android !== 'undefined';
+    this.port = null;
+    this.handlers = new Map();
+    this.handleWindowMessage = this.handleWindowMessage.bind(this);
+    this.handlePortMessage = this.handlePortMessage.bind(this);
+
+    if (this.isAndroid && window.Android?.openTelemetryChannel) {
+      window.addEventListener('message', this.handleWindowMessage);
+      try {
+        window.Android.openTelemetryChannel();
+      } catch (e) {}
+    }
+  }
+
+  handleWindowMessage(event) {
+    if (event.data !== HANDSHAKE || !event.ports || !event.ports[0]) return;
+    // WebView.postWebMessage arrives with the page's own origin and no source window; frames and scripts can't forge that.
+    if (event.origin !== window.location.origin || event.source !== null) return;
+    if (this.port) {
+      try { this.port.close(); } catch (e) {}
+    }
+    this.port = event.ports[0];
+    this.port.onmessage = this.handlePortMessage;
+  }
+
+  handlePortMessage(event) {
+    let message;
+    try {
+      message = JSON.parse(event.data);
+    } catch (e) {
+      return;
+    }
+    const handlers = this.handlers.get(message.topic);
+    if (handlers) {
+      handlers.forEach(handler => {
+        try {
+          handler(message.data);
+        } catch (e) {}
+      });
+    }
+    if (message.ack && this.port) {
+      this.port.postMessage(JSON.stringify({ ack: message.topic }));
+    }
+  }
+
+  subscribe(topic, handler) {
+    if (!this.handlers.has(topic)) {
+      this.handlers.set(topic, new Set());
+    }
+    this.handlers.get(topic).add(handler);
+    return () => this.unsubscribe(topic, handler);
+  }
+
+  unsubscribe(topic, handler) {
+    const handlers = this.handlers.get(topic);
+    if (handlers) {
+      handlers.delete(handler);
+    }
+  }
+
+  isOpen() {
+    return this.port !== null;
+  }
+}
+
+const telemetry = new TelemetryClient();
+export default telemetry;
@@ -1,6 +1,12 @@
 import axios from 'axios';
 import androidBridge from './androidBridge';
 const repoFromEnv = process.env.REACT_APP_GITHUB_REPO || '';
+// Points at a release JSON (GitHub API shape) instead of the API, e.g. a local fixture served from public/.
+const feedFromEnv = process.env.REACT_APP_UPDATE_FEED || '';
+const checkIntervalFromEnv = parseInt(process.env.REACT_APP_UPDATE_CHECK_INTERVAL_MS, 10) || 0;
+function feedUrl(repo) {
+  return feedFromEnv || (repo ? `https://api.github.com/repos/${repo}/releases/latest` : '');
+}
 function parseVersion(v) {
   const cleaned = (v || '0.0.0').replace(/^v/, '').replace(/[a-zA-Z]+.*$/, '');
   return cleaned.split('.').map(n => parseInt(n, 10) || 0);
@@ -16,31 +22,57 @@ function isNewer(latest, current) {
   }
   return false;
 }
-async function fetchLatestRelease(repo) {
-  if (!repo) return null;
-  const url = `https://api.github.com/repos/${repo}/releases/latest`;
+function assetDigest(asset) {
+  const match = /^sha256:([0-9a-f]{64})$/i.exec(asset?.digest || '');
+  return match ? match[1].toLowerCase() : null;
+}
+function findPatchAsset(assets, currentVersion) {
+  if (!currentVersion) return null;
+  const from = `-from-${currentVersion.replace(/^v/, '')}.patch`;
+  return assets.find(a => a.name && a.name.toLowerCase().endsWith(from.toLowerCase())) || null;
+}
+async function fetchLatestRelease(repo, currentVersion) {
+  const url = feedUrl(repo);
+  if (!url) return null;
   try {
     const res = await axios.get(url, { headers: { Accept: 'application/vnd.github+json' } });
     const data = res.data || {};
     const tag = data.tag_name || data.name || '';
-    const asset = (data.assets || []).find(a => /\.apk$/i.test(a.name));
-    return asset ? { version: tag, apkUrl: asset.browser_download_url } : { version: tag, apkUrl: null };
+    const assets = data.assets || [];
+    const asset = assets.find(a => /\.apk$/i.test(a.name));
+    const patch = findPatchAsset(assets, currentVersion);
+    return {
+      version: tag,
+      apkUrl: asset ? asset.browser_download_url : null,
+      sha256: assetDigest(asset),
+      patchUrl: asset && patch ? patch.browser_download_url : null,
+      patchSize: asset && patch ? patch.size : null
+    };
   } catch (err) {
     return null;
   }
 }
+// On Android the check runs natively on a schedule with conditional requests; this returns the
+// cached answer immediately and fresher results arrive through subscribeToUpdates.
 export async function checkForUpdate(repo = repoFromEnv) {
-  if (!repo) return { available: false };
+  if (!feedUrl(repo)) return { available: false };
+  if (androidBridge.hasNativeUpdateChecks) {
+    return androidBridge.getUpdateInfo(feedUrl(repo), checkIntervalFromEnv) || { available: false };
+  }
   const currentVersion = await androidBridge.getAppVersion();
-  const latest = await fetchLatestRelease(repo);
+  const latest = await fetchLatestRelease(repo, currentVersion);
   if (!latest || !latest.version) return { available: false };
+  const release = { latest: latest.version, apkUrl: latest.apkUrl, patchUrl: latest.patchUrl, patchSize: latest.patchSize, sha256: latest.sha256 };
   if (!currentVersion) {
-    return { available: !!latest.apkUrl, latest: latest.version, apkUrl: latest.apkUrl };
+    return { available: !!latest.apkUrl, ...release, patchUrl: null, patchSize: null };
   }
   const newer = isNewer(latest.version, currentVersion);
-  return { available: newer && !!latest.apkUrl, latest: latest.version, current: currentVersion, apkUrl: latest.apkUrl };
+  return { available: newer && !!latest.apkUrl, current: currentVersion, ...release };
+}
+export function subscribeToUpdates(callback) {
+  return androidBridge.onUpdateInfo(callback);
 }
-export async function performUpdate(apkUrl) {
-  if (!apkUrl) return false;
-  return androidBridge.downloadAndInstallApk(apkUrl);
+export async function performUpdate(update) {
+  if (!update?.apkUrl) return false;
+  return androidBridge.downloadAndInstallUpdate(update);
 }